@@ -0,0 +1,8 @@
+-- Replicates everything from the primary, including the programming database and the Liquibase changes.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql-primary',
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'password',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
@@ -1,20 +1,15 @@
 package com.example.backendtestproject;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// The R2DBC reads need no transactions, and a second transaction manager would make @Transactional ambiguous.
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class BackendTestProjectApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(BackendTestProjectApplication.class, args);
     }
 
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
 }
@@ -0,0 +1,56 @@
+package com.example.backendtestproject.caching;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Evicts cached details once the write that changed them has committed. Evicting earlier would let
+ * a concurrent read cache the old row again before the commit. With read replicas, a read from a replica that has
+ * not applied the write yet can do the same after the commit, so the eviction is repeated once the allowed replica
+ * lag has passed.
+ */
+@Component
+public class DetailsCacheInvalidator {
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaMaxLag;
+
+    public DetailsCacheInvalidator(CacheManager cacheManager, TaskScheduler taskScheduler,
+                                   @Value("${app.datasource.replicas.urls:}") List<String> replicaUrls,
+                                   @Value("${app.datasource.replicas.max-lag:5s}") Duration replicaMaxLag) {
+        this.cacheManager = cacheManager;
+        this.taskScheduler = taskScheduler;
+        this.replicaMaxLag = replicaUrls.isEmpty() ? null : replicaMaxLag;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDetailsChanged(DetailsChangedEvent event) {
+        evict(event);
+
+        if (replicaMaxLag != null) {
+            taskScheduler.schedule(() -> evict(event), Instant.now().plus(replicaMaxLag));
+        }
+    }
+
+    private void evict(DetailsChangedEvent event) {
+        Cache cache = cacheManager.getCache(event.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        event.ids().forEach(cache::evict);
+
+        if (event.created() && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().values().removeIf(NullValue.INSTANCE::equals);
+        }
+    }
+}
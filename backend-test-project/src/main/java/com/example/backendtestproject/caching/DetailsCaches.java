@@ -0,0 +1,13 @@
+package com.example.backendtestproject.caching;
+
+/**
+ * Names of the caches in front of the details endpoints. Each one is keyed by the entity id.
+ */
+public final class DetailsCaches {
+    public static final String PROGRAMMERS = "programmerDetails";
+    public static final String PROJECT_MANAGERS = "projectManagerDetails";
+    public static final String PROJECTS = "projectDetails";
+
+    private DetailsCaches() {
+    }
+}
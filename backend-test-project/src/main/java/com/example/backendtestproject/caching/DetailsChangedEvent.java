@@ -0,0 +1,24 @@
+package com.example.backendtestproject.caching;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by a write that makes cached details stale. Evicts {@code ids} from {@code cacheName}. When
+ * {@code created} is set, it also drops the cached misses of that cache, because a new entity may now exist
+ * under an id that used to be missing.
+ */
+public record DetailsChangedEvent(String cacheName, Collection<Long> ids, boolean created) {
+
+    public static DetailsChangedEvent changed(String cacheName, Long id) {
+        return new DetailsChangedEvent(cacheName, List.of(id), false);
+    }
+
+    public static DetailsChangedEvent changed(String cacheName, Collection<Long> ids) {
+        return new DetailsChangedEvent(cacheName, ids, false);
+    }
+
+    public static DetailsChangedEvent created(String cacheName) {
+        return new DetailsChangedEvent(cacheName, List.of(), true);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backendtestproject.caching;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.support.NullValue;
+
+import java.time.Duration;
+
+/**
+ * Keeps cached details for {@code timeToLive}, and cached misses only for the shorter {@code missingTimeToLive}.
+ */
+public class DetailsExpiry implements Expiry<Object, Object> {
+    private final long timeToLiveNanos;
+    private final long missingTimeToLiveNanos;
+
+    public DetailsExpiry(Duration timeToLive, Duration missingTimeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.missingTimeToLiveNanos = missingTimeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return NullValue.INSTANCE.equals(value) ? missingTimeToLiveNanos : timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring Boot backs off from its JDBC data source as soon as an R2DBC connection factory exists, so the pool behind
+ * JPA and Liquibase is declared here from the same spring.datasource properties. When replica URLs are configured,
+ * every replica gets a pool with the same settings and credentials, and read-only transactions are routed to them.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfiguration {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${app.datasource.replicas.urls:}") List<String> replicaUrls,
+                                 @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag) {
+
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(properties, properties.determineUrl(), binder);
+
+        if (replicaUrls.isEmpty()) {
+            return primary;
+        }
+
+        primary.setPoolName("primary");
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = pool(properties, url, binder);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replicas.add(replica);
+        }
+
+        // Spring Boot only finds the pool metrics of a plain Hikari data source, not of the pools behind the router.
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replicas.forEach(replica -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        });
+
+        return new ReplicaRoutingDataSource(primary, List.copyOf(replicas), maxLag);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String url, Binder binder) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url).build();
+        return binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool)).orElse(pool);
+    }
+}
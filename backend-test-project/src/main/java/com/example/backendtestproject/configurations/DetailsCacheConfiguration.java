@@ -0,0 +1,38 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsExpiry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caffeine caches in front of the details reads. The size bound uses Caffeine's frequency-aware
+ * (W-TinyLFU) admission policy, and a missing id is cached as a null value.
+ */
+@Configuration
+@EnableCaching
+public class DetailsCacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.details.max-entries:10000}") long maxEntries,
+            @Value("${app.cache.details.time-to-live:10m}") Duration timeToLive,
+            @Value("${app.cache.details.missing-time-to-live:1m}") Duration missingTimeToLive) {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                DetailsCaches.PROGRAMMERS, DetailsCaches.PROJECT_MANAGERS, DetailsCaches.PROJECTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new DetailsExpiry(timeToLive, missingTimeToLive))
+                .recordStats());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.repositories.KeysetRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "com.example.backendtestproject.repositories",
+        repositoryBaseClass = KeysetRepositoryImpl.class)
+public class JpaConfiguration {
+}
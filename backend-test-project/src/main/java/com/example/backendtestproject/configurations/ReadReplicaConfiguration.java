@@ -0,0 +1,58 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.datasource.ReadYourWritesFilter;
+import com.example.backendtestproject.datasource.ReplicaRoutingDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Checks the replicas behind {@link ReplicaRoutingDataSource} on a schedule, registers the read-your-writes filter
+ * and keeps replica reads out of the second-level cache. Only active when replica URLs are configured.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isEmpty()")
+@RequiredArgsConstructor
+public class ReadReplicaConfiguration {
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+    }
+
+    @PostConstruct
+    public void registerReplicaReadListener() throws SQLException {
+        dataSource.unwrap(ReplicaRoutingDataSource.class).setReplicaReadListener(this::skipSecondLevelCachePuts);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval:PT5S}")
+    public void checkReplicas() throws SQLException {
+        dataSource.unwrap(ReplicaRoutingDataSource.class).checkReplicas();
+    }
+
+    // A replica may not have applied the latest writes yet. Its rows may be returned, but once cached they would
+    // outlive the lag and reach the readers that are pinned to the primary as well.
+    void skipSecondLevelCachePuts() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder != null) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
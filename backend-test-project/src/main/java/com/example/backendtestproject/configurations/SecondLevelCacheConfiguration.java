@@ -0,0 +1,71 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.models.ProjectManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the in-process JCache (Ehcache) manager behind the Hibernate second-level cache
+ * and hands it to Hibernate, so region size and time-to-live come from application properties.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    private static final List<String> DATA_REGIONS = List.of(
+            ProjectManager.class.getName(),
+            ProjectManager.class.getName() + ".programmers",
+            Programmer.class.getName(),
+            Project.class.getName(),
+            Address.class.getName(),
+            BirthDate.class.getName(),
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${app.cache.second-level.max-entries:10000}") long maxEntries,
+            @Value("${app.cache.second-level.time-to-live:30m}") Duration timeToLive) {
+
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+
+        for (String region : DATA_REGIONS) {
+            configuration = configuration.withCache(region, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive)));
+        }
+
+        // Update timestamps decide whether cached query results are stale, so they must never expire.
+        configuration = configuration.withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(maxEntries)));
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        return provider.getCacheManager(URI.create("second-level-cache:" + UUID.randomUUID()), configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
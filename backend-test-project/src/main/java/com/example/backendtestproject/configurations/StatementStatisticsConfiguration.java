@@ -0,0 +1,37 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.datasource.StatementCountingDataSource;
+import com.example.backendtestproject.datasource.StatementStatisticsFilter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Reports the statements, rows and JDBC time of every request in response headers, so that tests can hold endpoints
+ * to a statement budget. Left out of the prod profile, which the Docker image runs with.
+ */
+@Configuration
+@Profile("!prod")
+public class StatementStatisticsConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementStatisticsFilter> statementStatisticsFilter() {
+        return new FilterRegistrationBean<>(new StatementStatisticsFilter());
+    }
+}
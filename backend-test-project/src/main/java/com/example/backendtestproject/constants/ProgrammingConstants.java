@@ -66,4 +66,50 @@ public class ProgrammingConstants {
     public static String startDateMissing = "Start date is missing! ";
 
     public static String emailExists = "The given email already exists! ";
+
+    public static int defaultPageLimit = 50;
+
+    public static int maxPageLimit = 1000;
+
+    public static String invalidCursor = "Please add a valid cursor! ";
+
+    public static String invalidLimit = "Please add a valid limit between 1 and " + maxPageLimit + "! ";
+
+    public static int maxBulkSize = 1000;
+
+    public static String invalidBulkSize = "Please add between 1 and " + maxBulkSize + " items! ";
+
+    public static int importChunkSize = 500;
+
+    public static String importFileMissing = "Please add a CSV file! ";
+
+    public static String importHeaderInvalid = "The CSV header must contain: name, zipCode, city, street, day, month, year, phoneNumber, email, responsibility, isApprentice ";
+
+    public static String importRowInvalid = "The row does not have a value for every column! ";
+
+    public static String importInterrupted = "The import was interrupted, please resume it! ";
+
+    public static String noImportJobFound = "No import job found! ";
+
+    public static String importJobNotResumable = "Only failed import jobs can be resumed! ";
+
+    public static String importJobResumed = "Import job was resumed! ";
+
+    public static int exportFetchSize = Integer.MIN_VALUE;
+
+    public static String invalidExportFormat = "Please add a valid export format: ndjson or csv! ";
+
+    public static String versionConflict = "The record was changed by someone else, please reload it and try again! ";
+
+    public static final String mergePatchMediaType = "application/merge-patch+json";
+
+    public static String invalidPatch = "Please add a valid JSON merge patch object! ";
+
+    public static String nothingChanged(String itemType) {
+        return StringUtils.capitalize(itemType.toLowerCase()) + " already has the given values! ";
+    }
+
+    public static int outboxBatchSize = 500;
+
+    public static int outboxClaimSeconds = 300;
 }
@@ -0,0 +1,24 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.services.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheStatisticsRestController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/api/cache-statistics")
+    public ResponseEntity<?> apiCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.findAll());
+    }
+
+    @GetMapping("/api/cache-statistics/details")
+    public ResponseEntity<?> apiDetailsCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.findDetailsCaches());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backendtestproject.controllers;
+
+/**
+ * Builds the strong {@code ETag} of a details response from the versions of the rows in its body: the row's own
+ * {@code @Version} first, then those of the linked rows it embeds, such as {@code "3-1-2"}. The tag changes exactly
+ * when one of these rows does, on every instance and across restarts, and its first part is what {@code If-Match}
+ * expects back. A linked row that is missing, for example because it was deleted, leaves its part empty, so that it
+ * never looks like a row with version 0.
+ */
+final class DetailsETag {
+
+    private DetailsETag() {
+    }
+
+    static String of(Long version, Long... linkedVersions) {
+        StringBuilder eTag = new StringBuilder("\"").append(version == null ? "" : version);
+
+        for (Long linkedVersion : linkedVersions) {
+            eTag.append('-').append(linkedVersion == null ? "" : linkedVersion);
+        }
+
+        return eTag.append('"').toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ErrorDto;
+import com.example.backendtestproject.dtos.FieldErrorDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Answers a duplicate email that got past the validator, because a concurrent request saved it first, the way the
+ * validator answers one. The unique indexes only catch it at commit, when the rows are inserted. The bulk endpoints
+ * catch it themselves through {@link #duplicateEmailResults}, because only they know how many items were sent.
+ */
+@RestControllerAdvice
+public class DuplicateEmailExceptionHandler {
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        ValidatorResultDto result = duplicateEmailResult(e);
+        return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
+    }
+
+    /**
+     * The items of a bulk request are saved in one transaction, so none of them were saved and each gets the result.
+     */
+    static List<ValidatorResultDto> duplicateEmailResults(DataIntegrityViolationException e, int itemCount) {
+        return Collections.nCopies(itemCount, duplicateEmailResult(e));
+    }
+
+    private static ValidatorResultDto duplicateEmailResult(DataIntegrityViolationException e) {
+        String cause = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).toLowerCase(Locale.ROOT);
+        if (cause.contains("uk_programmers_active_email")) {
+            return duplicateEmailResult("programmer");
+        }
+        if (cause.contains("uk_project_managers_active_email")) {
+            return duplicateEmailResult("project manager");
+        }
+        throw e;
+    }
+
+    private static ValidatorResultDto duplicateEmailResult(String itemType) {
+        return new ValidatorResultDto(false,
+                ProgrammingConstants.saveFail(itemType) + ProgrammingConstants.emailExists,
+                List.of(new FieldErrorDto("email", ProgrammingConstants.emailExists)));
+    }
+}
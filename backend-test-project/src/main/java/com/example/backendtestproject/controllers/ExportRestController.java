@@ -0,0 +1,97 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ErrorDto;
+import com.example.backendtestproject.enums.ExportFormat;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.services.ExportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class ExportRestController {
+
+    private final ExportService exportService;
+    private final MeterRegistry meterRegistry;
+
+    @GetMapping("/api/programmers/export")
+    public ResponseEntity<StreamingResponseBody> apiExportProgrammers(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                                  @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return export("programmers", format, gzip, exportService::exportProgrammers);
+    }
+
+    @GetMapping("/api/project-managers/export")
+    public ResponseEntity<StreamingResponseBody> apiExportProjectManagers(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                                      @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return export("project-managers", format, gzip, exportService::exportProjectManagers);
+    }
+
+    @GetMapping("/api/projects/export")
+    public ResponseEntity<StreamingResponseBody> apiExportProjects(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                               @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return export("projects", format, gzip, exportService::exportProjects);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, String format, boolean gzip, Exporter exporter) {
+        ExportFormat exportFormat = Arrays.stream(ExportFormat.values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(ProgrammingConstants.invalidExportFormat));
+
+        // The rows are only read once the container writes the body, so that is what gets timed.
+        StreamingResponseBody body = out -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                    exporter.export(exportFormat, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    exporter.export(exportFormat, out);
+                }
+            } finally {
+                sample.stop(meterRegistry.timer(MetricNames.EXPORT,
+                        "entity", name, "format", exportFormat.name().toLowerCase(Locale.ROOT), "gzip", String.valueOf(gzip)));
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == ExportFormat.CSV ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + exportFormat.name().toLowerCase(Locale.ROOT))
+                        .build()
+                        .toString());
+
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleIllegalArgument(IllegalArgumentException exception) {
+        return ResponseEntity.badRequest().body(new ErrorDto(exception.getMessage()));
+    }
+
+    private interface Exporter {
+        void export(ExportFormat format, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Reads the entity version the client expects from an {@code If-Match} header, either a bare version such as
+ * {@code "3"} or a details {@code ETag} such as {@code "3-1-2"}, whose first part is the version of the row itself.
+ */
+final class IfMatchHeader {
+
+    private IfMatchHeader() {
+    }
+
+    /**
+     * Returns {@code null} when any version is accepted, and fails when the header names no single version,
+     * because such a precondition can never match.
+     */
+    static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+
+        // The versions of the linked rows do not matter for an edit of the row itself.
+        int linkedVersions = tag.indexOf('-');
+        if (linkedVersions >= 0) {
+            tag = tag.substring(0, linkedVersions);
+        }
+
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new OptimisticLockingFailureException(ProgrammingConstants.versionConflict, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ErrorDto;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers both a stale {@code If-Match} version and a concurrent write caught at commit with {@code 412}.
+ */
+@RestControllerAdvice
+public class OptimisticLockingExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ErrorDto(ProgrammingConstants.versionConflict));
+    }
+}
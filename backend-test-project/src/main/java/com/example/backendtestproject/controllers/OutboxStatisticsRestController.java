@@ -0,0 +1,19 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.services.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class OutboxStatisticsRestController {
+
+    private final OutboxService outboxService;
+
+    @GetMapping("/api/outbox-statistics")
+    public ResponseEntity<?> apiOutboxStatistics() {
+        return ResponseEntity.ok(outboxService.statistics());
+    }
+}
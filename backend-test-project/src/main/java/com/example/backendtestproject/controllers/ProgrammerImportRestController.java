@@ -0,0 +1,57 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ErrorDto;
+import com.example.backendtestproject.dtos.ImportJobDto;
+import com.example.backendtestproject.dtos.SuccessDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.services.ProgrammerImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class ProgrammerImportRestController {
+
+    private final ProgrammerImportService programmerImportService;
+
+    @PostMapping("/api/programmers/imports")
+    public ResponseEntity<?> apiStartProgrammerImport(@RequestParam(value = "file", required = false) MultipartFile file)
+            throws IOException {
+
+        if (file == null || file.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.importFileMissing));
+        }
+
+        try (InputStream content = file.getInputStream()) {
+            return ResponseEntity.accepted().body(programmerImportService.start(file.getOriginalFilename(), content));
+        }
+    }
+
+    @GetMapping("/api/programmers/imports/{id}")
+    public ResponseEntity<?> apiProgrammerImportStatus(@PathVariable Long id) {
+
+        ImportJobDto importJob = programmerImportService.findById(id);
+
+        if (importJob == null) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noImportJobFound));
+        }
+        return ResponseEntity.ok(importJob);
+    }
+
+    @PostMapping("/api/programmers/imports/{id}/resume")
+    public ResponseEntity<?> apiResumeProgrammerImport(@PathVariable Long id) {
+
+        ValidatorResultDto result = programmerImportService.resume(id);
+
+        if (!result.isValid()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+        }
+        return ResponseEntity.accepted().body(new SuccessDto(result.message()));
+    }
+}
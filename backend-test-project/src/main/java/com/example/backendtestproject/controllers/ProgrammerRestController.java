@@ -2,10 +2,19 @@ package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
 import com.example.backendtestproject.dtos.*;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.services.ProgrammerService;
+import com.example.backendtestproject.services.WriteVersionService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,16 +23,30 @@ import java.util.List;
 public class ProgrammerRestController {
 
     private final ProgrammerService programmerService;
+    private final WriteVersionService writeVersionService;
 
     @GetMapping("/api/programmers")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> apiListProgrammers(@RequestParam(value = "sortby", required = false) String sortBy,
-                                                @RequestParam(value = "order", required = false) String order) {
+                                                @RequestParam(value = "order", required = false) String order,
+                                                @RequestParam(value = "limit", required = false) Integer limit,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                WebRequest webRequest) {
+        String eTag = writeVersionService.eTag(EntityType.PROGRAMMER);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        if (limit != null || cursor != null) {
+            return apiListPage(sortBy, order, limit, cursor, eTag);
+        }
+
         List<ProgrammerDto> programmers = programmerService.findAllSorted(sortBy, order);
 
         if (programmers.isEmpty()) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProgrammerFound));
         }
-        return ResponseEntity.ok(programmers);
+        return ResponseEntity.ok().eTag(eTag).body(programmers);
     }
 
     @PostMapping("/api/add-programmers")
@@ -32,32 +55,78 @@ public class ProgrammerRestController {
         ValidatorResultDto result = programmerService.save(programmer);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
+    @PostMapping("/api/programmers/bulk")
+    public ResponseEntity<?> apiAddProgrammersBulk(@RequestBody List<ProgrammerDto> programmers) {
+
+        if (programmers.isEmpty() || programmers.size() > ProgrammingConstants.maxBulkSize) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidBulkSize));
+        }
+
+        List<ValidatorResultDto> results;
+        try {
+            results = programmerService.saveAll(programmers);
+        } catch (DataIntegrityViolationException e) {
+            results = DuplicateEmailExceptionHandler.duplicateEmailResults(e, programmers.size());
+        }
+
+        if (results.stream().noneMatch(ValidatorResultDto::isValid)) {
+            return ResponseEntity.badRequest().body(results);
+        }
+        return ResponseEntity.ok(results);
+    }
+
     @PostMapping("/api/edit-programmers/{id}")
     public ResponseEntity<?> apiEditProgrammer(@PathVariable Long id,
-                                               @RequestBody ProgrammerDto programmer) {
+                                               @RequestBody ProgrammerDto programmer,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        if (ifMatch != null) {
+            programmer.setVersion(IfMatchHeader.version(ifMatch));
+        }
 
         ValidatorResultDto result = programmerService.editById(id, programmer);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
+        }
+        return ResponseEntity.ok(new SuccessDto(result.message()));
+    }
+
+    @PatchMapping(value = "/api/edit-programmers/{id}",
+            consumes = {ProgrammingConstants.mergePatchMediaType, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> apiPatchProgrammer(@PathVariable Long id,
+                                                @RequestBody JsonNode patch,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        ValidatorResultDto result = programmerService.patchById(id, patch, IfMatchHeader.version(ifMatch));
+
+        if (!result.isValid()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
     @GetMapping("/api/details-programmers/{id}")
-    public ResponseEntity<?> apiDetailsProgrammer(@PathVariable Long id) {
+    public ResponseEntity<?> apiDetailsProgrammer(@PathVariable Long id, WebRequest webRequest) {
 
         ProgrammerDetailsDto programmer = programmerService.findById(id);
 
         if (programmer == null) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProgrammerFound));
         }
-        return ResponseEntity.ok(programmer);
+
+        String eTag = DetailsETag.of(programmer.getVersion(),
+                programmer.getProjectManager() == null ? null : programmer.getProjectManager().getVersion(),
+                programmer.getProject() == null ? null : programmer.getProject().getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(programmer);
     }
 
     @PostMapping("/api/project-managers/{projectManagerId}/add-programmers")
@@ -67,7 +136,7 @@ public class ProgrammerRestController {
         ValidatorResultDto result = programmerService.saveByProjectManagerId(programmer, projectManagerId);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
@@ -80,4 +149,24 @@ public class ProgrammerRestController {
         }
         return ResponseEntity.ok(new SuccessDto(ProgrammingConstants.deleteSuccess("programmer")));
     }
+
+    private ResponseEntity<?> apiListPage(String sortBy, String order, Integer limit, String cursor, String eTag) {
+        int pageLimit = limit == null ? ProgrammingConstants.defaultPageLimit : limit;
+
+        if (pageLimit < 1 || pageLimit > ProgrammingConstants.maxPageLimit) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidLimit));
+        }
+
+        PageDto<ProgrammerDto> page;
+        try {
+            page = programmerService.findPage(sortBy, order, pageLimit, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidCursor));
+        }
+
+        if (page.content().isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProgrammerFound));
+        }
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
 }
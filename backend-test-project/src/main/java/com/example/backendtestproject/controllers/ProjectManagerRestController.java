@@ -2,10 +2,19 @@ package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
 import com.example.backendtestproject.dtos.*;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.services.ProjectManagerService;
+import com.example.backendtestproject.services.WriteVersionService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,16 +23,30 @@ import java.util.List;
 public class ProjectManagerRestController {
 
     private final ProjectManagerService projectManagerService;
+    private final WriteVersionService writeVersionService;
 
     @GetMapping("/api/project-managers")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> apiListProjectManagers(@RequestParam(value = "sortby", required = false) String sortBy,
-                                                    @RequestParam(value = "order", required = false) String order) {
+                                                    @RequestParam(value = "order", required = false) String order,
+                                                    @RequestParam(value = "limit", required = false) Integer limit,
+                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                    WebRequest webRequest) {
+        String eTag = writeVersionService.eTag(EntityType.PROJECT_MANAGER);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        if (limit != null || cursor != null) {
+            return apiListPage(sortBy, order, limit, cursor, eTag);
+        }
+
         List<ProjectManagerDto> projectManagers = projectManagerService.findAllSorted(sortBy, order);
 
         if (projectManagers.isEmpty()) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectManagerFound));
         }
-        return ResponseEntity.ok(projectManagers);
+        return ResponseEntity.ok().eTag(eTag).body(projectManagers);
     }
 
     @PostMapping("/api/add-project-managers")
@@ -32,32 +55,77 @@ public class ProjectManagerRestController {
         ValidatorResultDto result = projectManagerService.save(projectManager);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
+    @PostMapping("/api/project-managers/bulk")
+    public ResponseEntity<?> apiAddProjectManagersBulk(@RequestBody List<ProjectManagerDto> projectManagers) {
+
+        if (projectManagers.isEmpty() || projectManagers.size() > ProgrammingConstants.maxBulkSize) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidBulkSize));
+        }
+
+        List<ValidatorResultDto> results;
+        try {
+            results = projectManagerService.saveAll(projectManagers);
+        } catch (DataIntegrityViolationException e) {
+            results = DuplicateEmailExceptionHandler.duplicateEmailResults(e, projectManagers.size());
+        }
+
+        if (results.stream().noneMatch(ValidatorResultDto::isValid)) {
+            return ResponseEntity.badRequest().body(results);
+        }
+        return ResponseEntity.ok(results);
+    }
+
     @PostMapping("/api/edit-project-managers/{id}")
     public ResponseEntity<?> apiEditProjectManager(@PathVariable Long id,
-                                                   @RequestBody ProjectManagerDto projectManager) {
+                                                   @RequestBody ProjectManagerDto projectManager,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        if (ifMatch != null) {
+            projectManager.setVersion(IfMatchHeader.version(ifMatch));
+        }
 
         ValidatorResultDto result = projectManagerService.editById(id, projectManager);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
+        }
+        return ResponseEntity.ok(new SuccessDto(result.message()));
+    }
+
+    @PatchMapping(value = "/api/edit-project-managers/{id}",
+            consumes = {ProgrammingConstants.mergePatchMediaType, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> apiPatchProjectManager(@PathVariable Long id,
+                                                    @RequestBody JsonNode patch,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        ValidatorResultDto result = projectManagerService.patchById(id, patch, IfMatchHeader.version(ifMatch));
+
+        if (!result.isValid()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
     @GetMapping("/api/details-project-managers/{id}")
-    public ResponseEntity<?> apiDetailsProjectManager(@PathVariable Long id) {
+    public ResponseEntity<?> apiDetailsProjectManager(@PathVariable Long id, WebRequest webRequest) {
 
         ProjectManagerDetailsDto projectManager = projectManagerService.findById(id);
 
         if (projectManager == null) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectManagerFound));
         }
-        return ResponseEntity.ok(projectManager);
+
+        String eTag = DetailsETag.of(projectManager.getVersion(),
+                projectManager.getProject() == null ? null : projectManager.getProject().getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(projectManager);
     }
 
     @DeleteMapping("/api/delete-project-managers/{id}")
@@ -68,4 +136,24 @@ public class ProjectManagerRestController {
         }
         return ResponseEntity.ok(new SuccessDto(ProgrammingConstants.deleteSuccess("project manager")));
     }
+
+    private ResponseEntity<?> apiListPage(String sortBy, String order, Integer limit, String cursor, String eTag) {
+        int pageLimit = limit == null ? ProgrammingConstants.defaultPageLimit : limit;
+
+        if (pageLimit < 1 || pageLimit > ProgrammingConstants.maxPageLimit) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidLimit));
+        }
+
+        PageDto<ProjectManagerDto> page;
+        try {
+            page = projectManagerService.findPage(sortBy, order, pageLimit, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidCursor));
+        }
+
+        if (page.content().isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectManagerFound));
+        }
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
 }
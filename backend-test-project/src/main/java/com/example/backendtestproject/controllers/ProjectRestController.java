@@ -2,13 +2,22 @@ package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
 import com.example.backendtestproject.dtos.ErrorDto;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.dtos.SuccessDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.services.ProjectService;
+import com.example.backendtestproject.services.WriteVersionService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,16 +26,30 @@ import java.util.List;
 public class ProjectRestController {
 
     private final ProjectService projectService;
+    private final WriteVersionService writeVersionService;
 
     @GetMapping("/api/projects")
+    @Transactional(readOnly = true)
     public ResponseEntity<?> apiListProjects(@RequestParam(value = "sortby", required = false) String sortBy,
-                                             @RequestParam(value = "order", required = false) String order) {
+                                             @RequestParam(value = "order", required = false) String order,
+                                             @RequestParam(value = "limit", required = false) Integer limit,
+                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                             WebRequest webRequest) {
+        String eTag = writeVersionService.eTag(EntityType.PROJECT);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        if (limit != null || cursor != null) {
+            return apiListPage(sortBy, order, limit, cursor, eTag);
+        }
+
         List<ProjectDto> projects = projectService.findAllSorted(sortBy, order);
 
         if (projects.isEmpty()) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectFound));
         }
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok().eTag(eTag).body(projects);
     }
 
     @PostMapping("/api/add-projects")
@@ -35,7 +58,7 @@ public class ProjectRestController {
         ValidatorResultDto result = projectService.save(project);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
@@ -47,7 +70,7 @@ public class ProjectRestController {
         ValidatorResultDto result = projectService.saveByProjectManagerId(project, projectManagerId);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
@@ -59,32 +82,56 @@ public class ProjectRestController {
         ValidatorResultDto result = projectService.saveByProgrammerId(project, programmerId);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
     @PostMapping("/api/edit-projects/{id}")
     public ResponseEntity<?> apiEditProject(@PathVariable Long id,
-                                            @RequestBody ProjectDto project) {
+                                            @RequestBody ProjectDto project,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        if (ifMatch != null) {
+            project.setVersion(IfMatchHeader.version(ifMatch));
+        }
 
         ValidatorResultDto result = projectService.editById(id, project);
 
         if (!result.isValid()) {
-            return ResponseEntity.badRequest().body(new ErrorDto(result.message()));
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
+        }
+        return ResponseEntity.ok(new SuccessDto(result.message()));
+    }
+
+    @PatchMapping(value = "/api/edit-projects/{id}",
+            consumes = {ProgrammingConstants.mergePatchMediaType, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> apiPatchProject(@PathVariable Long id,
+                                             @RequestBody JsonNode patch,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        ValidatorResultDto result = projectService.patchById(id, patch, IfMatchHeader.version(ifMatch));
+
+        if (!result.isValid()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(result.message(), result.errors()));
         }
         return ResponseEntity.ok(new SuccessDto(result.message()));
     }
 
     @GetMapping("/api/details-projects/{id}")
-    public ResponseEntity<?> apiDetailsProject(@PathVariable Long id) {
+    public ResponseEntity<?> apiDetailsProject(@PathVariable Long id, WebRequest webRequest) {
 
         ProjectDto project = projectService.findById(id);
 
         if (project == null) {
             return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectFound));
         }
-        return ResponseEntity.ok(project);
+
+        String eTag = DetailsETag.of(project.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(project);
     }
 
     @DeleteMapping("/api/delete-projects/{id}")
@@ -95,4 +142,24 @@ public class ProjectRestController {
         }
         return ResponseEntity.ok(new SuccessDto(ProgrammingConstants.deleteSuccess("project")));
     }
+
+    private ResponseEntity<?> apiListPage(String sortBy, String order, Integer limit, String cursor, String eTag) {
+        int pageLimit = limit == null ? ProgrammingConstants.defaultPageLimit : limit;
+
+        if (pageLimit < 1 || pageLimit > ProgrammingConstants.maxPageLimit) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidLimit));
+        }
+
+        PageDto<ProjectDto> page;
+        try {
+            page = projectService.findPage(sortBy, order, pageLimit, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.invalidCursor));
+        }
+
+        if (page.content().isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectFound));
+        }
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
 }
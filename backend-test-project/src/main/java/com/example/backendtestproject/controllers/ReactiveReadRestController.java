@@ -0,0 +1,63 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ErrorDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.services.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only variant of the list and details endpoints. Lists are streamed as newline delimited JSON, one element
+ * at a time, so the next rows are only read once the client has taken the previous ones.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveReadRestController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    @GetMapping(value = "/api/reactive/programmers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProgrammerDto> apiListProgrammers() {
+        return reactiveReadService.findAllProgrammers();
+    }
+
+    @GetMapping("/api/reactive/details-programmers/{id}")
+    public Mono<ResponseEntity<?>> apiDetailsProgrammer(@PathVariable Long id) {
+        return reactiveReadService.findProgrammerById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProgrammerFound)));
+    }
+
+    @GetMapping(value = "/api/reactive/project-managers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectManagerDto> apiListProjectManagers() {
+        return reactiveReadService.findAllProjectManagers();
+    }
+
+    @GetMapping("/api/reactive/details-project-managers/{id}")
+    public Mono<ResponseEntity<?>> apiDetailsProjectManager(@PathVariable Long id) {
+        return reactiveReadService.findProjectManagerById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectManagerFound)));
+    }
+
+    @GetMapping(value = "/api/reactive/projects", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectDto> apiListProjects() {
+        return reactiveReadService.findAllProjects();
+    }
+
+    @GetMapping("/api/reactive/details-projects/{id}")
+    public Mono<ResponseEntity<?>> apiDetailsProject(@PathVariable Long id) {
+        return reactiveReadService.findProjectById(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.badRequest().body(new ErrorDto(ProgrammingConstants.noProjectFound)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.backendtestproject.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets at most a fixed number of threads hold connections at once; a thread takes a permit before the pool is asked
+ * for its first connection and gives it back when its last connection is closed. With virtual threads there is no
+ * worker pool limiting the callers anymore, so without this thousands of requests would queue inside the connection
+ * pool at the same time. The fair semaphore serves the waiting requests in arrival order instead.
+ * <p>
+ * A thread that already holds a connection gets further ones without a permit: the table id generators open a second
+ * connection inside the running transaction, and waiting for a permit there could wait on itself. One connection of
+ * the limit is kept back for these, so they never find the pool taken by threads that are waiting for them.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final ThreadLocal<AtomicInteger> heldConnections = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration maxWait) {
+        super(targetDataSource);
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException("At least 2 connections are needed, one is kept for nested connections");
+        }
+        this.permits = new Semaphore(maxConnections - 1, true);
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limit(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limit(() -> super.getConnection(username, password));
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private Connection limit(ConnectionOpener opener) throws SQLException {
+        AtomicInteger held = heldConnections.get();
+        boolean firstOfThread = held.get() == 0;
+        if (firstOfThread) {
+            acquire();
+        }
+
+        try {
+            Connection connection = opener.open();
+            held.incrementAndGet();
+            return releasingOnClose(connection, held);
+        } catch (SQLException | RuntimeException e) {
+            if (firstOfThread) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No connection became free within " + maxWait);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    // A connection may be closed more than once, but it only counts the first time. The count belongs to the thread
+    // that opened the connection, whichever thread closes it.
+    private Connection releasingOnClose(Connection connection, AtomicInteger held) {
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)
+                                && held.decrementAndGet() == 0) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    private interface ConnectionOpener {
+        Connection open() throws SQLException;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backendtestproject.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Lets a client read its own writes although the replicas lag behind. A request that may write is served by the
+ * primary only, and its response sets a cookie holding the end of a window in which that client's reads go to the
+ * primary as well. Clients that do not send cookies back only get the writing request itself pinned.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "primary-reads-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long now = System.currentTimeMillis();
+        boolean writing = !SAFE_METHODS.contains(request.getMethod());
+
+        if (writing) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) window.toSeconds() + 1);
+            response.addCookie(cookie);
+        } else if (!insideWindow(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    // A window reaching further than one write could open is ignored, so an edited cookie cannot pin a client for good.
+    private boolean insideWindow(HttpServletRequest request, long now) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+
+        try {
+            long until = Long.parseLong(cookie.getValue());
+            return until > now && until <= now + window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
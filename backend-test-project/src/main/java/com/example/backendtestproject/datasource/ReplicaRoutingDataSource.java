@@ -0,0 +1,168 @@
+package com.example.backendtestproject.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary. A transaction is only marked
+ * read-only after it has begun, so the connection is taken lazily, when the first statement runs. A replica is used
+ * while its last check found it reachable and at most the allowed lag behind the primary, and never for a thread
+ * pinned to the primary by {@link ReadYourWritesFilter}. When a replica refuses a connection the read falls back to
+ * the primary, and the replica is left out until a check finds it healthy again.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile Runnable replicaReadListener = () -> {
+    };
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        setTargetDataSource(new Router());
+    }
+
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * Runs on the reading thread each time a transaction gets a replica connection, before its first statement.
+     */
+    public void setReplicaReadListener(Runnable replicaReadListener) {
+        this.replicaReadListener = replicaReadListener;
+    }
+
+    /**
+     * Marks each replica usable when it answers and is no further behind than the allowed lag.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.usable = isCaughtUp(replica.dataSource);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        Replica replica = chooseReplica();
+
+        if (replica != null) {
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replicaReadListener.run();
+                return connection;
+            } catch (SQLException e) {
+                replica.usable = false;
+            }
+        }
+
+        return opener.open(primary);
+    }
+
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPinnedToPrimary()) {
+            return null;
+        }
+
+        int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.usable) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isCaughtUp(DataSource replica) {
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            Duration lag = replicationLag(statement);
+            return lag != null && lag.compareTo(maxLag) <= 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * How far the replica is behind, or null when it does not replicate. Servers before MySQL 8.0.22 only know the
+     * SLAVE spelling of the status statement.
+     */
+    private static Duration replicationLag(Statement statement) throws SQLException {
+        try (ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            return status.next() ? secondsBehind(status, "Seconds_Behind_Source") : null;
+        } catch (SQLSyntaxErrorException e) {
+            try (ResultSet status = statement.executeQuery("SHOW SLAVE STATUS")) {
+                return status.next() ? secondsBehind(status, "Seconds_Behind_Master") : null;
+            }
+        }
+    }
+
+    // The column is NULL while the replication threads are stopped.
+    private static Duration secondsBehind(ResultSet status, String column) throws SQLException {
+        long seconds = status.getLong(column);
+        return status.wasNull() ? null : Duration.ofSeconds(seconds);
+    }
+
+    private static class Replica {
+        private final DataSource dataSource;
+        private volatile boolean usable;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(DataSource::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(dataSource -> dataSource.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backendtestproject.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reports every statement execution, every row read and the time spent in both to the {@link StatementStatistics}
+ * of the thread that took the connection. A batch counts as one statement, since it is one round trip. Threads that
+ * are not counting get the connection unwrapped, so the pool and the background jobs pay nothing for it.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        StatementStatistics statistics = StatementStatistics.current();
+        return statistics == null ? connection : proxy(Connection.class, connection, statistics);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, StatementStatistics statistics) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args, statistics);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args, StatementStatistics statistics)
+            throws Throwable {
+
+        boolean execute = target instanceof Statement && method.getName().startsWith("execute");
+        boolean next = target instanceof ResultSet && method.getName().equals("next");
+        long start = execute || next ? System.nanoTime() : 0;
+
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } finally {
+            if (execute) {
+                statistics.statementExecuted(System.nanoTime() - start);
+            }
+        }
+
+        if (next) {
+            statistics.rowRead((Boolean) result, System.nanoTime() - start);
+        } else if (target instanceof Connection && result instanceof Statement statement) {
+            return proxy(returnType(method, Statement.class), statement, statistics);
+        } else if (target instanceof Statement && result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, statistics);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> returnType(Method method, Class<T> type) {
+        return (Class<T>) method.getReturnType().asSubclass(type);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backendtestproject.datasource;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * The statements one thread executed, the rows it read and the time it spent in JDBC since {@link #start()}. Only
+ * connections taken while a thread is counting report to it, see {@link StatementCountingDataSource}.
+ */
+@Getter
+public class StatementStatistics {
+    private static final ThreadLocal<StatementStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    public static StatementStatistics start() {
+        StatementStatistics statistics = new StatementStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static StatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void rowRead(boolean found, long nanos) {
+        if (found) {
+            rows++;
+        }
+        jdbcNanos += nanos;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.backendtestproject.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the statements, rows and JDBC time of every request and reports them in response headers. Headers cannot
+ * follow a committed response, so they are written when the body starts; anything a streaming response runs after
+ * its first bytes is not included.
+ */
+public class StatementStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Micros";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        StatisticsResponse statisticsResponse = new StatisticsResponse(response, StatementStatistics.start());
+        try {
+            filterChain.doFilter(request, statisticsResponse);
+        } finally {
+            StatementStatistics.stop();
+            statisticsResponse.writeHeaders();
+        }
+    }
+
+    private static class StatisticsResponse extends HttpServletResponseWrapper {
+        private final StatementStatistics statistics;
+        private boolean written;
+
+        StatisticsResponse(HttpServletResponse response, StatementStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+
+            written = true;
+            setHeader(STATEMENTS_HEADER, Integer.toString(statistics.getStatements()));
+            setHeader(ROWS_HEADER, Long.toString(statistics.getRows()));
+            setHeader(TIME_HEADER, Long.toString(statistics.getJdbcTime().toNanos() / 1000));
+        }
+    }
+}
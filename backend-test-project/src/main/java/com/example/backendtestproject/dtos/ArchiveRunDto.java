@@ -0,0 +1,4 @@
+package com.example.backendtestproject.dtos;
+
+public record ArchiveRunDto(long programmers, long projectManagers, long projects, long addresses, long birthDates) {
+}
@@ -0,0 +1,4 @@
+package com.example.backendtestproject.dtos;
+
+public record CacheRegionStatisticsDto(String region, long hitCount, long missCount, long putCount, double hitRatio) {
+}
@@ -0,0 +1,13 @@
+package com.example.backendtestproject.dtos;
+
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+
+import java.time.Instant;
+
+/**
+ * The event id stays the same when a delivery is retried, so consumers can use it to drop duplicates.
+ */
+public record ChangeEventDto(Long eventId, EntityType entityType, Long entityId, ChangeType changeType,
+                             Instant occurredAt) {
+}
@@ -0,0 +1,5 @@
+package com.example.backendtestproject.dtos;
+
+public record DetailsCacheStatisticsDto(String cache, long hitCount, long missCount, double hitRatio,
+                                        long evictionCount, long size) {
+}
@@ -1,4 +1,11 @@
 package com.example.backendtestproject.dtos;
 
-public record ErrorDto(String error) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record ErrorDto(String error, @JsonInclude(JsonInclude.Include.NON_EMPTY) List<FieldErrorDto> errors) {
+    public ErrorDto(String error) {
+        this(error, List.of());
+    }
 }
@@ -0,0 +1,4 @@
+package com.example.backendtestproject.dtos;
+
+public record FieldErrorDto(String field, String message) {
+}
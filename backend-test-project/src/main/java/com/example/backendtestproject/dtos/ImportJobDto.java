@@ -0,0 +1,38 @@
+package com.example.backendtestproject.dtos;
+
+import com.example.backendtestproject.enums.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ImportJobDto {
+    private Long importJobId;
+
+    private String fileName;
+
+    private ImportStatus status;
+
+    private Long rowsProcessed;
+
+    private Long rowsImported;
+
+    private Long rowsRejected;
+
+    private Double rowsPerSecond;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String errorMessage;
+
+    private List<ImportRowErrorDto> rejectedRows;
+}
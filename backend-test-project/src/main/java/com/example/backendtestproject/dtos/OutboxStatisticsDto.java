@@ -0,0 +1,5 @@
+package com.example.backendtestproject.dtos;
+
+public record OutboxStatisticsDto(long pendingEvents, long oldestPendingAgeMillis, long deliveredEvents,
+                                  long failedDeliveries, long lastDeliveryLagMillis, long maxDeliveryLagMillis) {
+}
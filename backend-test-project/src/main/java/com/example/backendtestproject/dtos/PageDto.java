@@ -0,0 +1,6 @@
+package com.example.backendtestproject.dtos;
+
+import java.util.List;
+
+public record PageDto<T>(List<T> content, String nextCursor) {
+}
@@ -32,4 +32,6 @@ public class ProgrammerDetailsDto {
     private ProjectManagerDto projectManager;
 
     private Boolean deleted = Boolean.FALSE;
+
+    private Long version;
 }
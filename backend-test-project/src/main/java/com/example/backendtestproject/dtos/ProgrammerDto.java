@@ -28,4 +28,26 @@ public class ProgrammerDto {
     private Boolean isApprentice;
 
     private Boolean deleted = Boolean.FALSE;
+
+    private Long version;
+
+    /**
+     * Flat constructor used by the list projections, which read the address and birthdate columns in the same row.
+     */
+    public ProgrammerDto(Long programmerId, String name,
+                         Long addressId, Integer zipCode, String city, String street,
+                         Long birthDateId, Integer day, Integer month, Integer year,
+                         String phoneNumber, String email, Responsibility responsibility,
+                         Boolean isApprentice, Boolean deleted, Long version) {
+        this.programmerId = programmerId;
+        this.name = name;
+        this.address = addressId == null ? null : new AddressDto(addressId, zipCode, city, street);
+        this.birthDate = birthDateId == null ? null : new BirthDateDto(birthDateId, day, month, year);
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        this.responsibility = responsibility;
+        this.isApprentice = isApprentice;
+        this.deleted = deleted;
+        this.version = version;
+    }
 }
@@ -19,4 +19,6 @@ public class ProjectDto {
     private String description;
 
     private Boolean deleted = Boolean.FALSE;
+
+    private Long version;
 }
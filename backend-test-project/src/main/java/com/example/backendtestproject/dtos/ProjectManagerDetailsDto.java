@@ -25,4 +25,6 @@ public class ProjectManagerDetailsDto {
     private ProjectDto project;
 
     private Boolean deleted = Boolean.FALSE;
+
+    private Long version;
 }
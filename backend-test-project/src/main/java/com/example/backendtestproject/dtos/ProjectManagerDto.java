@@ -23,4 +23,23 @@ public class ProjectManagerDto {
     private String email;
 
     private Boolean deleted = Boolean.FALSE;
+
+    private Long version;
+
+    /**
+     * Flat constructor used by the list projections, which read the address and birthdate columns in the same row.
+     */
+    public ProjectManagerDto(Long projectManagerId, String name,
+                             Long addressId, Integer zipCode, String city, String street,
+                             Long birthDateId, Integer day, Integer month, Integer year,
+                             String phoneNumber, String email, Boolean deleted, Long version) {
+        this.projectManagerId = projectManagerId;
+        this.name = name;
+        this.address = addressId == null ? null : new AddressDto(addressId, zipCode, city, street);
+        this.birthDate = birthDateId == null ? null : new BirthDateDto(birthDateId, day, month, year);
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        this.deleted = deleted;
+        this.version = version;
+    }
 }
@@ -1,7 +1,13 @@
 package com.example.backendtestproject.dtos;
 
-public record ValidatorResultDto(boolean isValid, String message) {
+import java.util.List;
+
+public record ValidatorResultDto(boolean isValid, String message, List<FieldErrorDto> errors) {
     public ValidatorResultDto(boolean isValid) {
         this(isValid, "");
     }
+
+    public ValidatorResultDto(boolean isValid, String message) {
+        this(isValid, message, List.of());
+    }
 }
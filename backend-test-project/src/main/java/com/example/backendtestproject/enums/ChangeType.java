@@ -0,0 +1,3 @@
+package com.example.backendtestproject.enums;
+
+public enum ChangeType {CREATED, UPDATED, DELETED}
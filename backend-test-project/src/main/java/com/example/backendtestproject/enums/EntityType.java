@@ -0,0 +1,3 @@
+package com.example.backendtestproject.enums;
+
+public enum EntityType {PROGRAMMER, PROJECT_MANAGER, PROJECT}
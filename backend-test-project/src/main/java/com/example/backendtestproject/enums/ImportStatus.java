@@ -0,0 +1,3 @@
+package com.example.backendtestproject.enums;
+
+public enum ImportStatus {QUEUED, RUNNING, COMPLETED, FAILED}
@@ -0,0 +1,25 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.models.Address;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AddressMapper {
+
+    public AddressDto toDto(Address address) {
+        if (address == null) {
+            return null;
+        }
+
+        return new AddressDto(address.getAddress_id(), address.getZipCode(), address.getCity(), address.getStreet());
+    }
+
+    public Address toEntity(AddressDto address) {
+        if (address == null) {
+            return null;
+        }
+
+        return new Address(address.getAddress_id(), address.getZipCode(), address.getCity(), address.getStreet());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.models.BirthDate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BirthDateMapper {
+
+    public BirthDateDto toDto(BirthDate birthDate) {
+        if (birthDate == null) {
+            return null;
+        }
+
+        return new BirthDateDto(birthDate.getBirth_date_id(), birthDate.getDay(), birthDate.getMonth(), birthDate.getYear());
+    }
+
+    public BirthDate toEntity(BirthDateDto birthDate) {
+        if (birthDate == null) {
+            return null;
+        }
+
+        return new BirthDate(birthDate.getBirth_date_id(), birthDate.getDay(), birthDate.getMonth(), birthDate.getYear());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.models.Programmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProgrammerMapper {
+    private final AddressMapper addressMapper;
+    private final BirthDateMapper birthDateMapper;
+    private final ProjectMapper projectMapper;
+    private final ProjectManagerMapper projectManagerMapper;
+
+    public ProgrammerDto toDto(Programmer programmer) {
+        if (programmer == null) {
+            return null;
+        }
+
+        return new ProgrammerDto(programmer.getProgrammerId(), programmer.getName(),
+                addressMapper.toDto(programmer.getAddress()), birthDateMapper.toDto(programmer.getBirthDate()),
+                programmer.getPhoneNumber(), programmer.getEmail(), programmer.getResponsibility(),
+                programmer.getIsApprentice(), programmer.getDeleted(), programmer.getVersion());
+    }
+
+    public ProgrammerDetailsDto toDetailsDto(Programmer programmer) {
+        if (programmer == null) {
+            return null;
+        }
+
+        return new ProgrammerDetailsDto(programmer.getProgrammerId(), programmer.getName(),
+                addressMapper.toDto(programmer.getAddress()), birthDateMapper.toDto(programmer.getBirthDate()),
+                programmer.getPhoneNumber(), programmer.getEmail(), programmer.getResponsibility(),
+                programmer.getIsApprentice(), projectMapper.toDto(programmer.getProject()),
+                projectManagerMapper.toDto(programmer.getProjectManager()), programmer.getDeleted(),
+                programmer.getVersion());
+    }
+
+    public Programmer toEntity(ProgrammerDto programmer) {
+        if (programmer == null) {
+            return null;
+        }
+
+        Programmer entity = new Programmer();
+        entity.setProgrammerId(programmer.getProgrammerId());
+        entity.setName(programmer.getName());
+        entity.setAddress(addressMapper.toEntity(programmer.getAddress()));
+        entity.setBirthDate(birthDateMapper.toEntity(programmer.getBirthDate()));
+        entity.setPhoneNumber(programmer.getPhoneNumber());
+        entity.setEmail(programmer.getEmail());
+        entity.setResponsibility(programmer.getResponsibility());
+        entity.setIsApprentice(programmer.getIsApprentice());
+        entity.setDeleted(programmer.getDeleted());
+
+        return entity;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.models.ProjectManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectManagerMapper {
+    private final AddressMapper addressMapper;
+    private final BirthDateMapper birthDateMapper;
+    private final ProjectMapper projectMapper;
+
+    public ProjectManagerDto toDto(ProjectManager projectManager) {
+        if (projectManager == null) {
+            return null;
+        }
+
+        return new ProjectManagerDto(projectManager.getProjectManagerId(), projectManager.getName(),
+                addressMapper.toDto(projectManager.getAddress()), birthDateMapper.toDto(projectManager.getBirthDate()),
+                projectManager.getPhoneNumber(), projectManager.getEmail(), projectManager.getDeleted(),
+                projectManager.getVersion());
+    }
+
+    public ProjectManagerDetailsDto toDetailsDto(ProjectManager projectManager) {
+        if (projectManager == null) {
+            return null;
+        }
+
+        return new ProjectManagerDetailsDto(projectManager.getProjectManagerId(), projectManager.getName(),
+                addressMapper.toDto(projectManager.getAddress()), birthDateMapper.toDto(projectManager.getBirthDate()),
+                projectManager.getPhoneNumber(), projectManager.getEmail(),
+                projectMapper.toDto(projectManager.getProject()), projectManager.getDeleted(),
+                projectManager.getVersion());
+    }
+
+    public ProjectManager toEntity(ProjectManagerDto projectManager) {
+        if (projectManager == null) {
+            return null;
+        }
+
+        ProjectManager entity = new ProjectManager();
+        entity.setProjectManagerId(projectManager.getProjectManagerId());
+        entity.setName(projectManager.getName());
+        entity.setAddress(addressMapper.toEntity(projectManager.getAddress()));
+        entity.setBirthDate(birthDateMapper.toEntity(projectManager.getBirthDate()));
+        entity.setPhoneNumber(projectManager.getPhoneNumber());
+        entity.setEmail(projectManager.getEmail());
+        entity.setDeleted(projectManager.getDeleted());
+
+        return entity;
+    }
+}
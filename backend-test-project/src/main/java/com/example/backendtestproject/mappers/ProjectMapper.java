@@ -0,0 +1,33 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.models.Project;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectMapper {
+
+    public ProjectDto toDto(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        return new ProjectDto(project.getProjectId(), project.getClient(), project.getStartDate(),
+                project.getDescription(), project.getDeleted(), project.getVersion());
+    }
+
+    public Project toEntity(ProjectDto project) {
+        if (project == null) {
+            return null;
+        }
+
+        Project entity = new Project();
+        entity.setProjectId(project.getProjectId());
+        entity.setClient(project.getClient());
+        entity.setStartDate(project.getStartDate());
+        entity.setDescription(project.getDescription());
+        entity.setDeleted(project.getDeleted());
+
+        return entity;
+    }
+}
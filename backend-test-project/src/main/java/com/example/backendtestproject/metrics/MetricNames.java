@@ -0,0 +1,15 @@
+package com.example.backendtestproject.metrics;
+
+/**
+ * Names of the timers around the service and validation layers, tagged with the class and method they measured,
+ * and of the export timer, tagged with what was exported. The mappers are not timed on their own: they run inside
+ * the timed service calls, call each other, and are too cheap to be worth a histogram per method.
+ */
+public final class MetricNames {
+    public static final String SERVICE = "app.service";
+    public static final String VALIDATOR = "app.validator";
+    public static final String EXPORT = "app.export";
+
+    private MetricNames() {
+    }
+}
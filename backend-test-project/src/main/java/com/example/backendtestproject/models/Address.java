@@ -2,6 +2,9 @@ package com.example.backendtestproject.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "addresses")
@@ -10,10 +13,15 @@ import lombok.*;
 @Builder
 @Getter
 @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "addresses")
+    @TableGenerator(name = "addresses", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "addresses", allocationSize = 50)
     private Long address_id;
 
     private Integer zipCode;
@@ -21,10 +29,4 @@ public class Address {
     private String city;
 
     private String street;
-
-    @OneToOne(mappedBy = "address")
-    private ProjectManager projectManager;
-
-    @OneToOne(mappedBy = "address")
-    private Programmer programmer;
 }
@@ -2,6 +2,9 @@ package com.example.backendtestproject.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "birth_dates")
@@ -10,10 +13,15 @@ import lombok.*;
 @Builder
 @Getter
 @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class BirthDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "birth_dates")
+    @TableGenerator(name = "birth_dates", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "birth_dates", allocationSize = 50)
     private Long birth_date_id;
 
     private Integer day;
@@ -22,12 +30,6 @@ public class BirthDate {
 
     private Integer year;
 
-    @OneToOne(mappedBy = "birthDate")
-    private ProjectManager projectManager;
-
-    @OneToOne(mappedBy = "birthDate")
-    private Programmer programmer;
-
     public BirthDate(Integer day, Integer month, Integer year) {
         this.day = day;
         this.month = month;
@@ -0,0 +1,55 @@
+package com.example.backendtestproject.models;
+
+import com.example.backendtestproject.enums.ImportStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "import_jobs")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "import_jobs")
+    @TableGenerator(name = "import_jobs", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "import_jobs", allocationSize = 50)
+    @Column(name = "import_job_id")
+    private Long importJobId;
+
+    private String fileName;
+
+    private String filePath;
+
+    @Enumerated(value = EnumType.STRING)
+    private ImportStatus status;
+
+    /**
+     * Number of data rows already committed; a resumed import skips this many rows.
+     */
+    @Builder.Default
+    private Long checkpointRow = 0L;
+
+    @Builder.Default
+    private Long rowsImported = 0L;
+
+    @Builder.Default
+    private Long rowsRejected = 0L;
+
+    /**
+     * Checkpoint the current run started from, used to compute its throughput.
+     */
+    @Builder.Default
+    private Long runStartRow = 0L;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String errorMessage;
+}
@@ -0,0 +1,27 @@
+package com.example.backendtestproject.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "import_job_errors")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ImportJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "import_job_errors")
+    @TableGenerator(name = "import_job_errors", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "import_job_errors", allocationSize = 50)
+    @Column(name = "import_job_error_id")
+    private Long importJobErrorId;
+
+    private Long importJobId;
+
+    private Long rowIndex;
+
+    private String message;
+}
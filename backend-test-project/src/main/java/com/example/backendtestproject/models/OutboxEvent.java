@@ -0,0 +1,41 @@
+package com.example.backendtestproject.models;
+
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A change waiting to be delivered; it is written in the transaction of the change itself and deleted once every
+ * sink has received it. While a dispatcher delivers it, {@code claimedUntil} keeps the other dispatchers off it.
+ */
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_events")
+    @TableGenerator(name = "outbox_events", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "outbox_events", allocationSize = 50)
+    @Column(name = "outbox_event_id")
+    private Long outboxEventId;
+
+    @Enumerated(value = EnumType.STRING)
+    private EntityType entityType;
+
+    private Long entityId;
+
+    @Enumerated(value = EnumType.STRING)
+    private ChangeType changeType;
+
+    private Instant createdAt;
+
+    private Instant claimedUntil;
+}
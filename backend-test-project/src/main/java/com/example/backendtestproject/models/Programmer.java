@@ -3,32 +3,54 @@ package com.example.backendtestproject.models;
 import com.example.backendtestproject.enums.Responsibility;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 @Entity
 @Table(name = "programmers")
+@NamedEntityGraph(name = "Programmer.list",
+        attributeNodes = {
+                @NamedAttributeNode("address"),
+                @NamedAttributeNode("birthDate")})
+@NamedEntityGraph(name = "Programmer.details",
+        attributeNodes = {
+                @NamedAttributeNode("address"),
+                @NamedAttributeNode("birthDate"),
+                @NamedAttributeNode("project"),
+                @NamedAttributeNode(value = "projectManager", subgraph = "projectManager")},
+        subgraphs = @NamedSubgraph(name = "projectManager",
+                attributeNodes = {
+                        @NamedAttributeNode("address"),
+                        @NamedAttributeNode("birthDate")}))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE programmers SET deleted = true WHERE programmer_id=?")
+@SQLDelete(sql = "UPDATE programmers SET deleted = true, deleted_at = CURRENT_TIMESTAMP(6) WHERE programmer_id=? AND version=?")
 @Where(clause = "deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class Programmer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "programmers")
+    @TableGenerator(name = "programmers", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "programmers", allocationSize = 50)
     @Column(name = "programmer_id")
     private Long programmerId;
 
     private String name;
 
-    @OneToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "address_id")
     private Address address;
 
-    @OneToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "birth_date_id")
     private BirthDate birthDate;
 
@@ -36,11 +58,11 @@ public class Programmer {
 
     private String email;
 
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "project_id")
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_manager_id")
     private ProjectManager projectManager;
 
@@ -49,6 +71,9 @@ public class Programmer {
 
     private Boolean isApprentice;
 
+    @Version
+    private Long version;
+
     private Boolean deleted = Boolean.FALSE;
 
     public void addProjectManager(ProjectManager projectManager) {
@@ -2,6 +2,9 @@ package com.example.backendtestproject.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -15,18 +18,20 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE projects SET deleted = true WHERE project_id=?")
+@SQLDelete(sql = "UPDATE projects SET deleted = true, deleted_at = CURRENT_TIMESTAMP(6) WHERE project_id=? AND version=?")
 @Where(clause = "deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "projects")
+    @TableGenerator(name = "projects", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "projects", allocationSize = 50)
     @Column(name = "project_id")
     private Long projectId;
 
-    @OneToOne(mappedBy = "project")
-    private ProjectManager projectManager;
-
     @OneToMany(mappedBy = "project")
     @Builder.Default
     private List<Programmer> programmers = new ArrayList<>();
@@ -37,5 +42,8 @@ public class Project {
 
     private String description;
 
+    @Version
+    private Long version;
+
     private Boolean deleted = Boolean.FALSE;
 }
@@ -2,6 +2,9 @@ package com.example.backendtestproject.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -10,27 +13,41 @@ import java.util.List;
 
 @Entity
 @Table(name = "project_managers")
+@NamedEntityGraph(name = "ProjectManager.list",
+        attributeNodes = {
+                @NamedAttributeNode("address"),
+                @NamedAttributeNode("birthDate")})
+@NamedEntityGraph(name = "ProjectManager.details",
+        attributeNodes = {
+                @NamedAttributeNode("address"),
+                @NamedAttributeNode("birthDate"),
+                @NamedAttributeNode("project")})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-@SQLDelete(sql = "UPDATE project_managers SET deleted = true WHERE project_manager_id=?")
+@SQLDelete(sql = "UPDATE project_managers SET deleted = true, deleted_at = CURRENT_TIMESTAMP(6) WHERE project_manager_id=? AND version=?")
 @Where(clause = "deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 public class ProjectManager {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_managers")
+    @TableGenerator(name = "project_managers", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "project_managers", allocationSize = 50)
     @Column(name = "project_manager_id")
     private Long projectManagerId;
 
     private String name;
 
-    @OneToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "address_id")
     private Address address;
 
-    @OneToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "birth_date_id")
     private BirthDate birthDate;
 
@@ -38,14 +55,18 @@ public class ProjectManager {
 
     private String email;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "project_id")
     private Project project;
 
     @OneToMany(mappedBy = "projectManager", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private List<Programmer> programmers = new ArrayList<>();
 
+    @Version
+    private Long version;
+
     private Boolean deleted = Boolean.FALSE;
 
     public void addProgrammer(Programmer programmer) {
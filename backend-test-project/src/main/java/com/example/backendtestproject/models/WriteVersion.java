@@ -0,0 +1,23 @@
+package com.example.backendtestproject.models;
+
+import com.example.backendtestproject.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Counts the committed writes of one entity type; the list endpoints build their tags from it.
+ */
+@Entity
+@Table(name = "write_versions")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class WriteVersion {
+
+    @Id
+    @Enumerated(value = EnumType.STRING)
+    private EntityType entityType;
+
+    private Long version;
+}
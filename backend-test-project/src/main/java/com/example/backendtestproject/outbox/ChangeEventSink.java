@@ -0,0 +1,14 @@
+package com.example.backendtestproject.outbox;
+
+import com.example.backendtestproject.dtos.ChangeEventDto;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A destination for change events. The dispatcher hands every batch to each sink bean, and a batch that any sink
+ * rejects is retried as a whole, so sinks must tolerate receiving an event more than once.
+ */
+public interface ChangeEventSink {
+    void deliver(List<ChangeEventDto> events) throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.example.backendtestproject.outbox;
+
+import com.example.backendtestproject.dtos.ChangeEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends every event as one JSON line to a local file; meant for development and tests.
+ */
+@Component
+@ConditionalOnProperty("app.outbox.file-sink.path")
+public class FileChangeEventSink implements ChangeEventSink {
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileChangeEventSink(ObjectMapper objectMapper, @Value("${app.outbox.file-sink.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void deliver(List<ChangeEventDto> events) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ChangeEventDto event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backendtestproject.outbox;
+
+import com.example.backendtestproject.dtos.ChangeEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts every batch as one JSON array; any status outside 2xx fails the batch so that it is retried.
+ */
+@Component
+@ConditionalOnProperty("app.outbox.http-sink.url")
+public class HttpChangeEventSink implements ChangeEventSink {
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public HttpChangeEventSink(ObjectMapper objectMapper,
+                               @Value("${app.outbox.http-sink.url}") URI url,
+                               @Value("${app.outbox.http-sink.timeout:5s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void deliver(List<ChangeEventDto> events) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+                .build();
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while delivering change events", e);
+        }
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Change event sink answered " + response.statusCode());
+        }
+    }
+}
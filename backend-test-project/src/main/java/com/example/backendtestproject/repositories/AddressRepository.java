@@ -0,0 +1,36 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.models.Address;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface AddressRepository extends CrudRepository<Address, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "addresses_archive"))
+    @Query(value = "INSERT INTO addresses_archive (address_id, zip_code, city, street, archived_at) " +
+            "SELECT address_id, zip_code, city, street, CURRENT_TIMESTAMP(6) FROM addresses " +
+            "WHERE address_id IN :ids " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.address_id = addresses.address_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM project_managers pm WHERE pm.address_id = addresses.address_id)",
+            nativeQuery = true)
+    int copyOrphansToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "addresses_archive"))
+    @Query(value = "DELETE FROM addresses " +
+            "WHERE address_id IN :ids " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.address_id = addresses.address_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM project_managers pm WHERE pm.address_id = addresses.address_id)",
+            nativeQuery = true)
+    int deleteOrphans(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,36 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.models.BirthDate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface BirthDateRepository extends CrudRepository<BirthDate, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "birth_dates_archive"))
+    @Query(value = "INSERT INTO birth_dates_archive (birth_date_id, day, month, year, archived_at) " +
+            "SELECT birth_date_id, day, month, year, CURRENT_TIMESTAMP(6) FROM birth_dates " +
+            "WHERE birth_date_id IN :ids " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.birth_date_id = birth_dates.birth_date_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM project_managers pm WHERE pm.birth_date_id = birth_dates.birth_date_id)",
+            nativeQuery = true)
+    int copyOrphansToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "birth_dates_archive"))
+    @Query(value = "DELETE FROM birth_dates " +
+            "WHERE birth_date_id IN :ids " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.birth_date_id = birth_dates.birth_date_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM project_managers pm WHERE pm.birth_date_id = birth_dates.birth_date_id)",
+            nativeQuery = true)
+    int deleteOrphans(@Param("ids") Collection<Long> ids);
+}
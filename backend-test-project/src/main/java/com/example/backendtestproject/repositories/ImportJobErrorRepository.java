@@ -0,0 +1,13 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.models.ImportJobError;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportJobErrorRepository extends CrudRepository<ImportJobError, Long> {
+
+    List<ImportJobError> findTop100ByImportJobIdOrderByRowIndex(Long importJobId);
+}
@@ -0,0 +1,40 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.models.ImportJob;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ImportJobRepository extends CrudRepository<ImportJob, Long> {
+
+    @Modifying
+    @Query("update ImportJob j set j.checkpointRow = :checkpointRow, " +
+            "j.rowsImported = j.rowsImported + :imported, j.rowsRejected = j.rowsRejected + :rejected " +
+            "where j.importJobId = :importJobId")
+    void updateProgress(@Param("importJobId") Long importJobId, @Param("checkpointRow") long checkpointRow,
+                        @Param("imported") long imported, @Param("rejected") long rejected);
+
+    /**
+     * Moves a failed job back to the queue; returns 0 when the job is not in the failed state.
+     */
+    @Transactional
+    @Modifying
+    @Query("update ImportJob j set j.status = com.example.backendtestproject.enums.ImportStatus.QUEUED " +
+            "where j.importJobId = :importJobId and j.status = com.example.backendtestproject.enums.ImportStatus.FAILED")
+    int requeueFailed(@Param("importJobId") Long importJobId);
+
+    /**
+     * Fails the jobs a previous process left queued or running, so that they can be resumed.
+     */
+    @Transactional
+    @Modifying
+    @Query("update ImportJob j set j.status = com.example.backendtestproject.enums.ImportStatus.FAILED, " +
+            "j.errorMessage = :errorMessage " +
+            "where j.status in (com.example.backendtestproject.enums.ImportStatus.QUEUED, " +
+            "com.example.backendtestproject.enums.ImportStatus.RUNNING)")
+    int failUnfinished(@Param("errorMessage") String errorMessage);
+}
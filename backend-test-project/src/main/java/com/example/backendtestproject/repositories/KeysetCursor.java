@@ -0,0 +1,69 @@
+package com.example.backendtestproject.repositories;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque cursor holding the sort key values of the last row of a page.
+ * Every sort property is read from the row by its property path (e.g. {@code address.city}),
+ * so the same cursor works for entities and for the DTOs mapped from them.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = ".";
+
+    private static final String NULL_TOKEN = "~";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object row, Sort sort) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+
+        return sort.stream()
+                .map(order -> encodeValue(readValue(wrapper, order.getProperty())))
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    public static List<String> decode(String cursor, Sort sort) {
+        List<String> values = Arrays.stream(cursor.split("\\" + SEPARATOR, -1))
+                .map(KeysetCursor::decodeValue)
+                .toList();
+
+        if (values.size() != sort.toList().size()) {
+            throw new IllegalArgumentException("Cursor does not match the requested ordering");
+        }
+        return values;
+    }
+
+    private static Object readValue(BeanWrapper wrapper, String property) {
+        try {
+            return wrapper.getPropertyValue(property);
+        } catch (NullValueInNestedPathException e) {
+            return null;
+        }
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return NULL_TOKEN;
+        }
+        String raw = value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeValue(String token) {
+        if (NULL_TOKEN.equals(token)) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backendtestproject.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends CrudRepository<T, ID>, PagingAndSortingRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * Returns at most {@code limit} rows matching the specification in the given order,
+     * without issuing the count query that {@code findAll(Specification, Pageable)} would.
+     */
+    List<T> findAll(Specification<T> spec, Sort sort, int limit);
+
+    /**
+     * Returns the rows matching the specification as projections, bypassing the persistence context.
+     */
+    <R> List<R> findAll(Specification<T> spec, Sort sort, Projection<T, R> projection);
+
+    /**
+     * Returns at most {@code limit} rows matching the specification as projections, bypassing the persistence context.
+     */
+    <R> List<R> findAll(Specification<T> spec, Sort sort, int limit, Projection<T, R> projection);
+
+    /**
+     * Streams the rows matching the specification as projections, passing {@code fetchSize} to the driver. The stream
+     * holds an open result set, so it must be consumed and closed inside the surrounding transaction.
+     */
+    <R> Stream<R> streamAll(Specification<T> spec, Sort sort, int fetchSize, Projection<T, R> projection);
+
+    /**
+     * Raises the version of a loaded entity at commit, for edits that only change the rows it owns.
+     */
+    void forceVersionIncrement(T entity);
+}
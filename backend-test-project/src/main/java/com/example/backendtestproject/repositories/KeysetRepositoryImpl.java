@@ -0,0 +1,85 @@
+package com.example.backendtestproject.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class KeysetRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public KeysetRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> findAll(Specification<T> spec, Sort sort, int limit) {
+        return getQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public <R> List<R> findAll(Specification<T> spec, Sort sort, Projection<T, R> projection) {
+        return getProjectionQuery(spec, sort, projection).getResultList();
+    }
+
+    @Override
+    public <R> List<R> findAll(Specification<T> spec, Sort sort, int limit, Projection<T, R> projection) {
+        return getProjectionQuery(spec, sort, projection)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public <R> Stream<R> streamAll(Specification<T> spec, Sort sort, int fetchSize, Projection<T, R> projection) {
+        return getProjectionQuery(spec, sort, projection)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public void forceVersionIncrement(T entity) {
+        entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> TypedQuery<R> getProjectionQuery(Specification<T> spec, Sort sort, Projection<T, R> projection) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = (CriteriaQuery<R>) builder.createQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        // The selection goes first, so the joins it declares are reused by the predicate and the ordering.
+        Selection<R> selection = projection.toSelection(root, builder);
+        query.select(selection);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, builder);
+
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backendtestproject.repositories;
+
+import jakarta.persistence.criteria.*;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seek predicate selecting the rows that come strictly after a {@link KeysetCursor} in the given ordering:
+ * {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...}, flipped per key for descending orders.
+ * Null handling follows MySQL, which sorts nulls first ascending and last descending.
+ */
+public class KeysetSpecification<T> implements Specification<T> {
+
+    private final Sort sort;
+
+    private final List<String> values;
+
+    private KeysetSpecification(Sort sort, List<String> values) {
+        this.sort = sort;
+        this.values = values;
+    }
+
+    public static <T> Specification<T> after(Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return new KeysetSpecification<>(sort, KeysetCursor.decode(cursor, sort));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        List<Sort.Order> orders = sort.toList();
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Expression<Comparable> key = toExpression(root, order.getProperty());
+            Comparable value = convert(values.get(i), key.getJavaType());
+
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(isAfter(builder, key, value, order.getDirection()));
+            alternatives.add(builder.and(alternative.toArray(Predicate[]::new)));
+
+            equalPrefix.add(value == null ? builder.isNull(key) : builder.equal(key, value));
+        }
+
+        return builder.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Resolves a dotted property path through left joins, reusing existing joins so that the
+     * {@code ORDER BY} added by the repository for the same path refers to the same join.
+     */
+    private static <X> Expression<X> toExpression(From<?, ?> from, String property) {
+        String[] segments = property.split("\\.");
+
+        for (int i = 0; i < segments.length - 1; i++) {
+            from = getOrCreateJoin(from, segments[i]);
+        }
+
+        return from.get(segments[segments.length - 1]);
+    }
+
+    private static From<?, ?> getOrCreateJoin(From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate isAfter(CriteriaBuilder builder, Expression<Comparable> key, Comparable value,
+                                     Sort.Direction direction) {
+        if (direction.isAscending()) {
+            return value == null ? builder.isNotNull(key) : builder.greaterThan(key, value);
+        }
+        return value == null ? builder.disjunction() : builder.or(builder.lessThan(key, value), builder.isNull(key));
+    }
+
+    private static Comparable<?> convert(String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (Comparable<?>) DefaultConversionService.getSharedInstance().convert(value, type);
+        } catch (ConversionException | ClassCastException e) {
+            throw new IllegalArgumentException("Cursor value cannot be converted to " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.models.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends CrudRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest events that are not claimed, or whose claim ran out by {@code now}. Rows another dispatcher is
+     * claiming at the same moment are skipped where the dialect supports {@code SKIP LOCKED}; elsewhere the second
+     * dispatcher waits for the first one's claim to commit.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select e from OutboxEvent e where e.claimedUntil is null or e.claimedUntil < :now order by e.outboxEventId")
+    List<OutboxEvent> findNextBatch(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = :claimedUntil where e.outboxEventId in :ids")
+    int updateClaimedUntil(@Param("ids") Collection<Long> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.outboxEventId in :ids")
+    int deleteDelivered(@Param("ids") Collection<Long> ids);
+
+    @Query("select min(e.createdAt) from OutboxEvent e")
+    Instant findOldestCreatedAt();
+}
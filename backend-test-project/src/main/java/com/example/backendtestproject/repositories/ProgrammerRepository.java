@@ -1,17 +1,109 @@
 package com.example.backendtestproject.repositories;
 
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
 import com.example.backendtestproject.models.Programmer;
-import org.springframework.data.repository.CrudRepository;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProgrammerRepository extends CrudRepository<Programmer, Long> {
+public interface ProgrammerRepository extends KeysetRepository<Programmer, Long> {
 
+    @Override
+    @EntityGraph("Programmer.list")
+    Iterable<Programmer> findAll();
+
+    @Override
+    @EntityGraph("Programmer.list")
+    Iterable<Programmer> findAll(Sort sort);
+
+    @Override
+    @EntityGraph("Programmer.list")
+    List<Programmer> findAll(Specification<Programmer> spec, Sort sort, int limit);
+
+    default List<ProgrammerDto> findAllDtos(Specification<Programmer> spec, Sort sort) {
+        return findAll(spec, sort, ProgrammerRepository::toDto);
+    }
+
+    default List<ProgrammerDto> findAllDtos(Specification<Programmer> spec, Sort sort, int limit) {
+        return findAll(spec, sort, limit, ProgrammerRepository::toDto);
+    }
+
+    default Stream<ProgrammerDto> streamAllDtos(Specification<Programmer> spec, Sort sort, int fetchSize) {
+        return streamAll(spec, sort, fetchSize, ProgrammerRepository::toDto);
+    }
+
+    @EntityGraph("Programmer.details")
     Programmer findByProgrammerId(Long id);
 
     Optional<Programmer> findByEmail(String email);
 
+    @Query("select p.email from Programmer p where p.email in :emails")
+    Set<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select p.programmerId from Programmer p where p.project.projectId = :projectId")
+    List<Long> findProgrammerIdsByProjectId(@Param("projectId") Long projectId);
+
     void deleteByProgrammerId(Long id);
+
+    @Query(value = "SELECT programmer_id FROM programmers " +
+            "WHERE deleted = true AND programmer_id > :afterId AND deleted_at < :cutoff " +
+            "ORDER BY programmer_id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("afterId") long afterId, @Param("cutoff") Instant cutoff,
+                                 @Param("limit") int limit);
+
+    @Query(value = "SELECT address_id FROM programmers WHERE programmer_id IN :ids AND address_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findAddressIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT birth_date_id FROM programmers WHERE programmer_id IN :ids AND birth_date_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findBirthDateIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "programmers_archive"))
+    @Query(value = "INSERT INTO programmers_archive (programmer_id, name, address_id, birth_date_id, phone_number, " +
+            "email, project_id, project_manager_id, responsibility, is_apprentice, version, deleted_at, archived_at) " +
+            "SELECT programmer_id, name, address_id, birth_date_id, phone_number, email, project_id, " +
+            "project_manager_id, responsibility, is_apprentice, version, deleted_at, CURRENT_TIMESTAMP(6) " +
+            "FROM programmers WHERE programmer_id IN :ids AND deleted = true", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "programmers_archive"))
+    @Query(value = "DELETE FROM programmers WHERE programmer_id IN :ids AND deleted = true", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
+    private static Selection<ProgrammerDto> toDto(Root<Programmer> root, CriteriaBuilder builder) {
+        Join<Programmer, Address> address = root.join("address", JoinType.LEFT);
+        Join<Programmer, BirthDate> birthDate = root.join("birthDate", JoinType.LEFT);
+
+        return builder.construct(ProgrammerDto.class,
+                root.get("programmerId"), root.get("name"),
+                address.get("address_id"), address.get("zipCode"), address.get("city"), address.get("street"),
+                birthDate.get("birth_date_id"), birthDate.get("day"), birthDate.get("month"), birthDate.get("year"),
+                root.get("phoneNumber"), root.get("email"), root.get("responsibility"),
+                root.get("isApprentice"), root.get("deleted"), root.get("version"));
+    }
 }
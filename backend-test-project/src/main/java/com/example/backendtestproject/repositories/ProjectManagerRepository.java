@@ -1,17 +1,114 @@
 package com.example.backendtestproject.repositories;
 
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
 import com.example.backendtestproject.models.ProjectManager;
-import org.springframework.data.repository.CrudRepository;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjectManagerRepository extends CrudRepository<ProjectManager, Long> {
+public interface ProjectManagerRepository extends KeysetRepository<ProjectManager, Long> {
 
+    @Override
+    @EntityGraph("ProjectManager.list")
+    Iterable<ProjectManager> findAll();
+
+    @Override
+    @EntityGraph("ProjectManager.list")
+    Iterable<ProjectManager> findAll(Sort sort);
+
+    @Override
+    @EntityGraph("ProjectManager.list")
+    List<ProjectManager> findAll(Specification<ProjectManager> spec, Sort sort, int limit);
+
+    default List<ProjectManagerDto> findAllDtos(Specification<ProjectManager> spec, Sort sort) {
+        return findAll(spec, sort, ProjectManagerRepository::toDto);
+    }
+
+    default List<ProjectManagerDto> findAllDtos(Specification<ProjectManager> spec, Sort sort, int limit) {
+        return findAll(spec, sort, limit, ProjectManagerRepository::toDto);
+    }
+
+    default Stream<ProjectManagerDto> streamAllDtos(Specification<ProjectManager> spec, Sort sort, int fetchSize) {
+        return streamAll(spec, sort, fetchSize, ProjectManagerRepository::toDto);
+    }
+
+    @EntityGraph("ProjectManager.details")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     ProjectManager findByProjectManagerId(Long id);
 
     void deleteByProjectManagerId(Long id);
 
+    /**
+     * Project managers that programmers still point to stay until those programmers are archived too.
+     */
+    @Query(value = "SELECT pm.project_manager_id FROM project_managers pm " +
+            "WHERE pm.deleted = true AND pm.project_manager_id > :afterId AND pm.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.project_manager_id = pm.project_manager_id) " +
+            "ORDER BY pm.project_manager_id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("afterId") long afterId, @Param("cutoff") Instant cutoff,
+                                 @Param("limit") int limit);
+
+    @Query(value = "SELECT address_id FROM project_managers WHERE project_manager_id IN :ids AND address_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findAddressIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT birth_date_id FROM project_managers WHERE project_manager_id IN :ids AND birth_date_id IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findBirthDateIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_managers_archive"))
+    @Query(value = "INSERT INTO project_managers_archive (project_manager_id, name, address_id, birth_date_id, " +
+            "phone_number, email, project_id, version, deleted_at, archived_at) " +
+            "SELECT project_manager_id, name, address_id, birth_date_id, phone_number, email, project_id, version, " +
+            "deleted_at, CURRENT_TIMESTAMP(6) " +
+            "FROM project_managers WHERE project_manager_id IN :ids AND deleted = true", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_managers_archive"))
+    @Query(value = "DELETE FROM project_managers WHERE project_manager_id IN :ids AND deleted = true",
+            nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
     Optional<ProjectManager> findByEmail(String email);
+
+    @Query("select pm.email from ProjectManager pm where pm.email in :emails")
+    Set<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select pm.projectManagerId from ProjectManager pm where pm.project.projectId = :projectId")
+    List<Long> findProjectManagerIdsByProjectId(@Param("projectId") Long projectId);
+
+    private static Selection<ProjectManagerDto> toDto(Root<ProjectManager> root, CriteriaBuilder builder) {
+        Join<ProjectManager, Address> address = root.join("address", JoinType.LEFT);
+        Join<ProjectManager, BirthDate> birthDate = root.join("birthDate", JoinType.LEFT);
+
+        return builder.construct(ProjectManagerDto.class,
+                root.get("projectManagerId"), root.get("name"),
+                address.get("address_id"), address.get("zipCode"), address.get("city"), address.get("street"),
+                birthDate.get("birth_date_id"), birthDate.get("day"), birthDate.get("month"), birthDate.get("year"),
+                root.get("phoneNumber"), root.get("email"), root.get("deleted"), root.get("version"));
+    }
 }
@@ -1,13 +1,85 @@
 package com.example.backendtestproject.repositories;
 
+import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.models.Project;
-import org.springframework.data.repository.CrudRepository;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProjectRepository extends CrudRepository<Project, Long> {
+public interface ProjectRepository extends KeysetRepository<Project, Long> {
+
+    default List<ProjectDto> findAllDtos(Specification<Project> spec, Sort sort) {
+        return findAll(spec, sort, ProjectRepository::toDto);
+    }
+
+    default List<ProjectDto> findAllDtos(Specification<Project> spec, Sort sort, int limit) {
+        return findAll(spec, sort, limit, ProjectRepository::toDto);
+    }
 
+    default Stream<ProjectDto> streamAllDtos(Specification<Project> spec, Sort sort, int fetchSize) {
+        return streamAll(spec, sort, fetchSize, ProjectRepository::toDto);
+    }
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Project findByProjectId(Long id);
 
     void deleteByProjectId(Long id);
+
+    boolean existsByProjectId(Long id);
+
+    /**
+     * Edits a project without loading it. A non-null {@code version} has to match the stored one, and the version is
+     * bumped the way Hibernate bumps it for a loaded entity; zero means the project is gone or was changed meanwhile.
+     */
+    @Modifying
+    @Query("update Project p set p.client = :client, p.description = :description, p.startDate = :startDate, " +
+            "p.version = p.version + 1 " +
+            "where p.projectId = :id and p.deleted = false and (:version is null or p.version = :version)")
+    int updateIfVersion(@Param("id") Long id, @Param("client") String client, @Param("description") String description,
+                        @Param("startDate") String startDate, @Param("version") Long version);
+
+    /**
+     * Projects that programmers or project managers still point to stay until those are archived too.
+     */
+    @Query(value = "SELECT pr.project_id FROM projects pr " +
+            "WHERE pr.deleted = true AND pr.project_id > :afterId AND pr.deleted_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM programmers p WHERE p.project_id = pr.project_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM project_managers pm WHERE pm.project_id = pr.project_id) " +
+            "ORDER BY pr.project_id LIMIT :limit", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("afterId") long afterId, @Param("cutoff") Instant cutoff,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "projects_archive"))
+    @Query(value = "INSERT INTO projects_archive (project_id, client, start_date, description, version, deleted_at, " +
+            "archived_at) " +
+            "SELECT project_id, client, start_date, description, version, deleted_at, CURRENT_TIMESTAMP(6) " +
+            "FROM projects WHERE project_id IN :ids AND deleted = true", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "projects_archive"))
+    @Query(value = "DELETE FROM projects WHERE project_id IN :ids AND deleted = true", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
+    private static Selection<ProjectDto> toDto(Root<Project> root, CriteriaBuilder builder) {
+        return builder.construct(ProjectDto.class,
+                root.get("projectId"), root.get("client"), root.get("startDate"),
+                root.get("description"), root.get("deleted"), root.get("version"));
+    }
 }
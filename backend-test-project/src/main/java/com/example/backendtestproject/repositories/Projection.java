@@ -0,0 +1,15 @@
+package com.example.backendtestproject.repositories;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Builds the select clause of a criteria query, typically a constructor expression of a DTO,
+ * so that rows are read straight into DTOs instead of managed entities.
+ */
+@FunctionalInterface
+public interface Projection<T, R> {
+
+    Selection<R> toSelection(Root<T> root, CriteriaBuilder builder);
+}
@@ -0,0 +1,191 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.enums.Responsibility;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the list and details DTOs over R2DBC, so a request waiting for the database holds no thread. Every row is
+ * read with its address, birthdate and linked rows in one joined query, and soft deleted rows are left out the same
+ * way the entities leave them out. Writes stay on JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+    private static final String PROGRAMMER_COLUMNS = "p.programmer_id, p.name, p.phone_number, p.email, " +
+            "p.responsibility, p.is_apprentice, p.deleted, p.version, " +
+            "a.address_id, a.zip_code, a.city, a.street, b.birth_date_id, b.day, b.month, b.year ";
+
+    private static final String PROJECT_MANAGER_COLUMNS = "pm.project_manager_id, pm.name, pm.phone_number, " +
+            "pm.email, pm.deleted, pm.version, " +
+            "a.address_id, a.zip_code, a.city, a.street, b.birth_date_id, b.day, b.month, b.year ";
+
+    private static final String PROJECT_COLUMNS = "pr.project_id, pr.client, pr.start_date, pr.description, " +
+            "pr.deleted, pr.version ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<ProgrammerDto> findAllProgrammers() {
+        return databaseClient.sql("SELECT " + PROGRAMMER_COLUMNS +
+                        "FROM programmers p " +
+                        "LEFT JOIN addresses a ON a.address_id = p.address_id " +
+                        "LEFT JOIN birth_dates b ON b.birth_date_id = p.birth_date_id " +
+                        "WHERE p.deleted = false " +
+                        "ORDER BY p.programmer_id")
+                .map(row -> toProgrammerDto(row))
+                .all();
+    }
+
+    public Mono<ProgrammerDetailsDto> findProgrammerById(Long id) {
+        return databaseClient.sql("SELECT " + PROGRAMMER_COLUMNS + ", " +
+                        "pr.project_id AS project_project_id, pr.client AS project_client, " +
+                        "pr.start_date AS project_start_date, pr.description AS project_description, " +
+                        "pr.deleted AS project_deleted, pr.version AS project_version, " +
+                        "pm.project_manager_id AS manager_project_manager_id, pm.name AS manager_name, " +
+                        "pm.phone_number AS manager_phone_number, pm.email AS manager_email, " +
+                        "pm.deleted AS manager_deleted, pm.version AS manager_version, " +
+                        "pma.address_id AS manager_address_id, pma.zip_code AS manager_zip_code, " +
+                        "pma.city AS manager_city, pma.street AS manager_street, " +
+                        "pmb.birth_date_id AS manager_birth_date_id, pmb.day AS manager_day, " +
+                        "pmb.month AS manager_month, pmb.year AS manager_year " +
+                        "FROM programmers p " +
+                        "LEFT JOIN addresses a ON a.address_id = p.address_id " +
+                        "LEFT JOIN birth_dates b ON b.birth_date_id = p.birth_date_id " +
+                        "LEFT JOIN projects pr ON pr.project_id = p.project_id AND pr.deleted = false " +
+                        "LEFT JOIN project_managers pm ON pm.project_manager_id = p.project_manager_id AND pm.deleted = false " +
+                        "LEFT JOIN addresses pma ON pma.address_id = pm.address_id " +
+                        "LEFT JOIN birth_dates pmb ON pmb.birth_date_id = pm.birth_date_id " +
+                        "WHERE p.programmer_id = :id AND p.deleted = false")
+                .bind("id", id)
+                .map(row -> new ProgrammerDetailsDto(getLong(row, "programmer_id"), row.get("name", String.class),
+                        toAddressDto(row, ""), toBirthDateDto(row, ""),
+                        row.get("phone_number", String.class), row.get("email", String.class),
+                        toResponsibility(row.get("responsibility", String.class)),
+                        row.get("is_apprentice", Boolean.class), toProjectDto(row, "project_"),
+                        toProjectManagerDto(row, "manager_"), row.get("deleted", Boolean.class),
+                        getLong(row, "version")))
+                .one();
+    }
+
+    public Flux<ProjectManagerDto> findAllProjectManagers() {
+        return databaseClient.sql("SELECT " + PROJECT_MANAGER_COLUMNS +
+                        "FROM project_managers pm " +
+                        "LEFT JOIN addresses a ON a.address_id = pm.address_id " +
+                        "LEFT JOIN birth_dates b ON b.birth_date_id = pm.birth_date_id " +
+                        "WHERE pm.deleted = false " +
+                        "ORDER BY pm.project_manager_id")
+                .map(row -> toProjectManagerDto(row, ""))
+                .all();
+    }
+
+    public Mono<ProjectManagerDetailsDto> findProjectManagerById(Long id) {
+        return databaseClient.sql("SELECT " + PROJECT_MANAGER_COLUMNS + ", " +
+                        "pr.project_id AS project_project_id, pr.client AS project_client, " +
+                        "pr.start_date AS project_start_date, pr.description AS project_description, " +
+                        "pr.deleted AS project_deleted, pr.version AS project_version " +
+                        "FROM project_managers pm " +
+                        "LEFT JOIN addresses a ON a.address_id = pm.address_id " +
+                        "LEFT JOIN birth_dates b ON b.birth_date_id = pm.birth_date_id " +
+                        "LEFT JOIN projects pr ON pr.project_id = pm.project_id AND pr.deleted = false " +
+                        "WHERE pm.project_manager_id = :id AND pm.deleted = false")
+                .bind("id", id)
+                .map(row -> new ProjectManagerDetailsDto(getLong(row, "project_manager_id"),
+                        row.get("name", String.class), toAddressDto(row, ""), toBirthDateDto(row, ""),
+                        row.get("phone_number", String.class), row.get("email", String.class),
+                        toProjectDto(row, "project_"), row.get("deleted", Boolean.class),
+                        getLong(row, "version")))
+                .one();
+    }
+
+    public Flux<ProjectDto> findAllProjects() {
+        return databaseClient.sql("SELECT " + PROJECT_COLUMNS +
+                        "FROM projects pr " +
+                        "WHERE pr.deleted = false " +
+                        "ORDER BY pr.project_id")
+                .map(row -> toProjectDto(row, ""))
+                .all();
+    }
+
+    public Mono<ProjectDto> findProjectById(Long id) {
+        return databaseClient.sql("SELECT " + PROJECT_COLUMNS +
+                        "FROM projects pr " +
+                        "WHERE pr.project_id = :id AND pr.deleted = false")
+                .bind("id", id)
+                .map(row -> toProjectDto(row, ""))
+                .one();
+    }
+
+    private static ProgrammerDto toProgrammerDto(Readable row) {
+        return new ProgrammerDto(getLong(row, "programmer_id"), row.get("name", String.class),
+                toAddressDto(row, ""), toBirthDateDto(row, ""),
+                row.get("phone_number", String.class), row.get("email", String.class),
+                toResponsibility(row.get("responsibility", String.class)), row.get("is_apprentice", Boolean.class),
+                row.get("deleted", Boolean.class), getLong(row, "version"));
+    }
+
+    private static ProjectManagerDto toProjectManagerDto(Readable row, String prefix) {
+        Long projectManagerId = getLong(row, prefix + "project_manager_id");
+        if (projectManagerId == null) {
+            return null;
+        }
+
+        return new ProjectManagerDto(projectManagerId, row.get(prefix + "name", String.class),
+                toAddressDto(row, prefix), toBirthDateDto(row, prefix),
+                row.get(prefix + "phone_number", String.class), row.get(prefix + "email", String.class),
+                row.get(prefix + "deleted", Boolean.class), getLong(row, prefix + "version"));
+    }
+
+    private static ProjectDto toProjectDto(Readable row, String prefix) {
+        Long projectId = getLong(row, prefix + "project_id");
+        if (projectId == null) {
+            return null;
+        }
+
+        return new ProjectDto(projectId, row.get(prefix + "client", String.class),
+                row.get(prefix + "start_date", String.class), row.get(prefix + "description", String.class),
+                row.get(prefix + "deleted", Boolean.class), getLong(row, prefix + "version"));
+    }
+
+    private static AddressDto toAddressDto(Readable row, String prefix) {
+        Long addressId = getLong(row, prefix + "address_id");
+        if (addressId == null) {
+            return null;
+        }
+
+        return new AddressDto(addressId, row.get(prefix + "zip_code", Integer.class),
+                row.get(prefix + "city", String.class), row.get(prefix + "street", String.class));
+    }
+
+    private static BirthDateDto toBirthDateDto(Readable row, String prefix) {
+        Long birthDateId = getLong(row, prefix + "birth_date_id");
+        if (birthDateId == null) {
+            return null;
+        }
+
+        return new BirthDateDto(birthDateId, row.get(prefix + "day", Integer.class),
+                row.get(prefix + "month", Integer.class), row.get(prefix + "year", Integer.class));
+    }
+
+    /**
+     * The ids are INT columns, which the driver reads as Integer, while the DTOs hold them as Long.
+     */
+    private static Long getLong(Readable row, String name) {
+        Number value = row.get(name, Number.class);
+        return value == null ? null : value.longValue();
+    }
+
+    private static Responsibility toResponsibility(String responsibility) {
+        return responsibility == null ? null : Responsibility.valueOf(responsibility);
+    }
+}
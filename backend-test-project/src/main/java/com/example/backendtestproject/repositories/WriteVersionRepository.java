@@ -0,0 +1,22 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.models.WriteVersion;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WriteVersionRepository extends CrudRepository<WriteVersion, EntityType> {
+
+    @Modifying
+    @Query("update WriteVersion w set w.version = w.version + 1 where w.entityType = :entityType")
+    int increment(@Param("entityType") EntityType entityType);
+
+    List<WriteVersion> findByEntityTypeIn(Collection<EntityType> entityTypes);
+}
@@ -0,0 +1,159 @@
+package com.example.backendtestproject.seed;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Fills an empty database with generated data at production scale, with the seed profile:
+ * {@code mvn spring-boot:run -Dspring-boot.run.profiles=seed -Dspring-boot.run.arguments=--app.seed.programmers=1000000}.
+ * <p>
+ * Every project manager leads one project, and every programmer works in the team and on the project of one of them.
+ * The rows go in with multi-row inserts in id order, a chunk of project managers or programmers together with their
+ * addresses and birthdates, so the foreign keys hold after every statement. The id generators are moved past the
+ * seeded ids at the end. A database that already has data is left alone.
+ */
+@Component
+@Profile("seed")
+public class DatabaseSeeder implements ApplicationRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseSeeder.class);
+
+    private static final String[] TABLES = {"addresses", "birth_dates", "projects", "project_managers", "programmers"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedDataGenerator generator;
+    private final long projectManagers;
+    private final long programmers;
+    private final int batchSize;
+
+    public DatabaseSeeder(JdbcTemplate jdbcTemplate,
+                          @Value("${app.seed.seed:42}") long seed,
+                          @Value("${app.seed.project-managers:50000}") long projectManagers,
+                          @Value("${app.seed.programmers:1000000}") long programmers,
+                          @Value("${app.seed.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.generator = new SeedDataGenerator(seed);
+        this.projectManagers = projectManagers;
+        this.programmers = programmers;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String table : TABLES) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + table + ")", Boolean.class))) {
+                LOGGER.warn("Not seeding, the {} table already has rows", table);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+
+        insertInChunks(projectManagers, id -> {
+            ProjectDto project = generator.project(id);
+            return List.<Object[]>of(new Object[]{id, project.getClient(), project.getStartDate(), project.getDescription(), false, 0L});
+        }, "projects (project_id, client, start_date, description, deleted, version)");
+
+        insertInChunks(projectManagers, this::projectManagerRows,
+                "addresses (address_id, zip_code, city, street)",
+                "birth_dates (birth_date_id, day, month, year)",
+                "project_managers (project_manager_id, name, address_id, birth_date_id, phone_number, email, project_id, deleted, version)");
+
+        insertInChunks(programmers, this::programmerRows,
+                "addresses (address_id, zip_code, city, street)",
+                "birth_dates (birth_date_id, day, month, year)",
+                "programmers (programmer_id, name, address_id, birth_date_id, phone_number, email, project_id, " +
+                        "project_manager_id, responsibility, is_apprentice, deleted, version)");
+
+        moveIdGenerator("addresses", "address_id");
+        moveIdGenerator("birth_dates", "birth_date_id");
+        moveIdGenerator("projects", "project_id");
+        moveIdGenerator("project_managers", "project_manager_id");
+        moveIdGenerator("programmers", "programmer_id");
+
+        LOGGER.info("Seeded {} project managers with their projects and {} programmers in {} s",
+                projectManagers, programmers, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    // The project manager with id n has the address, birthdate and project with id n.
+    private List<Object[]> projectManagerRows(long id) {
+        ProjectManagerDto projectManager = generator.projectManager(id);
+        return List.of(
+                addressRow(id, projectManager.getAddress()),
+                birthDateRow(id, projectManager.getBirthDate()),
+                new Object[]{id, projectManager.getName(), id, id, projectManager.getPhoneNumber(),
+                        projectManager.getEmail(), id, false, 0L});
+    }
+
+    // The programmers' addresses and birthdates follow those of the project managers.
+    private List<Object[]> programmerRows(long id) {
+        ProgrammerDto programmer = generator.programmer(id);
+        long detailsId = projectManagers + id;
+        long projectManagerId = generator.projectManagerOf(id, projectManagers);
+        return List.of(
+                addressRow(detailsId, programmer.getAddress()),
+                birthDateRow(detailsId, programmer.getBirthDate()),
+                new Object[]{id, programmer.getName(), detailsId, detailsId, programmer.getPhoneNumber(),
+                        programmer.getEmail(), projectManagerId, projectManagerId,
+                        programmer.getResponsibility().name(), programmer.getIsApprentice(), false, 0L});
+    }
+
+    private static Object[] addressRow(long id, AddressDto address) {
+        return new Object[]{id, address.getZipCode(), address.getCity(), address.getStreet()};
+    }
+
+    private static Object[] birthDateRow(long id, BirthDateDto birthDate) {
+        return new Object[]{id, birthDate.getDay(), birthDate.getMonth(), birthDate.getYear()};
+    }
+
+    /**
+     * Generates the ids from one to count in chunks. Every id gives one row per table, in the order of the tables,
+     * and every chunk is one insert statement per table.
+     */
+    private void insertInChunks(long count, LongFunction<List<Object[]>> rows, String... tables) {
+        for (long first = 1; first <= count; first += batchSize) {
+            long last = Math.min(first + batchSize - 1, count);
+
+            List<List<Object[]>> chunk = new ArrayList<>();
+            for (long id = first; id <= last; id++) {
+                chunk.add(rows.apply(id));
+            }
+
+            for (int table = 0; table < tables.length; table++) {
+                int index = table;
+                insert(tables[index], chunk.stream().map(rowsOfId -> rowsOfId.get(index)).toList());
+            }
+        }
+    }
+
+    private void insert(String table, List<Object[]> rows) {
+        String values = "(" + String.join(", ", Collections.nCopies(rows.get(0).length, "?")) + ")";
+
+        List<Object> args = new ArrayList<>(rows.size() * rows.get(0).length);
+        rows.forEach(row -> Collections.addAll(args, row));
+
+        jdbcTemplate.update("INSERT INTO " + table + " VALUES " +
+                String.join(", ", Collections.nCopies(rows.size(), values)), args.toArray());
+    }
+
+    private void moveIdGenerator(String table, String idColumn) {
+        jdbcTemplate.update("UPDATE id_generators " +
+                "SET next_val = (SELECT COALESCE(MAX(" + idColumn + "), 0) + 51 FROM " + table + ") " +
+                "WHERE sequence_name = ?", table);
+    }
+}
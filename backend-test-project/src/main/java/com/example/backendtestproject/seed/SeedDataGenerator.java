@@ -0,0 +1,174 @@
+package com.example.backendtestproject.seed;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.enums.Responsibility;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates rows that pass the validator rules, the same ones for the same seed. Every row is drawn from a random
+ * stream of its own, keyed by the seed, the table and the id, so a row does not depend on how many rows were
+ * generated before it. Cities follow their population and names and email domains a Zipf distribution, so the sort
+ * and filter columns are as skewed as real data.
+ */
+public class SeedDataGenerator {
+    private static final LocalDate BIRTH_DATES_FROM = LocalDate.of(1958, 1, 1);
+    private static final LocalDate BIRTH_DATES_TO = LocalDate.of(2005, 12, 31);
+    private static final LocalDate START_DATES_FROM = LocalDate.of(2015, 1, 1);
+    private static final LocalDate START_DATES_TO = LocalDate.of(2025, 12, 31);
+    private static final DateTimeFormatter START_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final long PROJECT_SALT = 0x5EED_0001L;
+    private static final long PROJECT_MANAGER_SALT = 0x5EED_0002L;
+    private static final long PROGRAMMER_SALT = 0x5EED_0003L;
+
+    private static final String[] CITIES = {"Budapest", "Debrecen", "Szeged", "Miskolc", "Pécs", "Győr", "Nyíregyháza",
+            "Kecskemét", "Székesfehérvár", "Szombathely", "Szolnok", "Érd", "Tatabánya", "Kaposvár", "Sopron",
+            "Veszprém", "Békéscsaba", "Zalaegerszeg", "Eger", "Nagykanizsa"};
+    private static final int[] CITY_ZIP_CODES = {1011, 4024, 6720, 3525, 7621, 9021, 4400, 6000, 8000, 9700, 5000,
+            2030, 2800, 7400, 9400, 8200, 5600, 8900, 3300, 8800};
+    // Thousands of inhabitants.
+    private static final Weights CITY_WEIGHTS = new Weights(new double[]{1706, 199, 160, 150, 139, 130, 116, 109, 94,
+            78, 68, 68, 64, 59, 62, 57, 57, 55, 51, 46});
+
+    private static final String[] FIRST_NAMES = {"László", "István", "József", "Zoltán", "Sándor", "Gábor", "Ferenc",
+            "Attila", "Péter", "Tamás", "Mária", "Erzsébet", "Katalin", "Éva", "Ilona", "Anna", "Zsuzsanna", "Andrea",
+            "Judit", "Ágnes", "Dávid", "Bence", "Máté", "Levente", "Ádám", "Eszter", "Réka", "Dóra", "Nóra", "Petra"};
+    private static final String[] LAST_NAMES = {"Nagy", "Kovács", "Tóth", "Szabó", "Horváth", "Varga", "Kiss",
+            "Molnár", "Németh", "Farkas", "Balogh", "Papp", "Takács", "Juhász", "Lakatos", "Mészáros", "Oláh", "Simon",
+            "Rácz", "Fekete", "Szilágyi", "Török", "Fehér", "Balázs", "Gál", "Kis", "Szűcs", "Kocsis", "Orsós", "Pintér"};
+    private static final String[] STREETS = {"Kossuth Lajos utca", "Petőfi Sándor utca", "Rákóczi út", "Ady Endre utca",
+            "Arany János utca", "Dózsa György út", "Széchenyi István tér", "Bajcsy-Zsilinszky út", "Jókai Mór utca",
+            "Béke utca", "Fő utca", "Kossuth tér", "Táncsics Mihály utca", "Deák Ferenc tér", "Szent István körút"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "freemail.com", "outlook.com", "yahoo.com",
+            "company.com", "icloud.com", "proton.com", "devshop.com"};
+    private static final String[] CLIENTS = {"Telekom", "OTP", "MOL", "Richter", "Wizz", "Magyar Posta", "MÁV",
+            "Audi", "Bosch", "Ericsson", "Nokia", "Prezi", "LogMeIn", "Ustream", "NNG", "Graphisoft", "Emarsys",
+            "Morgan Stanley", "BlackRock", "Citi"};
+    private static final String[] PROJECT_KINDS = {"mobile app", "web shop", "data warehouse", "billing system",
+            "CRM integration", "payment gateway", "internal portal", "reporting platform", "API gateway",
+            "migration to the cloud"};
+
+    private static final Weights FIRST_NAME_WEIGHTS = Weights.zipf(FIRST_NAMES.length, 0.8);
+    private static final Weights LAST_NAME_WEIGHTS = Weights.zipf(LAST_NAMES.length, 1.0);
+    private static final Weights STREET_WEIGHTS = Weights.zipf(STREETS.length, 0.6);
+    private static final Weights EMAIL_DOMAIN_WEIGHTS = Weights.zipf(EMAIL_DOMAINS.length, 1.2);
+    private static final Weights CLIENT_WEIGHTS = Weights.zipf(CLIENTS.length, 1.0);
+
+    private static final char[] PHONE_NETWORKS = {'2', '3', '5', '7'};
+    private static final Responsibility[] RESPONSIBILITIES = Responsibility.values();
+
+    private final long seed;
+
+    public SeedDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public ProjectDto project(long projectId) {
+        SplittableRandom random = random(PROJECT_SALT, projectId);
+        String client = CLIENTS[CLIENT_WEIGHTS.pick(random)];
+        String kind = PROJECT_KINDS[random.nextInt(PROJECT_KINDS.length)];
+
+        return new ProjectDto(null, client, START_DATE_FORMAT.format(date(random, START_DATES_FROM, START_DATES_TO)),
+                "The " + kind + " of " + client, false, 0L);
+    }
+
+    public ProjectManagerDto projectManager(long projectManagerId) {
+        SplittableRandom random = random(PROJECT_MANAGER_SALT, projectManagerId);
+        String firstName = FIRST_NAMES[FIRST_NAME_WEIGHTS.pick(random)];
+        String lastName = LAST_NAMES[LAST_NAME_WEIGHTS.pick(random)];
+
+        return new ProjectManagerDto(null, lastName + " " + firstName, address(random), birthDate(random),
+                phoneNumber(random), email(random, firstName, lastName, "pm" + projectManagerId), false, 0L);
+    }
+
+    public ProgrammerDto programmer(long programmerId) {
+        SplittableRandom random = random(PROGRAMMER_SALT, programmerId);
+        String firstName = FIRST_NAMES[FIRST_NAME_WEIGHTS.pick(random)];
+        String lastName = LAST_NAMES[LAST_NAME_WEIGHTS.pick(random)];
+
+        return new ProgrammerDto(null, lastName + " " + firstName, address(random), birthDate(random),
+                phoneNumber(random), email(random, firstName, lastName, Long.toString(programmerId)),
+                RESPONSIBILITIES[random.nextInt(RESPONSIBILITIES.length)], random.nextInt(5) == 0, false, 0L);
+    }
+
+    /**
+     * The project manager of the given programmer, out of project managers numbered from one.
+     */
+    public long projectManagerOf(long programmerId, long projectManagers) {
+        return random(PROGRAMMER_SALT, programmerId).split().nextLong(projectManagers) + 1;
+    }
+
+    private AddressDto address(SplittableRandom random) {
+        int city = CITY_WEIGHTS.pick(random);
+        return new AddressDto(null, CITY_ZIP_CODES[city] + random.nextInt(100), CITIES[city],
+                STREETS[STREET_WEIGHTS.pick(random)] + " " + (random.nextInt(120) + 1));
+    }
+
+    private static BirthDateDto birthDate(SplittableRandom random) {
+        LocalDate date = date(random, BIRTH_DATES_FROM, BIRTH_DATES_TO);
+        return new BirthDateDto(null, date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+
+    private static String phoneNumber(SplittableRandom random) {
+        return "+36" + PHONE_NETWORKS[random.nextInt(PHONE_NETWORKS.length)] + "0" + (1_000_000 + random.nextInt(9_000_000));
+    }
+
+    // The id in the local part keeps the emails unique however often a name repeats.
+    private static String email(SplittableRandom random, String firstName, String lastName, String id) {
+        return ascii(firstName) + "." + ascii(lastName) + "." + id + "@" + EMAIL_DOMAINS[EMAIL_DOMAIN_WEIGHTS.pick(random)];
+    }
+
+    private static String ascii(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z]", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDate date(SplittableRandom random, LocalDate from, LocalDate to) {
+        return from.plusDays(random.nextLong(to.toEpochDay() - from.toEpochDay() + 1));
+    }
+
+    private SplittableRandom random(long salt, long id) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + salt * 0xC2B2AE3D27D4EB4FL + id);
+    }
+
+    /**
+     * Picks an index with a probability proportional to its weight.
+     */
+    private static final class Weights {
+        private final double[] cumulative;
+
+        Weights(double[] weights) {
+            cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        static Weights zipf(int size, double exponent) {
+            double[] weights = new double[size];
+            for (int rank = 1; rank <= size; rank++) {
+                weights[rank - 1] = 1 / Math.pow(rank, exponent);
+            }
+            return new Weights(weights);
+        }
+
+        int pick(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+            return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.CacheRegionStatisticsDto;
+import com.example.backendtestproject.dtos.DetailsCacheStatisticsDto;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+    List<CacheRegionStatisticsDto> findAll();
+
+    List<DetailsCacheStatisticsDto> findDetailsCaches();
+}
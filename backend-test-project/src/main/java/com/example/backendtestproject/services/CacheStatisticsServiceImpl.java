@@ -0,0 +1,69 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.CacheRegionStatisticsDto;
+import com.example.backendtestproject.dtos.DetailsCacheStatisticsDto;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Timed(MetricNames.SERVICE)
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<CacheRegionStatisticsDto> findAll() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheStatisticsServiceImpl::toDto)
+                .toList();
+    }
+
+    @Override
+    public List<DetailsCacheStatisticsDto> findDetailsCaches() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(CacheStatisticsServiceImpl::toDto)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static DetailsCacheStatisticsDto toDto(Cache cache) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return null;
+        }
+
+        CacheStats stats = nativeCache.stats();
+
+        return new DetailsCacheStatisticsDto(cache.getName(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), nativeCache.estimatedSize());
+    }
+
+    private static CacheRegionStatisticsDto toDto(CacheRegionStatistics region) {
+        long lookups = region.getHitCount() + region.getMissCount();
+        double hitRatio = lookups == 0 ? 0.0 : (double) region.getHitCount() / lookups;
+
+        return new CacheRegionStatisticsDto(region.getRegionName(), region.getHitCount(), region.getMissCount(),
+                region.getPutCount(), hitRatio);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportProgrammers(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportProjectManagers(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportProjects(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,133 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.enums.ExportFormat;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes every row to the output as soon as it is read, so the memory used does not depend on the table size.
+ * The rows are read as DTO projections, which keeps them out of the persistence context. MySQL Connector/J takes
+ * the {@code Integer.MIN_VALUE} fetch size as a request to stream the result row by row. That needs no connection
+ * property, so every other query keeps its plain client-side statements. The export is timed by the controller
+ * around the whole response body, not here.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+    private static final List<String> PROGRAMMER_COLUMNS = List.of("programmerId", "name", "zipCode", "city", "street",
+            "day", "month", "year", "phoneNumber", "email", "responsibility", "isApprentice");
+
+    private static final List<String> PROJECT_MANAGER_COLUMNS = List.of("projectManagerId", "name", "zipCode", "city",
+            "street", "day", "month", "year", "phoneNumber", "email");
+
+    private static final List<String> PROJECT_COLUMNS = List.of("projectId", "client", "startDate", "description");
+
+    private final ProgrammerRepository programmerRepository;
+    private final ProjectManagerRepository projectManagerRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProgrammers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ProgrammerDto> programmers = programmerRepository
+                .streamAllDtos(null, Sort.by("programmerId"), ProgrammingConstants.exportFetchSize)) {
+            write(format, out, programmers, PROGRAMMER_COLUMNS, programmer -> {
+                AddressDto address = programmer.getAddress() == null ? new AddressDto() : programmer.getAddress();
+                BirthDateDto birthDate = programmer.getBirthDate() == null ? new BirthDateDto() : programmer.getBirthDate();
+                return Arrays.asList(programmer.getProgrammerId(), programmer.getName(),
+                        address.getZipCode(), address.getCity(), address.getStreet(),
+                        birthDate.getDay(), birthDate.getMonth(), birthDate.getYear(),
+                        programmer.getPhoneNumber(), programmer.getEmail(),
+                        programmer.getResponsibility(), programmer.getIsApprentice());
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProjectManagers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ProjectManagerDto> projectManagers = projectManagerRepository
+                .streamAllDtos(null, Sort.by("projectManagerId"), ProgrammingConstants.exportFetchSize)) {
+            write(format, out, projectManagers, PROJECT_MANAGER_COLUMNS, projectManager -> {
+                AddressDto address = projectManager.getAddress() == null ? new AddressDto() : projectManager.getAddress();
+                BirthDateDto birthDate = projectManager.getBirthDate() == null ? new BirthDateDto() : projectManager.getBirthDate();
+                return Arrays.asList(projectManager.getProjectManagerId(), projectManager.getName(),
+                        address.getZipCode(), address.getCity(), address.getStreet(),
+                        birthDate.getDay(), birthDate.getMonth(), birthDate.getYear(),
+                        projectManager.getPhoneNumber(), projectManager.getEmail());
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProjects(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ProjectDto> projects = projectRepository
+                .streamAllDtos(null, Sort.by("projectId"), ProgrammingConstants.exportFetchSize)) {
+            write(format, out, projects, PROJECT_COLUMNS, project -> Arrays.asList(project.getProjectId(),
+                    project.getClient(), project.getStartDate(), project.getDescription()));
+        }
+    }
+
+    private <T> void write(ExportFormat format, OutputStream out, Stream<T> rows,
+                           List<String> columns, Function<T, List<?>> toRecord) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+
+        if (format == ExportFormat.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            CsvWriter csvWriter = new CsvWriter(writer);
+            csvWriter.writeRecord(columns);
+            while (iterator.hasNext()) {
+                csvWriter.writeRecord(toRecord.apply(iterator.next()));
+            }
+            writer.flush();
+            return;
+        }
+
+        boolean empty = !iterator.hasNext();
+
+        // Flushing after every value would turn each row into its own network write.
+        try (SequenceWriter sequenceWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (iterator.hasNext()) {
+                sequenceWriter.write(iterator.next());
+            }
+        }
+
+        if (!empty) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backendtestproject.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396): members of the patch replace the members of the target, {@code null}
+ * removes them and nested objects are merged recursively. Read-only members are skipped at any depth.
+ */
+final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Patches a DTO through its JSON form. Empty when the patch is not an object or its values do not fit the DTO.
+     */
+    static <T> Optional<T> apply(ObjectMapper objectMapper, T target, JsonNode patch, Class<T> type,
+                                 Set<String> readOnlyFields) {
+        if (!patch.isObject()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.treeToValue(
+                    apply(objectMapper.valueToTree(target), patch, readOnlyFields), type));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The top-level members whose value differs. Both sides go through the same serialization, so a patch that
+     * only spells an existing value differently, like {@code 1000.0} for {@code 1000}, changes nothing.
+     */
+    static Set<String> changedFields(ObjectMapper objectMapper, Object before, Object after) {
+        JsonNode beforeNode = objectMapper.valueToTree(before);
+        JsonNode afterNode = objectMapper.valueToTree(after);
+
+        Set<String> names = new HashSet<>();
+        beforeNode.fieldNames().forEachRemaining(names::add);
+        afterNode.fieldNames().forEachRemaining(names::add);
+        names.removeIf(name -> beforeNode.path(name).equals(afterNode.path(name)));
+
+        return names;
+    }
+
+    /**
+     * Returns the patched copy of the target, the target itself is left untouched.
+     */
+    static JsonNode apply(JsonNode target, JsonNode patch, Set<String> readOnlyFields) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+
+            if (readOnlyFields.contains(field.getKey())) {
+                continue;
+            }
+
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue(), readOnlyFields));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The version the patch was based on, when it names one.
+     */
+    static Long version(JsonNode patch) {
+        JsonNode version = patch.get("version");
+        return version == null || version.isNull() ? null : version.asLong();
+    }
+}
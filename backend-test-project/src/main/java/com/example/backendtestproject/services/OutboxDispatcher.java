@@ -0,0 +1,150 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ChangeEventDto;
+import com.example.backendtestproject.models.OutboxEvent;
+import com.example.backendtestproject.outbox.ChangeEventSink;
+import com.example.backendtestproject.repositories.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the outbox to every {@link ChangeEventSink} in batches. A short transaction claims a batch for
+ * {@link ProgrammingConstants#outboxClaimSeconds}, the sinks get it with no transaction or connection held, and a
+ * second transaction deletes it. A failed delivery releases the claim and a crash lets it run out, so the batch stays
+ * for a later run: events arrive at least once, in id order, and possibly more than once.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<ChangeEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong failedDeliveries = new AtomicLong();
+    private final AtomicLong lastDeliveryLagMillis = new AtomicLong();
+    private final AtomicLong maxDeliveryLagMillis = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}", initialDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void runScheduled() {
+        dispatchPending();
+    }
+
+    /**
+     * Delivers batches until the outbox is drained or a sink fails; returns the number of delivered events.
+     */
+    public long dispatchPending() {
+        long delivered = 0;
+
+        while (true) {
+            List<OutboxEvent> batch;
+            try {
+                batch = transactionTemplate.execute(status -> claimBatch());
+            } catch (RuntimeException e) {
+                failedDeliveries.incrementAndGet();
+                LOGGER.warn("Claiming the next outbox batch failed", e);
+                return delivered;
+            }
+
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+
+            List<Long> ids = batch.stream().map(OutboxEvent::getOutboxEventId).toList();
+            try {
+                deliver(batch);
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteDelivered(ids));
+            } catch (RuntimeException e) {
+                failedDeliveries.incrementAndGet();
+                LOGGER.warn("Delivering {} outbox events from id {} failed, they stay for a later run",
+                        ids.size(), ids.get(0), e);
+                releaseClaim(ids);
+                return delivered;
+            }
+
+            recordDelivery(batch);
+
+            delivered += batch.size();
+            if (batch.size() < ProgrammingConstants.outboxBatchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    public long deliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    public long failedDeliveries() {
+        return failedDeliveries.get();
+    }
+
+    public long lastDeliveryLagMillis() {
+        return lastDeliveryLagMillis.get();
+    }
+
+    public long maxDeliveryLagMillis() {
+        return maxDeliveryLagMillis.get();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = outboxEventRepository
+                .findNextBatch(now, PageRequest.of(0, ProgrammingConstants.outboxBatchSize));
+
+        if (!batch.isEmpty()) {
+            outboxEventRepository.updateClaimedUntil(batch.stream().map(OutboxEvent::getOutboxEventId).toList(),
+                    now.plusSeconds(ProgrammingConstants.outboxClaimSeconds));
+        }
+
+        return batch;
+    }
+
+    private void deliver(List<OutboxEvent> batch) {
+        List<ChangeEventDto> events = batch.stream()
+                .map(event -> new ChangeEventDto(event.getOutboxEventId(), event.getEntityType(),
+                        event.getEntityId(), event.getChangeType(), event.getCreatedAt()))
+                .toList();
+
+        for (ChangeEventSink sink : sinks) {
+            try {
+                sink.deliver(events);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // A claim that cannot be released runs out instead, which only delays the retry.
+    private void releaseClaim(List<Long> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.updateClaimedUntil(ids, null));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Releasing the claim on {} outbox events failed", ids.size(), e);
+        }
+    }
+
+    // The oldest event of a batch waited the longest, so its age is the lag of the whole batch.
+    private void recordDelivery(List<OutboxEvent> batch) {
+        long lag = Math.max(0, Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+
+        deliveredEvents.addAndGet(batch.size());
+        lastDeliveryLagMillis.set(lag);
+        maxDeliveryLagMillis.accumulateAndGet(lag, Math::max);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.OutboxStatisticsDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+
+import java.util.Collection;
+
+public interface OutboxService {
+    void record(EntityType entityType, ChangeType changeType, Long entityId);
+
+    void record(EntityType entityType, ChangeType changeType, Collection<Long> entityIds);
+
+    OutboxStatisticsDto statistics();
+}
@@ -0,0 +1,61 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.OutboxStatisticsDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.models.OutboxEvent;
+import com.example.backendtestproject.repositories.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@Timed(MetricNames.SERVICE)
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+
+    // Events must commit or roll back together with the change they describe, so there has to be a transaction.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EntityType entityType, ChangeType changeType, Long entityId) {
+        record(entityType, changeType, List.of(entityId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EntityType entityType, ChangeType changeType, Collection<Long> entityIds) {
+        Instant now = Instant.now();
+
+        outboxEventRepository.saveAll(entityIds.stream()
+                .map(entityId -> OutboxEvent.builder()
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .changeType(changeType)
+                        .createdAt(now)
+                        .build())
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OutboxStatisticsDto statistics() {
+        Instant oldestCreatedAt = outboxEventRepository.findOldestCreatedAt();
+        long oldestPendingAge = oldestCreatedAt == null
+                ? 0
+                : Math.max(0, Duration.between(oldestCreatedAt, Instant.now()).toMillis());
+
+        return new OutboxStatisticsDto(outboxEventRepository.count(), oldestPendingAge,
+                outboxDispatcher.deliveredEvents(), outboxDispatcher.failedDeliveries(),
+                outboxDispatcher.lastDeliveryLagMillis(), outboxDispatcher.maxDeliveryLagMillis());
+    }
+}
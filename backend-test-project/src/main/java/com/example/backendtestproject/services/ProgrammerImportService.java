@@ -0,0 +1,15 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ImportJobDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ProgrammerImportService {
+    ImportJobDto start(String fileName, InputStream content) throws IOException;
+
+    ImportJobDto findById(Long id);
+
+    ValidatorResultDto resume(Long id);
+}
@@ -0,0 +1,104 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ImportJobDto;
+import com.example.backendtestproject.dtos.ImportRowErrorDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ImportStatus;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.models.ImportJob;
+import com.example.backendtestproject.repositories.ImportJobErrorRepository;
+import com.example.backendtestproject.repositories.ImportJobRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Timed(MetricNames.SERVICE)
+@RequiredArgsConstructor
+public class ProgrammerImportServiceImpl implements ProgrammerImportService {
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final ProgrammerImportWorker programmerImportWorker;
+
+    @Override
+    public ImportJobDto start(String fileName, InputStream content) throws IOException {
+        Path file = Files.createTempFile("programmer-import-", ".csv");
+        Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+
+        ImportJob importJob = importJobRepository.save(ImportJob.builder()
+                .fileName(fileName)
+                .filePath(file.toString())
+                .status(ImportStatus.QUEUED)
+                .build());
+
+        programmerImportWorker.runAsync(importJob.getImportJobId());
+
+        return toDto(importJob, List.of());
+    }
+
+    @Override
+    public ImportJobDto findById(Long id) {
+        ImportJob importJob = importJobRepository.findById(id).orElse(null);
+
+        if (importJob == null) {
+            return null;
+        }
+
+        List<ImportRowErrorDto> rejectedRows = importJobErrorRepository.findTop100ByImportJobIdOrderByRowIndex(id).stream()
+                .map(error -> new ImportRowErrorDto(error.getRowIndex(), error.getMessage()))
+                .toList();
+
+        return toDto(importJob, rejectedRows);
+    }
+
+    @Override
+    public ValidatorResultDto resume(Long id) {
+        if (!importJobRepository.existsById(id)) {
+            return new ValidatorResultDto(false, ProgrammingConstants.noImportJobFound);
+        }
+
+        if (importJobRepository.requeueFailed(id) == 0) {
+            return new ValidatorResultDto(false, ProgrammingConstants.importJobNotResumable);
+        }
+
+        programmerImportWorker.runAsync(id);
+
+        return new ValidatorResultDto(true, ProgrammingConstants.importJobResumed);
+    }
+
+    /**
+     * Jobs still queued or running at startup lost their worker with the previous process.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failUnfinishedJobs() {
+        importJobRepository.failUnfinished(ProgrammingConstants.importInterrupted);
+    }
+
+    private ImportJobDto toDto(ImportJob importJob, List<ImportRowErrorDto> rejectedRows) {
+        double rowsPerSecond = 0;
+        if (importJob.getStartedAt() != null) {
+            Instant end = Objects.requireNonNullElseGet(importJob.getFinishedAt(), Instant::now);
+            long millis = Duration.between(importJob.getStartedAt(), end).toMillis();
+            if (millis > 0) {
+                rowsPerSecond = (importJob.getCheckpointRow() - importJob.getRunStartRow()) * 1000.0 / millis;
+            }
+        }
+
+        return new ImportJobDto(importJob.getImportJobId(), importJob.getFileName(), importJob.getStatus(),
+                importJob.getCheckpointRow(), importJob.getRowsImported(), importJob.getRowsRejected(), rowsPerSecond,
+                importJob.getStartedAt(), importJob.getFinishedAt(), importJob.getErrorMessage(), rejectedRows);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.enums.ImportStatus;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.models.ImportJob;
+import com.example.backendtestproject.models.ImportJobError;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.repositories.ImportJobErrorRepository;
+import com.example.backendtestproject.repositories.ImportJobRepository;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Runs programmer CSV imports in chunks; every chunk commits its rows together with the job checkpoint,
+ * so a failed import continues after the last committed row when it is resumed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProgrammerImportWorker {
+    private static final List<String> COLUMNS = List.of("name", "zipCode", "city", "street", "day", "month", "year",
+            "phoneNumber", "email", "responsibility", "isApprentice");
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final ProgrammerRepository programmerRepository;
+    private final ValidatorService validatorService;
+    private final ProgrammerMapper programmerMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteVersionService writeVersionService;
+    private final OutboxService outboxService;
+
+    @Async
+    public void runAsync(Long importJobId) {
+        run(importJobId);
+    }
+
+    public void run(Long importJobId) {
+        ImportJob importJob = importJobRepository.findById(importJobId).orElse(null);
+        if (importJob == null) {
+            return;
+        }
+
+        importJob.setStatus(ImportStatus.RUNNING);
+        importJob.setStartedAt(Instant.now());
+        importJob.setFinishedAt(null);
+        importJob.setErrorMessage(null);
+        importJob.setRunStartRow(importJob.getCheckpointRow());
+        importJob = importJobRepository.save(importJob);
+
+        try (Reader reader = Files.newBufferedReader(Path.of(importJob.getFilePath()), StandardCharsets.UTF_8)) {
+            CsvReader csvReader = new CsvReader(reader);
+            Map<String, Integer> columns = readHeader(csvReader.readRecord());
+
+            List<ImportRow> chunk = new ArrayList<>(ProgrammingConstants.importChunkSize);
+            long rowIndex = 0;
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+
+                rowIndex++;
+                if (rowIndex <= importJob.getCheckpointRow()) {
+                    continue;
+                }
+
+                chunk.add(new ImportRow(rowIndex, record));
+                if (chunk.size() == ProgrammingConstants.importChunkSize) {
+                    commitChunk(importJob, columns, chunk);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                commitChunk(importJob, columns, chunk);
+            }
+
+            importJob.setStatus(ImportStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            importJob.setStatus(ImportStatus.FAILED);
+            importJob.setErrorMessage(Objects.requireNonNullElse(e.getMessage(), e.getClass().getName()));
+        }
+
+        importJob.setFinishedAt(Instant.now());
+        importJobRepository.save(importJob);
+    }
+
+    private void commitChunk(ImportJob importJob, Map<String, Integer> columns, List<ImportRow> chunk) {
+        List<ImportJobError> errors = new ArrayList<>();
+        List<Long> parsedRows = new ArrayList<>();
+        List<ProgrammerDto> programmers = new ArrayList<>();
+
+        for (ImportRow row : chunk) {
+            if (row.values().size() < columns.size()) {
+                errors.add(new ImportJobError(null, importJob.getImportJobId(), row.index(), ProgrammingConstants.importRowInvalid));
+            } else {
+                parsedRows.add(row.index());
+                programmers.add(toProgrammerDto(columns, row.values()));
+            }
+        }
+
+        long checkpointRow = chunk.get(chunk.size() - 1).index();
+
+        long imported = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            List<ValidatorResultDto> results = programmers.isEmpty()
+                    ? List.of()
+                    : validatorService.areProgrammersValid(programmers);
+
+            List<Programmer> validProgrammers = new ArrayList<>();
+            for (int i = 0; i < programmers.size(); i++) {
+                if (results.get(i).isValid()) {
+                    validProgrammers.add(programmerMapper.toEntity(programmers.get(i)));
+                } else {
+                    errors.add(new ImportJobError(null, importJob.getImportJobId(), parsedRows.get(i), results.get(i).message()));
+                }
+            }
+
+            errors.sort(Comparator.comparing(ImportJobError::getRowIndex));
+
+            programmerRepository.saveAll(validProgrammers);
+            if (!validProgrammers.isEmpty()) {
+                eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROGRAMMERS));
+                writeVersionService.bump(EntityType.PROGRAMMER);
+                outboxService.record(EntityType.PROGRAMMER, ChangeType.CREATED,
+                        validProgrammers.stream().map(Programmer::getProgrammerId).toList());
+            }
+            importJobErrorRepository.saveAll(errors);
+            importJobRepository.updateProgress(importJob.getImportJobId(), checkpointRow,
+                    validProgrammers.size(), errors.size());
+
+            return (long) validProgrammers.size();
+        }));
+
+        // The in-memory job only moves forward once the chunk is committed.
+        importJob.setCheckpointRow(checkpointRow);
+        importJob.setRowsImported(importJob.getRowsImported() + imported);
+        importJob.setRowsRejected(importJob.getRowsRejected() + chunk.size() - imported);
+    }
+
+    private static Map<String, Integer> readHeader(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                // Spreadsheet exports often start with a byte order mark.
+                columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        for (String column : COLUMNS) {
+            if (!columns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException(ProgrammingConstants.importHeaderInvalid);
+            }
+        }
+
+        return columns;
+    }
+
+    /**
+     * Unparsable values are left empty, so that the validator reports them with its usual messages.
+     */
+    private static ProgrammerDto toProgrammerDto(Map<String, Integer> columns, List<String> values) {
+        ProgrammerDto programmer = new ProgrammerDto();
+        programmer.setName(text(columns, values, "name"));
+        programmer.setAddress(new AddressDto(null, number(columns, values, "zipCode"),
+                text(columns, values, "city"), text(columns, values, "street")));
+        programmer.setBirthDate(new BirthDateDto(null, number(columns, values, "day"),
+                number(columns, values, "month"), number(columns, values, "year")));
+        programmer.setPhoneNumber(text(columns, values, "phoneNumber"));
+        programmer.setEmail(text(columns, values, "email"));
+
+        String responsibility = text(columns, values, "responsibility");
+        programmer.setResponsibility(Arrays.stream(Responsibility.values())
+                .filter(value -> value.name().equalsIgnoreCase(responsibility))
+                .findFirst()
+                .orElse(null));
+
+        String isApprentice = text(columns, values, "isApprentice");
+        programmer.setIsApprentice("true".equalsIgnoreCase(isApprentice) ? Boolean.TRUE
+                : "false".equalsIgnoreCase(isApprentice) ? Boolean.FALSE : null);
+
+        return programmer;
+    }
+
+    private static String text(Map<String, Integer> columns, List<String> values, String column) {
+        String value = values.get(columns.get(column.toLowerCase(Locale.ROOT))).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer number(Map<String, Integer> columns, List<String> values, String column) {
+        String value = text(columns, values, column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record ImportRow(long index, List<String> values) {
+    }
+}
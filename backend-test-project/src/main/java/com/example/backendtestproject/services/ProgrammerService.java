@@ -1,23 +1,31 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
 import com.example.backendtestproject.dtos.ProgrammerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 
 public interface ProgrammerService {
     ValidatorResultDto save(ProgrammerDto programmer);
 
+    List<ValidatorResultDto> saveAll(List<ProgrammerDto> programmers);
+
     ValidatorResultDto saveByProjectManagerId(ProgrammerDto programmer, Long projectManagerId);
 
     List<ProgrammerDto> findAll();
 
     List<ProgrammerDto> findAllSorted(String sortBy, String order);
 
+    PageDto<ProgrammerDto> findPage(String sortBy, String order, int limit, String cursor);
+
     ProgrammerDetailsDto findById(Long id);
 
     ValidatorResultDto editById(Long id, ProgrammerDto programmer);
 
+    ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion);
+
     boolean deleteById(Long id);
 }
@@ -1,32 +1,55 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
 import com.example.backendtestproject.dtos.ProgrammerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.enums.SortableField;
-import com.example.backendtestproject.models.Address;
-import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.metrics.MetricNames;
 import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.ProjectManager;
+import com.example.backendtestproject.repositories.KeysetCursor;
+import com.example.backendtestproject.repositories.KeysetSpecification;
 import com.example.backendtestproject.repositories.ProgrammerRepository;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Timed(MetricNames.SERVICE)
 @RequiredArgsConstructor
 public class ProgrammerServiceImpl implements ProgrammerService {
+    private static final Set<String> READ_ONLY_FIELDS = Set.of("programmerId", "address_id", "birth_date_id",
+            "deleted", "version");
+    private static final Set<String> CHILD_FIELDS = Set.of("address", "birthDate");
+
     private final ProgrammerRepository programmerRepository;
     private final ProjectManagerRepository projectManagerRepository;
     private final ValidatorService validatorService;
-    private final ModelMapper modelMapper;
+    private final ProgrammerMapper programmerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteVersionService writeVersionService;
+    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -34,20 +57,38 @@ public class ProgrammerServiceImpl implements ProgrammerService {
         ValidatorResultDto result = validatorService.isProgrammerValid(programmer);
 
         if (result.isValid()) {
-            Programmer modelProgrammer = modelMapper.map(programmer, Programmer.class);
+            Programmer modelProgrammer = programmerMapper.toEntity(programmer);
+
+            programmerRepository.save(modelProgrammer);
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROGRAMMERS));
+            writeVersionService.bump(EntityType.PROGRAMMER);
+            outboxService.record(EntityType.PROGRAMMER, ChangeType.CREATED, modelProgrammer.getProgrammerId());
+        }
 
-            if (programmer.getProgrammerId() == null) {
-                Address modelAddress = modelProgrammer.getAddress();
-                modelAddress.setProgrammer(modelProgrammer);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<ValidatorResultDto> saveAll(List<ProgrammerDto> programmers) {
+        List<ValidatorResultDto> results = validatorService.areProgrammersValid(programmers);
 
-                BirthDate modelBirthDate = modelProgrammer.getBirthDate();
-                modelBirthDate.setProgrammer(modelProgrammer);
+        List<Programmer> modelProgrammers = new ArrayList<>();
+        for (int i = 0; i < programmers.size(); i++) {
+            if (results.get(i).isValid()) {
+                modelProgrammers.add(programmerMapper.toEntity(programmers.get(i)));
             }
+        }
 
-            programmerRepository.save(modelProgrammer);
+        programmerRepository.saveAll(modelProgrammers);
+        if (!modelProgrammers.isEmpty()) {
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROGRAMMERS));
+            writeVersionService.bump(EntityType.PROGRAMMER);
+            outboxService.record(EntityType.PROGRAMMER, ChangeType.CREATED,
+                    modelProgrammers.stream().map(Programmer::getProgrammerId).toList());
         }
 
-        return result;
+        return results;
     }
 
     @Override
@@ -60,20 +101,21 @@ public class ProgrammerServiceImpl implements ProgrammerService {
             ProjectManager modelProjectManager = projectManagerRepository
                     .findById(projectManagerId).orElseThrow(() -> new IllegalArgumentException(ProgrammingConstants.noProjectManagerFound));
 
-            Programmer modelProgrammer = modelMapper.map(programmer, Programmer.class);
-            if (programmer.getProgrammerId() == null) {
-                Address modelAddress = modelProgrammer.getAddress();
-                modelAddress.setProgrammer(modelProgrammer);
-
-                BirthDate modelBirthDate = modelProgrammer.getBirthDate();
-                modelBirthDate.setProgrammer(modelProgrammer);
-
-            } else {
-                modelProgrammer = programmerRepository.findByProgrammerId(programmer.getProgrammerId());
-            }
+            Programmer modelProgrammer = programmer.getProgrammerId() == null
+                    ? programmerMapper.toEntity(programmer)
+                    : programmerRepository.findByProgrammerId(programmer.getProgrammerId());
             modelProjectManager.addProgrammer(modelProgrammer);
 
+            // Persisting the programmer itself keeps the generated id on this instance instead of a merged copy.
+            programmerRepository.save(modelProgrammer);
             projectManagerRepository.save(modelProjectManager);
+            eventPublisher.publishEvent(programmer.getProgrammerId() == null
+                    ? DetailsChangedEvent.created(DetailsCaches.PROGRAMMERS)
+                    : DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, programmer.getProgrammerId()));
+            writeVersionService.bump(EntityType.PROGRAMMER);
+            outboxService.record(EntityType.PROGRAMMER,
+                    programmer.getProgrammerId() == null ? ChangeType.CREATED : ChangeType.UPDATED,
+                    modelProgrammer.getProgrammerId());
         }
         return result;
 
@@ -82,122 +124,101 @@ public class ProgrammerServiceImpl implements ProgrammerService {
     @Override
     @Transactional(readOnly = true)
     public List<ProgrammerDto> findAll() {
-        return ((List<Programmer>) programmerRepository.findAll()).stream()
-                .map(r -> modelMapper.map(r, ProgrammerDto.class))
-                .toList();
+        return programmerRepository.findAllDtos(null, Sort.by("programmerId"));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProgrammerDto> findAllSorted(String sortBy, String order) {
+        Sort sort = sortOf(sortBy, order);
 
-        if (sortBy == null) {
+        if (sort == null) {
             return findAll();
         }
 
-        if (sortBy.equalsIgnoreCase(SortableField.NAME.toString())) {
-            return findAllSortedByName(order);
-        }
-
-        if (sortBy.equalsIgnoreCase(SortableField.EMAIL.toString())) {
-            return findAllSortedByEmail(order);
-        }
-
-        if (sortBy.equalsIgnoreCase(SortableField.PHONENUMBER.toString())) {
-            return findAllSortedByPhoneNumber(order);
-        }
+        return programmerRepository.findAllDtos(null, sort);
+    }
 
-        if (sortBy.equalsIgnoreCase(SortableField.CITY.toString())) {
-            return findAllSortedByCity(order);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<ProgrammerDto> findPage(String sortBy, String order, int limit, String cursor) {
+        Sort sort = Objects.requireNonNullElse(sortOf(sortBy, order), Sort.unsorted())
+                .and(Sort.by("programmerId"));
 
-        if (sortBy.equalsIgnoreCase(SortableField.ISAPPRENTICE.toString())) {
-            return findAllSortedByApprentice(order);
-        }
+        List<ProgrammerDto> programmers = programmerRepository
+                .findAllDtos(KeysetSpecification.after(sort, cursor), sort, limit + 1);
 
-        if (sortBy.equalsIgnoreCase(SortableField.RESPONSIBILITY.toString())) {
-            return findAllSortedByResponsibility(order);
+        String nextCursor = null;
+        if (programmers.size() > limit) {
+            programmers = programmers.subList(0, limit);
+            nextCursor = KeysetCursor.encode(programmers.get(limit - 1), sort);
         }
 
-        return findAll();
+        return new PageDto<>(programmers, nextCursor);
     }
 
     @Transactional(readOnly = true)
     @Override
+    @Cacheable(DetailsCaches.PROGRAMMERS)
     public ProgrammerDetailsDto findById(Long id) {
-        return modelMapper.map(programmerRepository.findByProgrammerId(id), ProgrammerDetailsDto.class);
+        return programmerMapper.toDetailsDto(programmerRepository.findByProgrammerId(id));
     }
 
     @Transactional
     @Override
     public ValidatorResultDto editById(Long id, ProgrammerDto editedProgrammer) {
 
+        // Read, not a bulk update: the email check below compares with the stored email, and the address and birth
+        // date are rows of their own that only the loaded entity reaches.
         Programmer originalProgrammer = programmerRepository.findByProgrammerId(id);
 
         if (originalProgrammer == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.noProgrammerFound);
         }
 
+        VersionCheck.check(editedProgrammer.getVersion(), originalProgrammer.getVersion());
+
         editedProgrammer.setProgrammerId(id);
 
-        if (editedProgrammer.getName() != null) {
-            originalProgrammer.setName(editedProgrammer.getName());
-        } else {
+        // Every check runs before anything changes, so a rejected edit leaves the row, the caches, the ETags
+        // and the outbox alone.
+        if (editedProgrammer.getName() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.nameMissing);
         }
 
-        if (editedProgrammer.getAddress().getZipCode() != null) {
-            originalProgrammer.getAddress().setZipCode(editedProgrammer.getAddress().getZipCode());
-        } else {
+        if (editedProgrammer.getAddress().getZipCode() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.zipCodeInvalid);
         }
 
-        if (editedProgrammer.getAddress().getCity() != null) {
-            originalProgrammer.getAddress().setCity(editedProgrammer.getAddress().getCity());
-        } else {
+        if (editedProgrammer.getAddress().getCity() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.cityMissing);
         }
 
-        if (editedProgrammer.getAddress().getStreet() != null) {
-            originalProgrammer.getAddress().setStreet(editedProgrammer.getAddress().getStreet());
-        } else {
+        if (editedProgrammer.getAddress().getStreet() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.streetMissing);
         }
 
-        if (editedProgrammer.getPhoneNumber() != null) {
-            originalProgrammer.setPhoneNumber(editedProgrammer.getPhoneNumber());
-        } else {
+        if (editedProgrammer.getPhoneNumber() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.phoneNumberMissing);
         }
 
-
-        if (editedProgrammer.getBirthDate().getDay() != null) {
-            originalProgrammer.getBirthDate().setDay(editedProgrammer.getBirthDate().getDay());
-        } else {
+        if (editedProgrammer.getBirthDate().getDay() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthDayMissing);
         }
 
-        if (editedProgrammer.getBirthDate().getMonth() != null) {
-            originalProgrammer.getBirthDate().setMonth(editedProgrammer.getBirthDate().getMonth());
-        } else {
+        if (editedProgrammer.getBirthDate().getMonth() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthMonthMissing);
         }
 
-        if (editedProgrammer.getBirthDate().getYear() != null) {
-            originalProgrammer.getBirthDate().setYear(editedProgrammer.getBirthDate().getYear());
-        } else {
+        if (editedProgrammer.getBirthDate().getYear() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthYearMissing);
         }
 
-        if (editedProgrammer.getIsApprentice() != null) {
-            originalProgrammer.setIsApprentice(editedProgrammer.getIsApprentice());
-        } else {
+        if (editedProgrammer.getIsApprentice() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.apprenticeMissing);
         }
 
-        if (editedProgrammer.getResponsibility() != null) {
-            originalProgrammer.setResponsibility(editedProgrammer.getResponsibility());
-        } else {
+        if (editedProgrammer.getResponsibility() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.responsibilityMissing);
         }
 
@@ -205,122 +226,136 @@ public class ProgrammerServiceImpl implements ProgrammerService {
             return new ValidatorResultDto(false, ProgrammingConstants.emailExists);
         }
 
-        if (editedProgrammer.getEmail() != null) {
-            originalProgrammer.setEmail(editedProgrammer.getEmail());
-        } else {
+        if (editedProgrammer.getEmail() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.emailMissing);
         }
 
-        if (validatorService.isProgrammerValid(editedProgrammer).isValid()) {
-            programmerRepository.save(originalProgrammer);
+        ValidatorResultDto result = validatorService.isProgrammerValid(editedProgrammer);
+
+        if (!result.isValid()) {
+            return result;
         }
 
+        originalProgrammer.setName(editedProgrammer.getName());
+        originalProgrammer.getAddress().setZipCode(editedProgrammer.getAddress().getZipCode());
+        originalProgrammer.getAddress().setCity(editedProgrammer.getAddress().getCity());
+        originalProgrammer.getAddress().setStreet(editedProgrammer.getAddress().getStreet());
+        originalProgrammer.setPhoneNumber(editedProgrammer.getPhoneNumber());
+        originalProgrammer.getBirthDate().setDay(editedProgrammer.getBirthDate().getDay());
+        originalProgrammer.getBirthDate().setMonth(editedProgrammer.getBirthDate().getMonth());
+        originalProgrammer.getBirthDate().setYear(editedProgrammer.getBirthDate().getYear());
+        originalProgrammer.setIsApprentice(editedProgrammer.getIsApprentice());
+        originalProgrammer.setResponsibility(editedProgrammer.getResponsibility());
+        originalProgrammer.setEmail(editedProgrammer.getEmail());
+
+        programmerRepository.save(originalProgrammer);
+
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, id));
+        writeVersionService.bump(EntityType.PROGRAMMER);
+        outboxService.record(EntityType.PROGRAMMER, ChangeType.UPDATED, id);
 
         return new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("programmer"));
     }
 
-    @Override
     @Transactional
-    public boolean deleteById(Long id) {
-        Programmer programmer = programmerRepository.findByProgrammerId(id);
-        if (programmer == null) {
-            return false;
-        }
+    @Override
+    public ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion) {
 
-        programmer.setAddress(null);
-        programmer.setBirthDate(null);
-        programmer.setProject(null);
+        Programmer originalProgrammer = programmerRepository.findByProgrammerId(id);
 
-        programmerRepository.deleteByProgrammerId(id);
+        if (originalProgrammer == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.noProgrammerFound);
+        }
 
-        return true;
-    }
+        VersionCheck.check(expectedVersion != null ? expectedVersion : JsonMergePatch.version(patch),
+                originalProgrammer.getVersion());
 
-    private List<ProgrammerDto> findAllSortedByName(String order) {
+        ProgrammerDto currentProgrammer = programmerMapper.toDto(originalProgrammer);
+        ProgrammerDto patchedProgrammer = JsonMergePatch
+                .apply(objectMapper, currentProgrammer, patch, ProgrammerDto.class, READ_ONLY_FIELDS)
+                .orElse(null);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProgrammerDto::getName))
-                    .toList();
+        if (patchedProgrammer == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.invalidPatch);
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProgrammerDto::getName).reversed())
-                .toList();
-    }
-
-    private List<ProgrammerDto> findAllSortedByEmail(String order) {
+        Set<String> changedFields = JsonMergePatch.changedFields(objectMapper, currentProgrammer, patchedProgrammer);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProgrammerDto::getEmail)
-                            .thenComparing(ProgrammerDto::getName))
-                    .toList();
+        if (changedFields.isEmpty()) {
+            return new ValidatorResultDto(true, ProgrammingConstants.nothingChanged("programmer"));
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProgrammerDto::getEmail).reversed()
-                        .thenComparing(ProgrammerDto::getName))
-                .toList();
-    }
+        ValidatorResultDto result = validatorService.isEditedProgrammerValid(patchedProgrammer);
 
-    private List<ProgrammerDto> findAllSortedByPhoneNumber(String order) {
+        if (!result.isValid()) {
+            return result;
+        }
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProgrammerDto::getPhoneNumber)
-                            .thenComparing(ProgrammerDto::getName))
-                    .toList();
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, id));
+        writeVersionService.bump(EntityType.PROGRAMMER);
+        outboxService.record(EntityType.PROGRAMMER, ChangeType.UPDATED, id);
+
+        // Only the modified properties become dirty, so the dynamic updates touch only the changed columns and rows.
+        originalProgrammer.setName(patchedProgrammer.getName());
+        originalProgrammer.setPhoneNumber(patchedProgrammer.getPhoneNumber());
+        originalProgrammer.setEmail(patchedProgrammer.getEmail());
+        originalProgrammer.setResponsibility(patchedProgrammer.getResponsibility());
+        originalProgrammer.setIsApprentice(patchedProgrammer.getIsApprentice());
+        originalProgrammer.getAddress().setZipCode(patchedProgrammer.getAddress().getZipCode());
+        originalProgrammer.getAddress().setCity(patchedProgrammer.getAddress().getCity());
+        originalProgrammer.getAddress().setStreet(patchedProgrammer.getAddress().getStreet());
+        originalProgrammer.getBirthDate().setDay(patchedProgrammer.getBirthDate().getDay());
+        originalProgrammer.getBirthDate().setMonth(patchedProgrammer.getBirthDate().getMonth());
+        originalProgrammer.getBirthDate().setYear(patchedProgrammer.getBirthDate().getYear());
+
+        if (CHILD_FIELDS.containsAll(changedFields)) {
+            programmerRepository.forceVersionIncrement(originalProgrammer);
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProgrammerDto::getPhoneNumber).reversed()
-                        .thenComparing(ProgrammerDto::getName))
-                .toList();
+        return result;
     }
 
-    private List<ProgrammerDto> findAllSortedByCity(String order) {
-
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(programmer -> ((ProgrammerDto) programmer).getAddress().getCity())
-                            .thenComparing(programmer -> ((ProgrammerDto) programmer).getName()))
-                    .toList();
+    @Override
+    @Transactional
+    public boolean deleteById(Long id) {
+        Programmer programmer = programmerRepository.findByProgrammerId(id);
+        if (programmer == null) {
+            return false;
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(programmer -> ((ProgrammerDto) programmer).getAddress().getCity()).reversed()
-                        .thenComparing(programmer -> ((ProgrammerDto) programmer).getName()))
-                .toList();
-    }
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, id));
+        writeVersionService.bump(EntityType.PROGRAMMER);
+        outboxService.record(EntityType.PROGRAMMER, ChangeType.DELETED, id);
 
-    private List<ProgrammerDto> findAllSortedByApprentice(String order) {
+        programmer.setProject(null);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProgrammerDto::getIsApprentice)
-                            .thenComparing(ProgrammerDto::getName))
-                    .toList();
-        }
+        programmerRepository.deleteByProgrammerId(id);
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProgrammerDto::getIsApprentice).reversed()
-                        .thenComparing(ProgrammerDto::getName))
-                .toList();
+        return true;
     }
 
-    private List<ProgrammerDto> findAllSortedByResponsibility(String order) {
+    private Sort sortOf(String sortBy, String order) {
+        SortableField field = Arrays.stream(SortableField.values())
+                .filter(sortableField -> sortableField.toString().equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElse(null);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProgrammerDto::getResponsibility)
-                            .thenComparing(ProgrammerDto::getName))
-                    .toList();
+        if (field == null) {
+            return null;
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProgrammerDto::getResponsibility).reversed()
-                        .thenComparing(ProgrammerDto::getName))
-                .toList();
+        Sort.Direction direction = order != null && order.equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        return switch (field) {
+            case NAME -> Sort.by(direction, "name");
+            case EMAIL -> Sort.by(direction, "email").and(Sort.by("name"));
+            case PHONENUMBER -> Sort.by(direction, "phoneNumber").and(Sort.by("name"));
+            case CITY -> Sort.by(direction, "address.city").and(Sort.by("name"));
+            case ISAPPRENTICE -> Sort.by(direction, "isApprentice").and(Sort.by("name"));
+            case RESPONSIBILITY -> Sort.by(direction, "responsibility").and(Sort.by("name"));
+            default -> null;
+        };
     }
 }
@@ -1,21 +1,29 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
 import com.example.backendtestproject.dtos.ProjectManagerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 
 public interface ProjectManagerService {
     ValidatorResultDto save(ProjectManagerDto projectManager);
 
+    List<ValidatorResultDto> saveAll(List<ProjectManagerDto> projectManagers);
+
     List<ProjectManagerDto> findAll();
 
     List<ProjectManagerDto> findAllSorted(String sortBy, String order);
 
+    PageDto<ProjectManagerDto> findPage(String sortBy, String order, int limit, String cursor);
+
     ProjectManagerDetailsDto findById(Long id);
 
     ValidatorResultDto editById(Long id, ProjectManagerDto projectManager);
 
+    ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion);
+
     boolean deleteById(Long id);
 }
@@ -1,29 +1,53 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
 import com.example.backendtestproject.dtos.ProjectManagerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.enums.SortableField;
-import com.example.backendtestproject.models.Address;
-import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.ProjectManager;
+import com.example.backendtestproject.repositories.KeysetCursor;
+import com.example.backendtestproject.repositories.KeysetSpecification;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Timed(MetricNames.SERVICE)
 @RequiredArgsConstructor
 public class ProjectManagerServiceImpl implements ProjectManagerService {
+    private static final Set<String> READ_ONLY_FIELDS = Set.of("projectManagerId", "address_id", "birth_date_id",
+            "deleted", "version");
+    private static final Set<String> CHILD_FIELDS = Set.of("address", "birthDate");
+
     private final ProjectManagerRepository projectManagerRepository;
     private final ValidatorService validatorService;
-    private final ModelMapper modelMapper;
+    private final ProjectManagerMapper projectManagerMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteVersionService writeVersionService;
+    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
@@ -31,131 +55,129 @@ public class ProjectManagerServiceImpl implements ProjectManagerService {
         ValidatorResultDto result = validatorService.isProjectManagerValid(projectManager);
 
         if (result.isValid()) {
-            ProjectManager modelProjectManager = modelMapper.map(projectManager, ProjectManager.class);
+            ProjectManager modelProjectManager = projectManagerMapper.toEntity(projectManager);
 
-            if (projectManager.getProjectManagerId() == null) {
-                Address modelAddress = modelProjectManager.getAddress();
-                modelAddress.setProjectManager(modelProjectManager);
+            projectManagerRepository.save(modelProjectManager);
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROJECT_MANAGERS));
+            writeVersionService.bump(EntityType.PROJECT_MANAGER);
+            outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.CREATED,
+                    modelProjectManager.getProjectManagerId());
+        }
 
-                BirthDate modelBirthDate = modelProjectManager.getBirthDate();
-                modelBirthDate.setProjectManager(modelProjectManager);
-            }
+        return result;
+    }
 
-            modelProjectManager.setProject(null);
+    @Override
+    @Transactional
+    public List<ValidatorResultDto> saveAll(List<ProjectManagerDto> projectManagers) {
+        List<ValidatorResultDto> results = validatorService.areProjectManagersValid(projectManagers);
 
-            projectManagerRepository.save(modelProjectManager);
+        List<ProjectManager> modelProjectManagers = new ArrayList<>();
+        for (int i = 0; i < projectManagers.size(); i++) {
+            if (results.get(i).isValid()) {
+                modelProjectManagers.add(projectManagerMapper.toEntity(projectManagers.get(i)));
+            }
         }
 
-        return result;
+        projectManagerRepository.saveAll(modelProjectManagers);
+        if (!modelProjectManagers.isEmpty()) {
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROJECT_MANAGERS));
+            writeVersionService.bump(EntityType.PROJECT_MANAGER);
+            outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.CREATED,
+                    modelProjectManagers.stream().map(ProjectManager::getProjectManagerId).toList());
+        }
+
+        return results;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectManagerDto> findAll() {
-        return ((List<ProjectManager>) projectManagerRepository.findAll()).stream()
-                .map(r -> modelMapper.map(r, ProjectManagerDto.class))
-                .toList();
+        return projectManagerRepository.findAllDtos(null, Sort.by("projectManagerId"));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectManagerDto> findAllSorted(String sortBy, String order) {
+        Sort sort = sortOf(sortBy, order);
 
-        if (sortBy == null) {
+        if (sort == null) {
             return findAll();
         }
 
-        if (sortBy.equalsIgnoreCase(SortableField.NAME.toString())) {
-            return findAllSortedByName(order);
-        }
+        return projectManagerRepository.findAllDtos(null, sort);
+    }
 
-        if (sortBy.equalsIgnoreCase(SortableField.EMAIL.toString())) {
-            return findAllSortedByEmail(order);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<ProjectManagerDto> findPage(String sortBy, String order, int limit, String cursor) {
+        Sort sort = Objects.requireNonNullElse(sortOf(sortBy, order), Sort.unsorted())
+                .and(Sort.by("projectManagerId"));
 
-        if (sortBy.equalsIgnoreCase(SortableField.PHONENUMBER.toString())) {
-            return findAllSortedByPhoneNumber(order);
-        }
+        List<ProjectManagerDto> projectManagers = projectManagerRepository
+                .findAllDtos(KeysetSpecification.after(sort, cursor), sort, limit + 1);
 
-        if (sortBy.equalsIgnoreCase(SortableField.CITY.toString())) {
-            return findAllSortedByCity(order);
+        String nextCursor = null;
+        if (projectManagers.size() > limit) {
+            projectManagers = projectManagers.subList(0, limit);
+            nextCursor = KeysetCursor.encode(projectManagers.get(limit - 1), sort);
         }
 
-        return findAll();
+        return new PageDto<>(projectManagers, nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(DetailsCaches.PROJECT_MANAGERS)
     public ProjectManagerDetailsDto findById(Long id) {
-        return modelMapper.map(projectManagerRepository.findByProjectManagerId(id), ProjectManagerDetailsDto.class);
+        return projectManagerMapper.toDetailsDto(projectManagerRepository.findByProjectManagerId(id));
     }
 
     @Transactional
     @Override
     public ValidatorResultDto editById(Long id, ProjectManagerDto editedProjectManager) {
 
+        // The stored email, the address and birth date rows and the team whose details go stale all come from this
+        // read, so the edit keeps it instead of a bulk update.
         ProjectManager originalProjectManager = projectManagerRepository.findByProjectManagerId(id);
 
         if (originalProjectManager == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.noProjectManagerFound);
         }
 
+        VersionCheck.check(editedProjectManager.getVersion(), originalProjectManager.getVersion());
+
         editedProjectManager.setProjectManagerId(id);
 
-        if (editedProjectManager.getName() != null) {
-            originalProjectManager.setName(editedProjectManager.getName());
-        }
-        else {
+        if (editedProjectManager.getName() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.nameMissing);
         }
 
-        if (editedProjectManager.getAddress().getZipCode() != null) {
-            originalProjectManager.getAddress().setZipCode(editedProjectManager.getAddress().getZipCode());
-        }
-        else {
+        if (editedProjectManager.getAddress().getZipCode() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.zipCodeInvalid);
         }
 
-        if (editedProjectManager.getAddress().getCity() != null) {
-            originalProjectManager.getAddress().setCity(editedProjectManager.getAddress().getCity());
-        }
-        else {
+        if (editedProjectManager.getAddress().getCity() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.cityMissing);
         }
 
-        if (editedProjectManager.getAddress().getStreet() != null) {
-            originalProjectManager.getAddress().setStreet(editedProjectManager.getAddress().getStreet());
-        }
-        else {
+        if (editedProjectManager.getAddress().getStreet() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.streetMissing);
         }
 
-        if (editedProjectManager.getPhoneNumber() != null) {
-            originalProjectManager.setPhoneNumber(editedProjectManager.getPhoneNumber());
-        }
-        else {
+        if (editedProjectManager.getPhoneNumber() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.phoneNumberMissing);
         }
 
-
-        if (editedProjectManager.getBirthDate().getDay() != null) {
-            originalProjectManager.getBirthDate().setDay(editedProjectManager.getBirthDate().getDay());
-        }
-        else {
+        if (editedProjectManager.getBirthDate().getDay() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthDayMissing);
         }
 
-        if (editedProjectManager.getBirthDate().getMonth() != null) {
-            originalProjectManager.getBirthDate().setMonth(editedProjectManager.getBirthDate().getMonth());
-        }
-        else {
+        if (editedProjectManager.getBirthDate().getMonth() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthMonthMissing);
         }
 
-        if (editedProjectManager.getBirthDate().getYear() != null) {
-            originalProjectManager.getBirthDate().setYear(editedProjectManager.getBirthDate().getYear());
-        }
-        else {
+        if (editedProjectManager.getBirthDate().getYear() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.birthYearMissing);
         }
 
@@ -163,93 +185,136 @@ public class ProjectManagerServiceImpl implements ProjectManagerService {
             return new ValidatorResultDto(false, ProgrammingConstants.emailExists);
         }
 
-        if (editedProjectManager.getEmail() != null) {
-            originalProjectManager.setEmail(editedProjectManager.getEmail());
-        }
-        else {
+        if (editedProjectManager.getEmail() == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.emailMissing);
         }
 
-        if(validatorService.isProjectManagerValid(editedProjectManager).isValid()){
-            projectManagerRepository.save(originalProjectManager);
+        ValidatorResultDto result = validatorService.isProjectManagerValid(editedProjectManager);
+
+        if (!result.isValid()) {
+            return result;
         }
 
+        originalProjectManager.setName(editedProjectManager.getName());
+        originalProjectManager.getAddress().setZipCode(editedProjectManager.getAddress().getZipCode());
+        originalProjectManager.getAddress().setCity(editedProjectManager.getAddress().getCity());
+        originalProjectManager.getAddress().setStreet(editedProjectManager.getAddress().getStreet());
+        originalProjectManager.setPhoneNumber(editedProjectManager.getPhoneNumber());
+        originalProjectManager.getBirthDate().setDay(editedProjectManager.getBirthDate().getDay());
+        originalProjectManager.getBirthDate().setMonth(editedProjectManager.getBirthDate().getMonth());
+        originalProjectManager.getBirthDate().setYear(editedProjectManager.getBirthDate().getYear());
+        originalProjectManager.setEmail(editedProjectManager.getEmail());
+
+        projectManagerRepository.save(originalProjectManager);
+
+        publishChanged(id, originalProjectManager);
+        outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.UPDATED, id);
 
         return new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project manager"));
     }
 
-    @Override
     @Transactional
-    public boolean deleteById(Long id) {
-        ProjectManager projectManager = projectManagerRepository.findByProjectManagerId(id);
-        if (projectManager == null) {
-            return false;
+    @Override
+    public ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion) {
+
+        ProjectManager originalProjectManager = projectManagerRepository.findByProjectManagerId(id);
+
+        if (originalProjectManager == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.noProjectManagerFound);
         }
 
-        projectManager.setAddress(null);
-        projectManager.setBirthDate(null);
-        projectManager.setProject(null);
+        VersionCheck.check(expectedVersion != null ? expectedVersion : JsonMergePatch.version(patch),
+                originalProjectManager.getVersion());
 
-        projectManagerRepository.deleteByProjectManagerId(id);
+        ProjectManagerDto currentProjectManager = projectManagerMapper.toDto(originalProjectManager);
+        ProjectManagerDto patchedProjectManager = JsonMergePatch
+                .apply(objectMapper, currentProjectManager, patch, ProjectManagerDto.class, READ_ONLY_FIELDS)
+                .orElse(null);
 
-        return true;
-    }
+        if (patchedProjectManager == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.invalidPatch);
+        }
 
-    private List<ProjectManagerDto> findAllSortedByName(String order) {
+        Set<String> changedFields = JsonMergePatch
+                .changedFields(objectMapper, currentProjectManager, patchedProjectManager);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectManagerDto::getName))
-                    .toList();
+        if (changedFields.isEmpty()) {
+            return new ValidatorResultDto(true, ProgrammingConstants.nothingChanged("project manager"));
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectManagerDto::getName).reversed())
-                .toList();
-    }
+        ValidatorResultDto result = validatorService.isEditedProjectManagerValid(patchedProjectManager);
+
+        if (!result.isValid()) {
+            return result;
+        }
+
+        publishChanged(id, originalProjectManager);
+        outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.UPDATED, id);
 
-    private List<ProjectManagerDto> findAllSortedByEmail(String order) {
+        // Only the modified properties become dirty, so the dynamic updates touch only the changed columns and rows.
+        originalProjectManager.setName(patchedProjectManager.getName());
+        originalProjectManager.setPhoneNumber(patchedProjectManager.getPhoneNumber());
+        originalProjectManager.setEmail(patchedProjectManager.getEmail());
+        originalProjectManager.getAddress().setZipCode(patchedProjectManager.getAddress().getZipCode());
+        originalProjectManager.getAddress().setCity(patchedProjectManager.getAddress().getCity());
+        originalProjectManager.getAddress().setStreet(patchedProjectManager.getAddress().getStreet());
+        originalProjectManager.getBirthDate().setDay(patchedProjectManager.getBirthDate().getDay());
+        originalProjectManager.getBirthDate().setMonth(patchedProjectManager.getBirthDate().getMonth());
+        originalProjectManager.getBirthDate().setYear(patchedProjectManager.getBirthDate().getYear());
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectManagerDto::getEmail)
-                            .thenComparing(ProjectManagerDto::getName))
-                    .toList();
+        if (CHILD_FIELDS.containsAll(changedFields)) {
+            projectManagerRepository.forceVersionIncrement(originalProjectManager);
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectManagerDto::getEmail).reversed()
-                        .thenComparing(ProjectManagerDto::getName))
-                .toList();
+        return result;
     }
 
-    private List<ProjectManagerDto> findAllSortedByPhoneNumber(String order) {
-
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectManagerDto::getPhoneNumber)
-                            .thenComparing(ProjectManagerDto::getName))
-                    .toList();
+    @Override
+    @Transactional
+    public boolean deleteById(Long id) {
+        ProjectManager projectManager = projectManagerRepository.findByProjectManagerId(id);
+        if (projectManager == null) {
+            return false;
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectManagerDto::getPhoneNumber).reversed()
-                        .thenComparing(ProjectManagerDto::getName))
-                .toList();
+        publishChanged(id, projectManager);
+        outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.DELETED, id);
+
+        projectManager.setProject(null);
+
+        projectManagerRepository.deleteByProjectManagerId(id);
+
+        return true;
+    }
+
+    // Programmer details embed their manager, so they go stale together with it.
+    private void publishChanged(Long id, ProjectManager projectManager) {
+        writeVersionService.bump(EntityType.PROJECT_MANAGER);
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECT_MANAGERS, id));
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS,
+                projectManager.getProgrammers().stream().map(Programmer::getProgrammerId).toList()));
     }
 
-    private List<ProjectManagerDto> findAllSortedByCity(String order) {
+    private Sort sortOf(String sortBy, String order) {
+        SortableField field = Arrays.stream(SortableField.values())
+                .filter(sortableField -> sortableField.toString().equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElse(null);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(projectManager -> ((ProjectManagerDto) projectManager).getAddress().getCity())
-                            .thenComparing(projectManager -> ((ProjectManagerDto) projectManager).getName()))
-                    .toList();
+        if (field == null) {
+            return null;
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(projectManager -> ((ProjectManagerDto) projectManager).getAddress().getCity()).reversed()
-                        .thenComparing(projectManager -> ((ProjectManagerDto) projectManager).getName()))
-                .toList();
+        Sort.Direction direction = order != null && order.equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        return switch (field) {
+            case NAME -> Sort.by(direction, "name");
+            case EMAIL -> Sort.by(direction, "email").and(Sort.by("name"));
+            case PHONENUMBER -> Sort.by(direction, "phoneNumber").and(Sort.by("name"));
+            case CITY -> Sort.by(direction, "address.city").and(Sort.by("name"));
+            default -> null;
+        };
     }
 }
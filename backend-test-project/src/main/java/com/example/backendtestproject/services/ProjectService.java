@@ -1,7 +1,9 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 
@@ -13,10 +15,14 @@ public interface ProjectService {
 
     List<ProjectDto> findAllSorted(String sortBy, String order);
 
+    PageDto<ProjectDto> findPage(String sortBy, String order, int limit, String cursor);
+
     ProjectDto findById(Long id);
 
     ValidatorResultDto editById(Long id, ProjectDto project);
 
+    ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion);
+
     ValidatorResultDto saveByProjectManagerId(ProjectDto project, Long projectManagerId);
 
     ValidatorResultDto saveByProgrammerId(ProjectDto project, Long programmerId);
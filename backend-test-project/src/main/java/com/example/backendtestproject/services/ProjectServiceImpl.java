@@ -1,61 +1,90 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.enums.SortableField;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.metrics.MetricNames;
 import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.models.ProjectManager;
+import com.example.backendtestproject.repositories.KeysetCursor;
+import com.example.backendtestproject.repositories.KeysetSpecification;
 import com.example.backendtestproject.repositories.ProgrammerRepository;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
 import com.example.backendtestproject.repositories.ProjectRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Timed(MetricNames.SERVICE)
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
+    private static final Set<String> READ_ONLY_FIELDS = Set.of("projectId", "deleted", "version");
+
     private final ProjectRepository projectRepository;
-    private final ModelMapper modelMapper;
+    private final ProjectMapper projectMapper;
     private final ValidatorService validatorService;
     private final ProjectManagerRepository projectManagerRepository;
     private final ProgrammerRepository programmerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteVersionService writeVersionService;
+    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDto> findAll() {
-        return ((List<Project>) projectRepository.findAll()).stream()
-                .map(r -> modelMapper.map(r, ProjectDto.class))
-                .toList();
+        return projectRepository.findAllDtos(null, Sort.by("projectId"));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDto> findAllSorted(String sortBy, String order) {
+        Sort sort = sortOf(sortBy, order);
 
-        if (sortBy == null) {
+        if (sort == null) {
             return findAll();
         }
 
-        if (sortBy.equalsIgnoreCase(SortableField.CLIENT.toString())) {
-            return findAllSortedByClient(order);
-        }
+        return projectRepository.findAllDtos(null, sort);
+    }
 
-        if (sortBy.equalsIgnoreCase(SortableField.STARTDATE.toString())) {
-            return findAllSortedByStartDate(order);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<ProjectDto> findPage(String sortBy, String order, int limit, String cursor) {
+        Sort sort = Objects.requireNonNullElse(sortOf(sortBy, order), Sort.unsorted())
+                .and(Sort.by("projectId"));
 
-        if (sortBy.equalsIgnoreCase(SortableField.DESCRIPTION.toString())) {
-            return findAllSortedByDescription(order);
+        List<ProjectDto> projects = projectRepository
+                .findAllDtos(KeysetSpecification.after(sort, cursor), sort, limit + 1);
+
+        String nextCursor = null;
+        if (projects.size() > limit) {
+            projects = projects.subList(0, limit);
+            nextCursor = KeysetCursor.encode(projects.get(limit - 1), sort);
         }
 
-        return findAll();
+        return new PageDto<>(projects, nextCursor);
     }
 
     @Override
@@ -64,9 +93,12 @@ public class ProjectServiceImpl implements ProjectService {
         ValidatorResultDto result = validatorService.isProjectValid(project);
 
         if (result.isValid()) {
-            Project modelProject = modelMapper.map(project, Project.class);
+            Project modelProject = projectMapper.toEntity(project);
 
             projectRepository.save(modelProject);
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROJECTS));
+            writeVersionService.bump(EntityType.PROJECT);
+            outboxService.record(EntityType.PROJECT, ChangeType.CREATED, modelProject.getProjectId());
         }
 
         return result;
@@ -82,11 +114,16 @@ public class ProjectServiceImpl implements ProjectService {
             ProjectManager modelProjectManager = projectManagerRepository
                     .findById(projectManagerId).orElseThrow(() -> new IllegalArgumentException(ProgrammingConstants.noProjectManagerFound));
 
-            Project modelProject = modelMapper.map(project, Project.class);
+            Project modelProject = projectMapper.toEntity(project);
 
             modelProjectManager.setProject(modelProject);
 
             projectManagerRepository.save(modelProjectManager);
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROJECTS));
+            eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECT_MANAGERS, projectManagerId));
+            writeVersionService.bump(EntityType.PROJECT);
+            outboxService.record(EntityType.PROJECT, ChangeType.CREATED, modelProjectManager.getProject().getProjectId());
+            outboxService.record(EntityType.PROJECT_MANAGER, ChangeType.UPDATED, projectManagerId);
         }
         return result;
 
@@ -102,11 +139,16 @@ public class ProjectServiceImpl implements ProjectService {
             Programmer modelProgrammer = programmerRepository
                     .findById(programmerId).orElseThrow(() -> new IllegalArgumentException(ProgrammingConstants.noProgrammerFound));
 
-            Project modelProject = modelMapper.map(project, Project.class);
+            Project modelProject = projectMapper.toEntity(project);
 
             modelProgrammer.setProject(modelProject);
 
             programmerRepository.save(modelProgrammer);
+            eventPublisher.publishEvent(DetailsChangedEvent.created(DetailsCaches.PROJECTS));
+            eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, programmerId));
+            writeVersionService.bump(EntityType.PROJECT);
+            outboxService.record(EntityType.PROJECT, ChangeType.CREATED, modelProgrammer.getProject().getProjectId());
+            outboxService.record(EntityType.PROGRAMMER, ChangeType.UPDATED, programmerId);
         }
         return result;
 
@@ -114,43 +156,87 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(DetailsCaches.PROJECTS)
     public ProjectDto findById(Long id) {
-        return modelMapper.map(projectRepository.findByProjectId(id), ProjectDto.class);
+        return projectMapper.toDto(projectRepository.findByProjectId(id));
     }
 
     @Override
     @Transactional
     public ValidatorResultDto editById(Long id, ProjectDto editedProject) {
 
+        if (editedProject.getClient() == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.clientMissing);
+        }
+
+        if (editedProject.getDescription() == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.descriptionMissing);
+        }
+
+        if (editedProject.getStartDate() == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.startDateMissing);
+        }
+
+        // The checks above need nothing from the stored row, so the versioned update replaces the read; only a
+        // rejected update reads again, to tell a missing project from a conflicting edit.
+        int updated = projectRepository.updateIfVersion(id, editedProject.getClient(), editedProject.getDescription(),
+                editedProject.getStartDate(), editedProject.getVersion());
+
+        if (updated == 0) {
+            if (!projectRepository.existsByProjectId(id)) {
+                return new ValidatorResultDto(false, ProgrammingConstants.noProjectFound);
+            }
+            throw new OptimisticLockingFailureException(ProgrammingConstants.versionConflict);
+        }
+
+        publishChanged(id);
+        outboxService.record(EntityType.PROJECT, ChangeType.UPDATED, id);
+
+        return new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project"));
+    }
+
+    @Override
+    @Transactional
+    public ValidatorResultDto patchById(Long id, JsonNode patch, Long expectedVersion) {
+
+        // Unlike editById, a merge patch is applied to the stored values, so it reads them first.
         Project originalProject = projectRepository.findByProjectId(id);
 
         if (originalProject == null) {
             return new ValidatorResultDto(false, ProgrammingConstants.noProjectFound);
         }
 
-        editedProject.setProjectId(id);
+        VersionCheck.check(expectedVersion != null ? expectedVersion : JsonMergePatch.version(patch),
+                originalProject.getVersion());
 
-        if (editedProject.getClient() != null) {
-            originalProject.setClient(editedProject.getClient());
-        } else {
-            return new ValidatorResultDto(false, ProgrammingConstants.clientMissing);
+        ProjectDto currentProject = projectMapper.toDto(originalProject);
+        ProjectDto patchedProject = JsonMergePatch
+                .apply(objectMapper, currentProject, patch, ProjectDto.class, READ_ONLY_FIELDS)
+                .orElse(null);
+
+        if (patchedProject == null) {
+            return new ValidatorResultDto(false, ProgrammingConstants.invalidPatch);
         }
 
-        if (editedProject.getDescription() != null) {
-            originalProject.setDescription(editedProject.getDescription());
-        } else {
-            return new ValidatorResultDto(false, ProgrammingConstants.descriptionMissing);
+        if (JsonMergePatch.changedFields(objectMapper, currentProject, patchedProject).isEmpty()) {
+            return new ValidatorResultDto(true, ProgrammingConstants.nothingChanged("project"));
         }
 
-        if (editedProject.getStartDate() != null) {
-            originalProject.setStartDate(editedProject.getStartDate());
-        } else {
-            return new ValidatorResultDto(false, ProgrammingConstants.startDateMissing);
+        ValidatorResultDto result = validatorService.isProjectValid(patchedProject);
+
+        if (!result.isValid()) {
+            return result;
         }
 
-        projectRepository.save(originalProject);
+        publishChanged(id);
+        outboxService.record(EntityType.PROJECT, ChangeType.UPDATED, id);
 
-        return new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project"));
+        // Only the modified properties become dirty, so the dynamic update touches only the changed columns.
+        originalProject.setClient(patchedProject.getClient());
+        originalProject.setStartDate(patchedProject.getStartDate());
+        originalProject.setDescription(patchedProject.getDescription());
+
+        return result;
     }
 
     @Override
@@ -161,51 +247,43 @@ public class ProjectServiceImpl implements ProjectService {
             return false;
         }
 
+        publishChanged(id);
+        outboxService.record(EntityType.PROJECT, ChangeType.DELETED, id);
+
         projectRepository.deleteByProjectId(id);
 
         return true;
     }
 
-    private List<ProjectDto> findAllSortedByClient(String order) {
-
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectDto::getClient))
-                    .toList();
-        }
-
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectDto::getClient).reversed())
-                .toList();
+    // Manager and programmer details embed their project, so they go stale together with it.
+    private void publishChanged(Long projectId) {
+        writeVersionService.bump(EntityType.PROJECT);
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECTS, projectId));
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECT_MANAGERS,
+                projectManagerRepository.findProjectManagerIdsByProjectId(projectId)));
+        eventPublisher.publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS,
+                programmerRepository.findProgrammerIdsByProjectId(projectId)));
     }
 
-    private List<ProjectDto> findAllSortedByStartDate(String order) {
+    private Sort sortOf(String sortBy, String order) {
+        SortableField field = Arrays.stream(SortableField.values())
+                .filter(sortableField -> sortableField.toString().equalsIgnoreCase(sortBy))
+                .findFirst()
+                .orElse(null);
 
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectDto::getStartDate)
-                            .thenComparing(ProjectDto::getClient))
-                    .toList();
+        if (field == null) {
+            return null;
         }
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectDto::getStartDate).reversed()
-                        .thenComparing(ProjectDto::getClient))
-                .toList();
-    }
-
-    private List<ProjectDto> findAllSortedByDescription(String order) {
-
-        if (order == null || !order.equalsIgnoreCase("desc")) {
-            return findAll().stream()
-                    .sorted(Comparator.comparing(ProjectDto::getDescription)
-                            .thenComparing(ProjectDto::getClient))
-                    .toList();
-        }
+        Sort.Direction direction = order != null && order.equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
 
-        return findAll().stream()
-                .sorted(Comparator.comparing(ProjectDto::getDescription).reversed()
-                        .thenComparing(ProjectDto::getClient))
-                .toList();
+        return switch (field) {
+            case CLIENT -> Sort.by(direction, "client");
+            case STARTDATE -> Sort.by(direction, "startDate").and(Sort.by("client"));
+            case DESCRIPTION -> Sort.by(direction, "description").and(Sort.by("client"));
+            default -> null;
+        };
     }
 }
@@ -0,0 +1,23 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveReadService {
+    Flux<ProgrammerDto> findAllProgrammers();
+
+    Mono<ProgrammerDetailsDto> findProgrammerById(Long id);
+
+    Flux<ProjectManagerDto> findAllProjectManagers();
+
+    Mono<ProjectManagerDetailsDto> findProjectManagerById(Long id);
+
+    Flux<ProjectDto> findAllProjects();
+
+    Mono<ProjectDto> findProjectById(Long id);
+}
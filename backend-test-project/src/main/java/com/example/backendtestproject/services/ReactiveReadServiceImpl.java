@@ -0,0 +1,48 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.repositories.ReactiveReadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    @Override
+    public Flux<ProgrammerDto> findAllProgrammers() {
+        return reactiveReadRepository.findAllProgrammers();
+    }
+
+    @Override
+    public Mono<ProgrammerDetailsDto> findProgrammerById(Long id) {
+        return reactiveReadRepository.findProgrammerById(id);
+    }
+
+    @Override
+    public Flux<ProjectManagerDto> findAllProjectManagers() {
+        return reactiveReadRepository.findAllProjectManagers();
+    }
+
+    @Override
+    public Mono<ProjectManagerDetailsDto> findProjectManagerById(Long id) {
+        return reactiveReadRepository.findProjectManagerById(id);
+    }
+
+    @Override
+    public Flux<ProjectDto> findAllProjects() {
+        return reactiveReadRepository.findAllProjects();
+    }
+
+    @Override
+    public Mono<ProjectDto> findProjectById(Long id) {
+        return reactiveReadRepository.findProjectById(id);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ArchiveRunDto;
+import com.example.backendtestproject.repositories.AddressRepository;
+import com.example.backendtestproject.repositories.BirthDateRepository;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Moves rows soft deleted before the retention period, with their addresses and birthdates, into the archive
+ * tables. Every batch is a short transaction over the next ids, and the worker pauses between batches, so live
+ * traffic never waits long for the locks.
+ * <p>
+ * Archived rows were already invisible: they are out of the caches since their delete and out of every list result,
+ * so the archive statements invalidate no cached data and bump no write versions.
+ */
+@Service
+public class SoftDeleteArchiveWorker {
+    private final ProgrammerRepository programmerRepository;
+    private final ProjectManagerRepository projectManagerRepository;
+    private final ProjectRepository projectRepository;
+    private final AddressRepository addressRepository;
+    private final BirthDateRepository birthDateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+
+    public SoftDeleteArchiveWorker(ProgrammerRepository programmerRepository,
+                                   ProjectManagerRepository projectManagerRepository,
+                                   ProjectRepository projectRepository,
+                                   AddressRepository addressRepository,
+                                   BirthDateRepository birthDateRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${app.archive.retention:30d}") Duration retention,
+                                   @Value("${app.archive.batch-size:500}") int batchSize,
+                                   @Value("${app.archive.pause:200ms}") Duration pause) {
+        this.programmerRepository = programmerRepository;
+        this.projectManagerRepository = projectManagerRepository;
+        this.projectRepository = projectRepository;
+        this.addressRepository = addressRepository;
+        this.birthDateRepository = birthDateRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        run(Instant.now().minus(retention));
+    }
+
+    /**
+     * Programmers go first, because archiving them is what frees the project managers and projects they point to.
+     * Deleting a programmer or project manager leaves its address and birthdate linked, since the removed entity is
+     * never updated, so those are archived in the same batch as the row that points to them.
+     */
+    public ArchiveRunDto run(Instant cutoff) {
+        ArchivedLinks links = new ArchivedLinks();
+
+        long programmers = archive((afterId, limit) -> programmerRepository.findArchivableIds(afterId, cutoff, limit),
+                ids -> archiveProgrammers(ids, links));
+        long projectManagers = archive((afterId, limit) -> projectManagerRepository.findArchivableIds(afterId, cutoff, limit),
+                ids -> archiveProjectManagers(ids, links));
+        long projects = archive((afterId, limit) -> projectRepository.findArchivableIds(afterId, cutoff, limit),
+                this::archiveProjects);
+
+        return new ArchiveRunDto(programmers, projectManagers, projects, links.addresses, links.birthDates);
+    }
+
+    private long archive(ArchivableIds archivableIds, Consumer<List<Long>> archiver) {
+        long archived = 0;
+        long afterId = 0;
+
+        while (true) {
+            long batchAfterId = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = archivableIds.find(batchAfterId, batchSize);
+                if (!batch.isEmpty()) {
+                    archiver.accept(batch);
+                }
+                return batch;
+            });
+
+            archived += ids.size();
+            if (ids.size() < batchSize || !pause()) {
+                return archived;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void archiveProgrammers(List<Long> ids, ArchivedLinks links) {
+        List<Long> addressIds = programmerRepository.findAddressIds(ids);
+        List<Long> birthDateIds = programmerRepository.findBirthDateIds(ids);
+        programmerRepository.copyToArchive(ids);
+        programmerRepository.deleteArchived(ids);
+        archiveLinks(addressIds, birthDateIds, links);
+    }
+
+    private void archiveProjectManagers(List<Long> ids, ArchivedLinks links) {
+        List<Long> addressIds = projectManagerRepository.findAddressIds(ids);
+        List<Long> birthDateIds = projectManagerRepository.findBirthDateIds(ids);
+        projectManagerRepository.copyToArchive(ids);
+        projectManagerRepository.deleteArchived(ids);
+        archiveLinks(addressIds, birthDateIds, links);
+    }
+
+    private void archiveProjects(List<Long> ids) {
+        projectRepository.copyToArchive(ids);
+        projectRepository.deleteArchived(ids);
+    }
+
+    // The orphan checks skip any row that something else still points to.
+    private void archiveLinks(List<Long> addressIds, List<Long> birthDateIds, ArchivedLinks links) {
+        if (!addressIds.isEmpty()) {
+            addressRepository.copyOrphansToArchive(addressIds);
+            links.addresses += addressRepository.deleteOrphans(addressIds);
+        }
+        if (!birthDateIds.isEmpty()) {
+            birthDateRepository.copyOrphansToArchive(birthDateIds);
+            links.birthDates += birthDateRepository.deleteOrphans(birthDateIds);
+        }
+    }
+
+    /**
+     * Returns false when the worker was interrupted and has to stop.
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class ArchivedLinks {
+        private long addresses;
+        private long birthDates;
+    }
+
+    @FunctionalInterface
+    interface ArchivableIds {
+        List<Long> find(long afterId, int limit);
+    }
+}
@@ -2,12 +2,22 @@ package com.example.backendtestproject.services;
 
 import com.example.backendtestproject.dtos.*;
 
+import java.util.List;
+
 public interface ValidatorService {
 
     ValidatorResultDto isProjectManagerValid(ProjectManagerDto projectManager);
 
     ValidatorResultDto isProgrammerValid(ProgrammerDto programmer);
 
+    ValidatorResultDto isEditedProjectManagerValid(ProjectManagerDto projectManager);
+
+    ValidatorResultDto isEditedProgrammerValid(ProgrammerDto programmer);
+
+    List<ValidatorResultDto> areProjectManagersValid(List<ProjectManagerDto> projectManagers);
+
+    List<ValidatorResultDto> areProgrammersValid(List<ProgrammerDto> programmers);
+
     ValidatorResultDto isProjectValid(ProjectDto project);
 
     ValidatorResultDto isAddressValid(AddressDto address);
@@ -2,402 +2,409 @@ package com.example.backendtestproject.services;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
 import com.example.backendtestproject.dtos.*;
+import com.example.backendtestproject.metrics.MetricNames;
 import com.example.backendtestproject.repositories.ProgrammerRepository;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.validation.Candidate;
+import com.example.backendtestproject.validation.RuleSet;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates the DTOs with immutable rule sets that are built once. Every rule runs exactly once per validation,
+ * and the messages are joined in rule order, which is the order the clients have always received them in.
+ */
 @Service
+@Timed(MetricNames.VALIDATOR)
 @RequiredArgsConstructor
 public class ValidatorServiceImpl implements ValidatorService {
 
+    /**
+     * Accepts the same dates as a non-lenient {@code SimpleDateFormat("dd/MM/yyyy")}, but is immutable and thread-safe.
+     */
+    private static final DateTimeFormatter START_DATE_FORMAT = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral('/')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral('/')
+            .appendValue(ChronoField.YEAR_OF_ERA, 1, 9, SignStyle.NOT_NEGATIVE)
+            .parseDefaulting(ChronoField.ERA, 1)
+            .toFormatter(Locale.ROOT)
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * A valid item always gets the same result, so the fast path below returns a shared one.
+     */
+    private static final ValidatorResultDto PROGRAMMER_SAVED =
+            new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("programmer"), List.of());
+
+    private static final ValidatorResultDto PROJECT_MANAGER_SAVED =
+            new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project manager"), List.of());
+
+    private static final RuleSet<AddressDto> ADDRESS_RULES = RuleSet.<AddressDto>builder()
+            .whenAbsent(Objects::isNull,
+                    new FieldErrorDto("address.zipCode", ProgrammingConstants.zipCodeInvalid),
+                    new FieldErrorDto("address.city", ProgrammingConstants.cityMissing),
+                    new FieldErrorDto("address.street", ProgrammingConstants.streetMissing))
+            .rule("address.zipCode", address -> !isBetween(address.getZipCode(), 1000, 9999), ProgrammingConstants.zipCodeInvalid)
+            .rule("address.city", address -> isBlank(address.getCity()), ProgrammingConstants.cityMissing)
+            .rule("address.street", address -> isBlank(address.getStreet()), ProgrammingConstants.streetMissing)
+            .build();
+
+    private static final RuleSet<BirthDateDto> BIRTH_DATE_RULES = RuleSet.<BirthDateDto>builder()
+            .whenAbsent(Objects::isNull,
+                    new FieldErrorDto("birthDate.day", ProgrammingConstants.birthDayMissing),
+                    new FieldErrorDto("birthDate.month", ProgrammingConstants.birthMonthMissing),
+                    new FieldErrorDto("birthDate.year", ProgrammingConstants.birthYearMissing))
+            .rule("birthDate.day", birthDate -> !isBetween(birthDate.getDay(), 1, 31), ProgrammingConstants.birthDayInvalid)
+            .rule("birthDate.month", birthDate -> !isBetween(birthDate.getMonth(), 1, 12), ProgrammingConstants.birthMonthInvalid)
+            .rule("birthDate.year", birthDate -> !isBetween(birthDate.getYear(), 1900, 2023), ProgrammingConstants.birthYearInvalid)
+            .build();
+
+    private static final RuleSet<String> PHONE_NUMBER_RULES = RuleSet.<String>builder()
+            .rule("phoneNumber", Objects::isNull, ProgrammingConstants.phoneNumberMissing)
+            .rule("phoneNumber", phoneNumber -> phoneNumber != null && !isPhoneNumberFormatValid(phoneNumber),
+                    ProgrammingConstants.phoneNumberInvalid)
+            .build();
+
+    private static final RuleSet<String> EMAIL_RULES = RuleSet.<String>builder()
+            .rule("email", Objects::isNull, ProgrammingConstants.emailMissing)
+            .rule("email", email -> email != null && !email.endsWith(".com"), ProgrammingConstants.comIsMissing)
+            .rule("email", email -> email != null && !email.contains("@"), ProgrammingConstants.atIsMissing)
+            .build();
+
+    private static final RuleSet<Candidate<ProjectManagerDto>> PROJECT_MANAGER_RULES = RuleSet.<Candidate<ProjectManagerDto>>builder()
+            .whenAbsent(candidate -> candidate.value() == null,
+                    new FieldErrorDto("name", ProgrammingConstants.nameMissing),
+                    new FieldErrorDto("address.zipCode", ProgrammingConstants.zipCodeInvalid),
+                    new FieldErrorDto("address.street", ProgrammingConstants.streetMissing),
+                    new FieldErrorDto("address.city", ProgrammingConstants.cityMissing),
+                    new FieldErrorDto("birthDate.day", ProgrammingConstants.birthDayMissing),
+                    new FieldErrorDto("birthDate.month", ProgrammingConstants.birthMonthMissing),
+                    new FieldErrorDto("birthDate.year", ProgrammingConstants.birthYearMissing),
+                    new FieldErrorDto("phoneNumber", ProgrammingConstants.phoneNumberMissing),
+                    new FieldErrorDto("email", ProgrammingConstants.emailMissing))
+            .rule("name", candidate -> isBlank(candidate.value().getName()), ProgrammingConstants.nameMissing)
+            .rule("email", Candidate::isEmailTaken, ProgrammingConstants.emailExists)
+            .nested(candidate -> candidate.value().getAddress(), ADDRESS_RULES)
+            .nested(candidate -> candidate.value().getBirthDate(), BIRTH_DATE_RULES)
+            .nested(candidate -> candidate.value().getPhoneNumber(), PHONE_NUMBER_RULES)
+            .nested(candidate -> candidate.value().getEmail(), EMAIL_RULES)
+            .build();
+
+    private static final RuleSet<Candidate<ProgrammerDto>> PROGRAMMER_RULES = RuleSet.<Candidate<ProgrammerDto>>builder()
+            .whenAbsent(candidate -> candidate.value() == null,
+                    new FieldErrorDto("name", ProgrammingConstants.nameMissing),
+                    new FieldErrorDto("address.zipCode", ProgrammingConstants.zipCodeInvalid),
+                    new FieldErrorDto("address.street", ProgrammingConstants.streetMissing),
+                    new FieldErrorDto("address.city", ProgrammingConstants.cityMissing),
+                    new FieldErrorDto("responsibility", ProgrammingConstants.responsibilityMissing),
+                    new FieldErrorDto("isApprentice", ProgrammingConstants.apprenticeMissing),
+                    new FieldErrorDto("birthDate.day", ProgrammingConstants.birthDayMissing),
+                    new FieldErrorDto("birthDate.month", ProgrammingConstants.birthMonthMissing),
+                    new FieldErrorDto("birthDate.year", ProgrammingConstants.birthYearMissing),
+                    new FieldErrorDto("phoneNumber", ProgrammingConstants.phoneNumberMissing),
+                    new FieldErrorDto("email", ProgrammingConstants.emailMissing))
+            .rule("name", candidate -> isBlank(candidate.value().getName()), ProgrammingConstants.nameMissing)
+            .rule("responsibility", candidate -> candidate.value().getResponsibility() == null, ProgrammingConstants.responsibilityMissing)
+            .rule("isApprentice", candidate -> candidate.value().getIsApprentice() == null, ProgrammingConstants.apprenticeMissing)
+            .rule("email", Candidate::isEmailTaken, ProgrammingConstants.emailExists)
+            .nested(candidate -> candidate.value().getAddress(), ADDRESS_RULES)
+            .nested(candidate -> candidate.value().getBirthDate(), BIRTH_DATE_RULES)
+            .nested(candidate -> candidate.value().getPhoneNumber(), PHONE_NUMBER_RULES)
+            .nested(candidate -> candidate.value().getEmail(), EMAIL_RULES)
+            .build();
+
+    private static final RuleSet<ProjectDto> START_DATE_RULES = RuleSet.<ProjectDto>builder()
+            .rule("startDate", project -> project.getStartDate() != null && !isStartDateParsable(project.getStartDate()),
+                    ProgrammingConstants.startDateInvalid)
+            .rule("startDate", project -> project.getStartDate() != null && project.getStartDate().isBlank(),
+                    ProgrammingConstants.startDateMissing)
+            .build();
+
+    private static final RuleSet<ProjectDto> PROJECT_RULES = RuleSet.<ProjectDto>builder()
+            .whenAbsent(Objects::isNull,
+                    new FieldErrorDto("client", ProgrammingConstants.clientMissing),
+                    new FieldErrorDto("description", ProgrammingConstants.descriptionMissing),
+                    new FieldErrorDto("startDate", ProgrammingConstants.startDateMissing))
+            .rule("client", project -> isBlank(project.getClient()), ProgrammingConstants.clientMissing)
+            .rule("description", project -> isBlank(project.getDescription()), ProgrammingConstants.descriptionMissing)
+            .rule("startDate", project -> isBlank(project.getStartDate()), ProgrammingConstants.startDateMissing)
+            .nested(project -> project, START_DATE_RULES)
+            .build();
+
     private final ProjectManagerRepository projectManagerRepository;
     private final ProgrammerRepository programmerRepository;
 
     @Override
     public ValidatorResultDto isAddressValid(AddressDto address) {
-        boolean isValid = address != null
-                && address.getZipCode() != null
-                && address.getZipCode() >= 1000
-                && address.getZipCode() <= 9999
-                && address.getCity() != null
-                && !address.getCity().isBlank()
-                && address.getStreet() != null
-                && !address.getStreet().isBlank();
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
-        }
-
-        if (address == null) {
-            message.append(ProgrammingConstants.zipCodeInvalid)
-                    .append(ProgrammingConstants.cityMissing)
-                    .append(ProgrammingConstants.streetMissing);
-        } else {
-            if (address.getZipCode() == null || !(address.getZipCode() >= 1000 && address.getZipCode() <= 9999)) {
-                message.append(ProgrammingConstants.zipCodeInvalid);
-            }
-            if (address.getCity() == null || address.getCity().isBlank()) {
-                message.append(ProgrammingConstants.cityMissing);
-            }
-            if (address.getStreet() == null || address.getStreet().isBlank()) {
-                message.append(ProgrammingConstants.streetMissing);
-            }
-        }
-
-        return new ValidatorResultDto(isValid, message.toString());
+        return toResult(ADDRESS_RULES.validate(address));
     }
 
     @Override
     public boolean isStartDateValidFormat(ProjectDto project) {
-        DateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
-        sdf.setLenient(false);
-        try {
-            if (project.getStartDate() != null) {
-                sdf.parse(project.getStartDate());
-            }
-
-        } catch (ParseException e) {
-            return false;
-        }
-        return true;
+        return project.getStartDate() == null || isStartDateParsable(project.getStartDate());
     }
 
     @Override
     public ValidatorResultDto isStartDateValid(ProjectDto project) {
-        boolean isValid = isStartDateValidFormat(project);
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
-        } else {
-            message.append(ProgrammingConstants.startDateInvalid);
-        }
-
-        if (project.getStartDate() == null || project.getStartDate().isBlank()) {
-            message.append(ProgrammingConstants.startDateMissing);
-        }
-
-        return new ValidatorResultDto(isValid, message.toString());
+        return toResult(START_DATE_RULES.validate(project));
     }
 
     @Override
     public ValidatorResultDto isProjectManagerValid(ProjectManagerDto projectManager) {
-        boolean isValid = projectManager != null
-                && projectManager.getName() != null
-                && !projectManager.getName().isBlank()
-                && isAddressValid(projectManager.getAddress()).isValid()
-                && isBirthDateValid(projectManager.getBirthDate()).isValid()
-                && isProjectManagerPhoneNumberValid(projectManager).isValid()
-                && isProjectManagerEmailValid(projectManager).isValid()
-                && !isProjectManagerEmailDuplicated(projectManager);
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            message.append(ProgrammingConstants.saveSuccess("project manager"));
-        } else {
-            message.append(ProgrammingConstants.saveFail("project manager"));
-            if (projectManager == null) {
-                message.append(ProgrammingConstants.nameMissing)
-                        .append(ProgrammingConstants.zipCodeInvalid)
-                        .append(ProgrammingConstants.streetMissing)
-                        .append(ProgrammingConstants.cityMissing)
-                        .append(ProgrammingConstants.birthDayMissing)
-                        .append(ProgrammingConstants.birthMonthMissing)
-                        .append(ProgrammingConstants.birthYearMissing)
-                        .append(ProgrammingConstants.phoneNumberMissing)
-                        .append(ProgrammingConstants.emailMissing);
-            } else {
-                if (projectManager.getName() == null || projectManager.getName().isBlank()) {
-                    message.append(ProgrammingConstants.nameMissing);
-                }
-                if (isProjectManagerEmailDuplicated(projectManager)) {
-                    message.append(ProgrammingConstants.emailExists);
-                }
-
-                message.append(isAddressValid(projectManager.getAddress()).message());
-
-                message.append(isBirthDateValid(projectManager.getBirthDate()).message());
-
-                message.append(isProjectManagerPhoneNumberValid(projectManager).message());
-
-                message.append(isProjectManagerEmailValid(projectManager).message());
-            }
-        }
-
-        return new ValidatorResultDto(isValid, message.toString());
+        return isProjectManagerValid(projectManager, projectManager != null && isProjectManagerEmailDuplicated(projectManager));
     }
 
     @Override
-    public ValidatorResultDto isProgrammerValid(ProgrammerDto programmer) {
-        boolean isValid = programmer != null
-                && programmer.getName() != null
-                && !programmer.getName().isBlank()
-                && isAddressValid(programmer.getAddress()).isValid()
-                && isBirthDateValid(programmer.getBirthDate()).isValid()
-                && isProgrammerPhoneNumberValid(programmer).isValid()
-                && isProgrammerEmailValid(programmer).isValid()
-                && !isProgrammerEmailDuplicated(programmer)
-                && programmer.getResponsibility() != null
-                && programmer.getIsApprentice() != null;
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            message.append(ProgrammingConstants.saveSuccess("programmer"));
-        } else {
-            message.append(ProgrammingConstants.saveFail("programmer"));
-            if (programmer == null) {
-                message.append(ProgrammingConstants.nameMissing)
-                        .append(ProgrammingConstants.zipCodeInvalid)
-                        .append(ProgrammingConstants.streetMissing)
-                        .append(ProgrammingConstants.cityMissing)
-                        .append(ProgrammingConstants.responsibilityMissing)
-                        .append(ProgrammingConstants.apprenticeMissing)
-                        .append(ProgrammingConstants.birthDayMissing)
-                        .append(ProgrammingConstants.birthMonthMissing)
-                        .append(ProgrammingConstants.birthYearMissing)
-                        .append(ProgrammingConstants.phoneNumberMissing)
-                        .append(ProgrammingConstants.emailMissing);
-            } else {
-                if (programmer.getName() == null || programmer.getName().isBlank()) {
-                    message.append(ProgrammingConstants.nameMissing);
-                }
-                if (programmer.getResponsibility() == null) {
-                    message.append(ProgrammingConstants.responsibilityMissing);
-                }
-                if (programmer.getIsApprentice() == null) {
-                    message.append(ProgrammingConstants.apprenticeMissing);
-                }
-                if (isProgrammerEmailDuplicated(programmer)) {
-                    message.append(ProgrammingConstants.emailExists);
-                }
-
-                message.append(isAddressValid(programmer.getAddress()).message());
-
-                message.append(isBirthDateValid(programmer.getBirthDate()).message());
-
-                message.append(isProgrammerPhoneNumberValid(programmer).message());
-
-                message.append(isProgrammerEmailValid(programmer).message());
+    public List<ValidatorResultDto> areProjectManagersValid(List<ProjectManagerDto> projectManagers) {
+        Set<String> emails = projectManagers.stream()
+                .filter(Objects::nonNull)
+                .map(ProjectManagerDto::getEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty() ? new HashSet<>() : projectManagerRepository.findEmailsByEmailIn(emails).stream()
+                .map(ValidatorServiceImpl::normalizeEmail)
+                .collect(Collectors.toSet());
+
+        // The item rules do not depend on each other, so they run in parallel.
+        List<ValidatorResultDto> results = new ArrayList<>(projectManagers.parallelStream()
+                .map(projectManager -> isProjectManagerValid(projectManager, projectManager != null
+                        && takenEmails.contains(normalizeEmail(projectManager.getEmail()))))
+                .toList());
+
+        // An email accepted earlier in the same request counts as taken for the remaining items.
+        Set<String> acceptedEmails = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isValid() && !acceptedEmails.add(normalizeEmail(projectManagers.get(i).getEmail()))) {
+                results.set(i, isProjectManagerValid(projectManagers.get(i), true));
             }
         }
 
-        return new ValidatorResultDto(isValid, message.toString());
+        return results;
     }
 
+    /**
+     * The edited project manager keeps its own email, so only another project manager makes it a duplicate.
+     */
     @Override
-    public ValidatorResultDto isProjectValid(ProjectDto project) {
-        boolean isValid = project != null
-                && project.getClient() != null
-                && !project.getClient().isBlank()
-                && project.getDescription() != null
-                && !project.getDescription().isBlank()
-                && project.getStartDate() != null
-                && !project.getStartDate().isBlank()
-                && isStartDateValid(project).isValid();
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            message.append(ProgrammingConstants.saveSuccess("project"));
-        } else {
-            message.append(ProgrammingConstants.saveFail("project"));
-            if (project == null) {
-                message.append(ProgrammingConstants.clientMissing)
-                        .append(ProgrammingConstants.descriptionMissing)
-                        .append(ProgrammingConstants.startDateMissing);
-            } else {
-                if (project.getClient() == null || project.getClient().isBlank()) {
-                    message.append(ProgrammingConstants.clientMissing);
-                }
-                if (project.getDescription() == null || project.getDescription().isBlank()) {
-                    message.append(ProgrammingConstants.descriptionMissing);
-                }
-
-                if (project.getStartDate() == null || project.getStartDate().isBlank()) {
-                    message.append(ProgrammingConstants.startDateMissing);
-                }
-
-                message.append(isStartDateValid(project).message());
-            }
-        }
+    public ValidatorResultDto isEditedProjectManagerValid(ProjectManagerDto projectManager) {
+        return isProjectManagerValid(projectManager, projectManager != null && projectManagerRepository
+                .findByEmail(projectManager.getEmail())
+                .filter(other -> !other.getProjectManagerId().equals(projectManager.getProjectManagerId()))
+                .isPresent());
+    }
 
-        return new ValidatorResultDto(isValid, message.toString());
+    private ValidatorResultDto isProjectManagerValid(ProjectManagerDto projectManager, boolean isEmailDuplicated) {
+        if (!isEmailDuplicated && isProjectManagerComplete(projectManager)) {
+            return PROJECT_MANAGER_SAVED;
+        }
+        return toSaveResult("project manager", PROJECT_MANAGER_RULES.validate(new Candidate<>(projectManager, isEmailDuplicated)));
     }
 
     @Override
-    public ValidatorResultDto isBirthDateValid(BirthDateDto birthDate) {
-        boolean isValid = birthDate != null
-                && birthDate.getDay() != null
-                && birthDate.getDay() >= 1
-                && birthDate.getDay() <= 31
-                && birthDate.getMonth() != null
-                && birthDate.getMonth() >= 1
-                && birthDate.getMonth() <= 12
-                && birthDate.getYear() != null
-                && birthDate.getYear() >= 1900
-                && birthDate.getYear() <= 2023;
-
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
-        }
+    public ValidatorResultDto isProgrammerValid(ProgrammerDto programmer) {
+        return isProgrammerValid(programmer, programmer != null && isProgrammerEmailDuplicated(programmer));
+    }
 
-        if (birthDate == null) {
-            message.append(ProgrammingConstants.birthDayMissing)
-                    .append(ProgrammingConstants.birthMonthMissing)
-                    .append(ProgrammingConstants.birthYearMissing);
-        } else {
-            if (birthDate.getDay() == null || !(birthDate.getDay() >= 1 && birthDate.getDay() <= 31)) {
-                message.append(ProgrammingConstants.birthDayInvalid);
-            }
-            if (birthDate.getMonth() == null || !(birthDate.getMonth() >= 1 && birthDate.getMonth() <= 12)) {
-                message.append(ProgrammingConstants.birthMonthInvalid);
-            }
-            if (birthDate.getYear() == null || !(birthDate.getYear() >= 1900 && birthDate.getYear() <= 2023)) {
-                message.append(ProgrammingConstants.birthYearInvalid);
+    @Override
+    public List<ValidatorResultDto> areProgrammersValid(List<ProgrammerDto> programmers) {
+        Set<String> emails = programmers.stream()
+                .filter(Objects::nonNull)
+                .map(ProgrammerDto::getEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty() ? new HashSet<>() : programmerRepository.findEmailsByEmailIn(emails).stream()
+                .map(ValidatorServiceImpl::normalizeEmail)
+                .collect(Collectors.toSet());
+
+        // The item rules do not depend on each other, so they run in parallel.
+        List<ValidatorResultDto> results = new ArrayList<>(programmers.parallelStream()
+                .map(programmer -> isProgrammerValid(programmer, programmer != null
+                        && takenEmails.contains(normalizeEmail(programmer.getEmail()))))
+                .toList());
+
+        // An email accepted earlier in the same request counts as taken for the remaining items.
+        Set<String> acceptedEmails = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isValid() && !acceptedEmails.add(normalizeEmail(programmers.get(i).getEmail()))) {
+                results.set(i, isProgrammerValid(programmers.get(i), true));
             }
         }
 
-        return new ValidatorResultDto(isValid, message.toString());
+        return results;
     }
 
+    /**
+     * The edited programmer keeps its own email, so only another programmer makes it a duplicate.
+     */
     @Override
-    public ValidatorResultDto isProgrammerPhoneNumberValid(ProgrammerDto programmer) {
-        boolean isValid = programmer.getPhoneNumber() != null
-                && !programmer.getPhoneNumber().isBlank()
-                && programmer.getPhoneNumber().length() == 12
-                && (programmer.getPhoneNumber().startsWith("+3630")
-                || programmer.getPhoneNumber().startsWith("+3620")
-                || programmer.getPhoneNumber().startsWith("+3650")
-                || programmer.getPhoneNumber().startsWith("+3670"));
-
-
-        StringBuilder message = new StringBuilder();
-
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
-        }
+    public ValidatorResultDto isEditedProgrammerValid(ProgrammerDto programmer) {
+        return isProgrammerValid(programmer, programmer != null && programmerRepository
+                .findByEmail(programmer.getEmail())
+                .filter(other -> !other.getProgrammerId().equals(programmer.getProgrammerId()))
+                .isPresent());
+    }
 
-        if (programmer.getPhoneNumber() == null) {
-            message.append(ProgrammingConstants.phoneNumberMissing);
-        } else {
-            if (programmer.getPhoneNumber().length() != 12
-                    && !programmer.getPhoneNumber().startsWith("+3630")
-                    || !programmer.getPhoneNumber().startsWith("+3620")
-                    || !programmer.getPhoneNumber().startsWith("+3650")
-                    || !programmer.getPhoneNumber().startsWith("+3670")) {
-                message.append(ProgrammingConstants.phoneNumberInvalid);
-            }
+    private ValidatorResultDto isProgrammerValid(ProgrammerDto programmer, boolean isEmailDuplicated) {
+        if (!isEmailDuplicated && isProgrammerComplete(programmer)) {
+            return PROGRAMMER_SAVED;
         }
+        return toSaveResult("programmer", PROGRAMMER_RULES.validate(new Candidate<>(programmer, isEmailDuplicated)));
+    }
 
-        return new ValidatorResultDto(isValid, message.toString());
+    @Override
+    public ValidatorResultDto isProjectValid(ProjectDto project) {
+        return toSaveResult("project", PROJECT_RULES.validate(project));
     }
 
     @Override
-    public ValidatorResultDto isProjectManagerPhoneNumberValid(ProjectManagerDto projectManager) {
-        boolean isValid = projectManager.getPhoneNumber() != null
-                && !projectManager.getPhoneNumber().isBlank()
-                && projectManager.getPhoneNumber().length() == 12
-                && (projectManager.getPhoneNumber().startsWith("+3630")
-                || projectManager.getPhoneNumber().startsWith("+3620")
-                || projectManager.getPhoneNumber().startsWith("+3650")
-                || projectManager.getPhoneNumber().startsWith("+3670"));
+    public ValidatorResultDto isBirthDateValid(BirthDateDto birthDate) {
+        return toResult(BIRTH_DATE_RULES.validate(birthDate));
+    }
 
+    @Override
+    public ValidatorResultDto isProgrammerPhoneNumberValid(ProgrammerDto programmer) {
+        return toResult(PHONE_NUMBER_RULES.validate(programmer.getPhoneNumber()));
+    }
 
-        StringBuilder message = new StringBuilder();
+    @Override
+    public ValidatorResultDto isProjectManagerPhoneNumberValid(ProjectManagerDto projectManager) {
+        return toResult(PHONE_NUMBER_RULES.validate(projectManager.getPhoneNumber()));
+    }
 
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
-        }
+    @Override
+    public ValidatorResultDto isProjectManagerEmailValid(ProjectManagerDto projectManager) {
+        return toResult(EMAIL_RULES.validate(projectManager.getEmail()));
+    }
 
-        if (projectManager.getPhoneNumber() == null) {
-            message.append(ProgrammingConstants.phoneNumberMissing);
-        } else {
-            if (projectManager.getPhoneNumber().length() != 12
-                    && !projectManager.getPhoneNumber().startsWith("+3630")
-                    || !projectManager.getPhoneNumber().startsWith("+3620")
-                    || !projectManager.getPhoneNumber().startsWith("+3650")
-                    || !projectManager.getPhoneNumber().startsWith("+3670")) {
-                message.append(ProgrammingConstants.phoneNumberInvalid);
-            }
-        }
+    @Override
+    public ValidatorResultDto isProgrammerEmailValid(ProgrammerDto programmer) {
+        return toResult(EMAIL_RULES.validate(programmer.getEmail()));
+    }
 
-        return new ValidatorResultDto(isValid, message.toString());
+    private boolean isProjectManagerEmailDuplicated(ProjectManagerDto projectManager) {
+        return projectManagerRepository.findByEmail(projectManager.getEmail()).isPresent();
     }
 
-    @Override
-    public ValidatorResultDto isProjectManagerEmailValid(ProjectManagerDto projectManager) {
-        boolean isValid = projectManager.getEmail() != null
-                && !projectManager.getEmail().isBlank()
-                && projectManager.getEmail().endsWith(".com")
-                && projectManager.getEmail().contains("@");
+    private boolean isProgrammerEmailDuplicated(ProgrammerDto programmer) {
+        return programmerRepository.findByEmail(programmer.getEmail()).isPresent();
+    }
 
+    /**
+     * MySQL compares emails case-insensitively, so the in-memory duplicate checks do too.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
 
-        StringBuilder message = new StringBuilder();
+    private static ValidatorResultDto toResult(List<FieldErrorDto> errors) {
+        return new ValidatorResultDto(errors.isEmpty(), joinMessages(new StringBuilder(), errors), errors);
+    }
 
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
+    private static ValidatorResultDto toSaveResult(String itemType, List<FieldErrorDto> errors) {
+        if (errors.isEmpty()) {
+            return new ValidatorResultDto(true, ProgrammingConstants.saveSuccess(itemType), errors);
         }
+        return new ValidatorResultDto(false,
+                joinMessages(new StringBuilder(ProgrammingConstants.saveFail(itemType)), errors), errors);
+    }
 
-        if (projectManager.getEmail() == null) {
-            message.append(ProgrammingConstants.emailMissing);
-        } else {
-            if (!projectManager.getEmail().endsWith(".com")) {
-                message.append(ProgrammingConstants.comIsMissing);
-            }
-            if (!projectManager.getEmail().contains("@")) {
-                message.append(ProgrammingConstants.atIsMissing);
-            }
+    private static String joinMessages(StringBuilder message, List<FieldErrorDto> errors) {
+        for (FieldErrorDto error : errors) {
+            message.append(error.message());
         }
+        return message.toString();
+    }
 
-        return new ValidatorResultDto(isValid, message.toString());
+    /**
+     * The programmer rules as one short-circuiting condition. Most saves are valid, and this answers them without the
+     * rule set's call per rule; only an item it rejects goes through the rule set to collect the errors.
+     */
+    private static boolean isProgrammerComplete(ProgrammerDto programmer) {
+        return programmer != null
+                && !isBlank(programmer.getName())
+                && programmer.getResponsibility() != null
+                && programmer.getIsApprentice() != null
+                && isAddressComplete(programmer.getAddress())
+                && isBirthDateComplete(programmer.getBirthDate())
+                && isPhoneNumberComplete(programmer.getPhoneNumber())
+                && isEmailComplete(programmer.getEmail());
     }
 
-    @Override
-    public ValidatorResultDto isProgrammerEmailValid(ProgrammerDto programmer) {
-        boolean isValid = programmer.getEmail() != null
-                && !programmer.getEmail().isBlank()
-                && programmer.getEmail().endsWith(".com")
-                && programmer.getEmail().contains("@");
+    private static boolean isProjectManagerComplete(ProjectManagerDto projectManager) {
+        return projectManager != null
+                && !isBlank(projectManager.getName())
+                && isAddressComplete(projectManager.getAddress())
+                && isBirthDateComplete(projectManager.getBirthDate())
+                && isPhoneNumberComplete(projectManager.getPhoneNumber())
+                && isEmailComplete(projectManager.getEmail());
+    }
+
+    private static boolean isAddressComplete(AddressDto address) {
+        return address != null
+                && isBetween(address.getZipCode(), 1000, 9999)
+                && !isBlank(address.getCity())
+                && !isBlank(address.getStreet());
+    }
+
+    private static boolean isBirthDateComplete(BirthDateDto birthDate) {
+        return birthDate != null
+                && isBetween(birthDate.getDay(), 1, 31)
+                && isBetween(birthDate.getMonth(), 1, 12)
+                && isBetween(birthDate.getYear(), 1900, 2023);
+    }
 
+    private static boolean isPhoneNumberComplete(String phoneNumber) {
+        return phoneNumber != null && isPhoneNumberFormatValid(phoneNumber);
+    }
 
-        StringBuilder message = new StringBuilder();
+    private static boolean isEmailComplete(String email) {
+        return email != null && email.endsWith(".com") && email.contains("@");
+    }
 
-        if (isValid) {
-            return new ValidatorResultDto(isValid, message.toString());
+    private static boolean isStartDateParsable(String startDate) {
+        try {
+            START_DATE_FORMAT.parse(startDate, new ParsePosition(0));
+            return true;
+        } catch (DateTimeException e) {
+            return false;
         }
+    }
 
-        if (programmer.getEmail() == null) {
-            message.append(ProgrammingConstants.emailMissing);
-        } else {
-            if (!programmer.getEmail().endsWith(".com")) {
-                message.append(ProgrammingConstants.comIsMissing);
-            }
-            if (!programmer.getEmail().contains("@")) {
-                message.append(ProgrammingConstants.atIsMissing);
-            }
+    /**
+     * Twelve characters starting with +3620, +3630, +3650 or +3670.
+     */
+    private static boolean isPhoneNumberFormatValid(String phoneNumber) {
+        if (phoneNumber.length() != 12 || !phoneNumber.startsWith("+36") || phoneNumber.charAt(4) != '0') {
+            return false;
         }
 
-        return new ValidatorResultDto(isValid, message.toString());
+        char network = phoneNumber.charAt(3);
+        return network == '2' || network == '3' || network == '5' || network == '7';
     }
 
-    private boolean isProjectManagerEmailDuplicated(ProjectManagerDto projectManager) {
-        return projectManagerRepository.findByEmail(projectManager.getEmail()).isPresent();
+    private static boolean isBetween(Integer value, int min, int max) {
+        return value != null && value >= min && value <= max;
     }
 
-    private boolean isProgrammerEmailDuplicated(ProgrammerDto programmer) {
-        return programmerRepository.findByEmail(programmer.getEmail()).isPresent();
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 }
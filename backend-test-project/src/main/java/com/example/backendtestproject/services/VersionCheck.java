@@ -0,0 +1,20 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Compares the version an edit was based on with the loaded row. A write that lands between this check and the
+ * commit is still caught by the versioned update itself.
+ */
+final class VersionCheck {
+
+    private VersionCheck() {
+    }
+
+    static void check(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new OptimisticLockingFailureException(ProgrammingConstants.versionConflict);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.enums.EntityType;
+
+public interface WriteVersionService {
+    void bump(EntityType entityType);
+
+    /**
+     * Read this in the same transaction as the list it tags, so that a lagging replica cannot pair a newer tag
+     * with older rows.
+     */
+    String eTag(EntityType... entityTypes);
+}
@@ -0,0 +1,49 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.models.WriteVersion;
+import com.example.backendtestproject.repositories.WriteVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts writes per entity type in the {@code write_versions} table, so the list endpoints can answer
+ * {@code If-None-Match} without loading the list, and every instance agrees on the tag whichever one took the write.
+ * The details endpoints tag a single row by its own version instead, see {@code DetailsETag}.
+ */
+@Service
+@RequiredArgsConstructor
+public class WriteVersionServiceImpl implements WriteVersionService {
+    private final WriteVersionRepository writeVersionRepository;
+
+    // Joins the write's transaction, so the version moves exactly when the rows become visible.
+    @Override
+    @Transactional
+    public void bump(EntityType entityType) {
+        writeVersionRepository.increment(entityType);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String eTag(EntityType... entityTypes) {
+        Map<EntityType, Long> versions = new EnumMap<>(EntityType.class);
+        for (WriteVersion writeVersion : writeVersionRepository.findByEntityTypeIn(List.of(entityTypes))) {
+            versions.put(writeVersion.getEntityType(), writeVersion.getVersion());
+        }
+
+        StringBuilder eTag = new StringBuilder("\"");
+        for (EntityType entityType : entityTypes) {
+            if (eTag.length() > 1) {
+                eTag.append('-');
+            }
+            eTag.append(versions.getOrDefault(entityType, 0L));
+        }
+
+        return eTag.append('"').toString();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backendtestproject.validation;
+
+/**
+ * A value to validate together with the facts looked up for it beforehand, so that no rule has to query the database.
+ */
+public record Candidate<T>(T value, boolean isEmailTaken) {
+}
@@ -0,0 +1,97 @@
+package com.example.backendtestproject.validation;
+
+import com.example.backendtestproject.dtos.FieldErrorDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, ordered list of field rules. A validation evaluates every rule exactly once and returns the
+ * failed rules' errors in rule order; an empty list means the value is valid.
+ */
+public final class RuleSet<T> {
+    private final List<Rule<T>> rules;
+    private final Predicate<T> isAbsent;
+    private final List<FieldErrorDto> absentErrors;
+
+    private RuleSet(Builder<T> builder) {
+        this.rules = List.copyOf(builder.rules);
+        this.isAbsent = builder.isAbsent;
+        this.absentErrors = List.copyOf(builder.absentErrors);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public List<FieldErrorDto> validate(T target) {
+        List<FieldErrorDto> errors = new ArrayList<>();
+        validate(target, errors);
+        return errors;
+    }
+
+    private void validate(T target, List<FieldErrorDto> errors) {
+        if (isAbsent != null && isAbsent.test(target)) {
+            errors.addAll(absentErrors);
+            return;
+        }
+
+        for (Rule<T> rule : rules) {
+            rule.check(target, errors);
+        }
+    }
+
+    private interface Rule<T> {
+        void check(T target, List<FieldErrorDto> errors);
+    }
+
+    private record FieldRule<T>(Predicate<T> fails, FieldErrorDto error) implements Rule<T> {
+        @Override
+        public void check(T target, List<FieldErrorDto> errors) {
+            if (fails.test(target)) {
+                errors.add(error);
+            }
+        }
+    }
+
+    private record NestedRule<T, N>(Function<T, N> getter, RuleSet<N> ruleSet) implements Rule<T> {
+        @Override
+        public void check(T target, List<FieldErrorDto> errors) {
+            ruleSet.validate(getter.apply(target), errors);
+        }
+    }
+
+    public static final class Builder<T> {
+        private final List<Rule<T>> rules = new ArrayList<>();
+        private Predicate<T> isAbsent;
+        private List<FieldErrorDto> absentErrors = List.of();
+
+        private Builder() {
+        }
+
+        /**
+         * Reports the given errors instead of running the rules when the value is absent.
+         */
+        public Builder<T> whenAbsent(Predicate<T> isAbsent, FieldErrorDto... errors) {
+            this.isAbsent = isAbsent;
+            this.absentErrors = List.of(errors);
+            return this;
+        }
+
+        public Builder<T> rule(String field, Predicate<T> fails, String message) {
+            rules.add(new FieldRule<>(fails, new FieldErrorDto(field, message)));
+            return this;
+        }
+
+        public <N> Builder<T> nested(Function<T, N> getter, RuleSet<N> ruleSet) {
+            rules.add(new NestedRule<>(getter, ruleSet));
+            return this;
+        }
+
+        public RuleSet<T> build() {
+            return new RuleSet<>(this);
+        }
+    }
+}
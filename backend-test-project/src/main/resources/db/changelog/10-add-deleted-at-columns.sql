@@ -0,0 +1,11 @@
+ALTER TABLE programmers ADD COLUMN deleted_at DATETIME(6);
+ALTER TABLE project_managers ADD COLUMN deleted_at DATETIME(6);
+ALTER TABLE projects ADD COLUMN deleted_at DATETIME(6);
+
+UPDATE programmers SET deleted_at = CURRENT_TIMESTAMP(6) WHERE deleted = true;
+UPDATE project_managers SET deleted_at = CURRENT_TIMESTAMP(6) WHERE deleted = true;
+UPDATE projects SET deleted_at = CURRENT_TIMESTAMP(6) WHERE deleted = true;
+
+CREATE INDEX idx_programmers_deleted_id_deleted_at ON programmers (deleted, programmer_id, deleted_at);
+CREATE INDEX idx_project_managers_deleted_id_deleted_at ON project_managers (deleted, project_manager_id, deleted_at);
+CREATE INDEX idx_projects_deleted_id_deleted_at ON projects (deleted, project_id, deleted_at);
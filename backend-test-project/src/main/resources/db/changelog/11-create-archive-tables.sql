@@ -0,0 +1,59 @@
+CREATE TABLE addresses_archive
+(
+    address_id  INT PRIMARY KEY NOT NULL,
+    zip_code    INT             NOT NULL,
+    city        VARCHAR(255)    NOT NULL,
+    street      VARCHAR(255)    NOT NULL,
+    archived_at DATETIME(6)     NOT NULL
+);
+
+CREATE TABLE birth_dates_archive
+(
+    birth_date_id INT PRIMARY KEY NOT NULL,
+    day           INT             NOT NULL,
+    month         INT             NOT NULL,
+    year          INT             NOT NULL,
+    archived_at   DATETIME(6)     NOT NULL
+);
+
+CREATE TABLE projects_archive
+(
+    project_id  INT PRIMARY KEY NOT NULL,
+    client      VARCHAR(255),
+    start_date  VARCHAR(255),
+    description VARCHAR(255),
+    version     BIGINT          NOT NULL,
+    deleted_at  DATETIME(6),
+    archived_at DATETIME(6)     NOT NULL
+);
+
+CREATE TABLE project_managers_archive
+(
+    project_manager_id INT PRIMARY KEY NOT NULL,
+    name               VARCHAR(255)    NOT NULL,
+    address_id         INT,
+    birth_date_id      INT,
+    phone_number       VARCHAR(255)    NOT NULL,
+    email              VARCHAR(255)    NOT NULL,
+    project_id         INT,
+    version            BIGINT          NOT NULL,
+    deleted_at         DATETIME(6),
+    archived_at        DATETIME(6)     NOT NULL
+);
+
+CREATE TABLE programmers_archive
+(
+    programmer_id      INT PRIMARY KEY NOT NULL,
+    name               VARCHAR(255)    NOT NULL,
+    address_id         INT,
+    birth_date_id      INT,
+    phone_number       VARCHAR(255)    NOT NULL,
+    email              VARCHAR(255)    NOT NULL,
+    project_id         INT,
+    project_manager_id INT,
+    responsibility     VARCHAR(255),
+    is_apprentice      BIT             NOT NULL,
+    version            BIGINT          NOT NULL,
+    deleted_at         DATETIME(6),
+    archived_at        DATETIME(6)     NOT NULL
+);
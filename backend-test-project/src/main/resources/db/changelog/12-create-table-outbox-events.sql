@@ -0,0 +1,10 @@
+CREATE TABLE outbox_events
+(
+    outbox_event_id BIGINT PRIMARY KEY NOT NULL,
+    entity_type     ENUM ('PROGRAMMER', 'PROJECT_MANAGER', 'PROJECT') NOT NULL,
+    entity_id       INT                NOT NULL,
+    change_type     ENUM ('CREATED', 'UPDATED', 'DELETED') NOT NULL,
+    created_at      DATETIME(6)        NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val) VALUES ('outbox_events', 51);
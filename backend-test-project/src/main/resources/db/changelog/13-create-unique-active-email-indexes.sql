@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+-- The unique indexes cannot be built while two active rows share an email, so the migration halts before them.
+-- List the duplicates with the inner SELECT of each check below, then change or soft delete all but one row of each
+-- email and start again. The id and author are the ones Liquibase gave this file while it was a plain SQL include.
+
+--changeset includeAll:raw
+--validCheckSum: ANY
+--preconditions onFail:HALT
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM (SELECT email FROM programmers WHERE deleted = false GROUP BY email HAVING COUNT(*) > 1) duplicates
+--precondition-sql-check expectedResult:0 SELECT COUNT(*) FROM (SELECT email FROM project_managers WHERE deleted = false GROUP BY email HAVING COUNT(*) > 1) duplicates
+ALTER TABLE programmers ADD COLUMN active_email VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE email END);
+ALTER TABLE project_managers ADD COLUMN active_email VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE email END);
+
+CREATE UNIQUE INDEX uk_programmers_active_email ON programmers (active_email);
+CREATE UNIQUE INDEX uk_project_managers_active_email ON project_managers (active_email);
@@ -0,0 +1,7 @@
+CREATE TABLE write_versions
+(
+    entity_type ENUM ('PROGRAMMER', 'PROJECT_MANAGER', 'PROJECT') PRIMARY KEY NOT NULL,
+    version     BIGINT                                           NOT NULL
+);
+
+INSERT INTO write_versions (entity_type, version) VALUES ('PROGRAMMER', 0), ('PROJECT_MANAGER', 0), ('PROJECT', 0);
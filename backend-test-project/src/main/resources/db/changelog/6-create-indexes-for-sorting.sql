@@ -0,0 +1,15 @@
+CREATE INDEX idx_programmers_deleted_name ON programmers (deleted, name, programmer_id);
+CREATE INDEX idx_programmers_deleted_email ON programmers (deleted, email, name, programmer_id);
+CREATE INDEX idx_programmers_deleted_phone_number ON programmers (deleted, phone_number, name, programmer_id);
+CREATE INDEX idx_programmers_deleted_is_apprentice ON programmers (deleted, is_apprentice, name, programmer_id);
+CREATE INDEX idx_programmers_deleted_responsibility ON programmers (deleted, responsibility, name, programmer_id);
+
+CREATE INDEX idx_project_managers_deleted_name ON project_managers (deleted, name, project_manager_id);
+CREATE INDEX idx_project_managers_deleted_email ON project_managers (deleted, email, name, project_manager_id);
+CREATE INDEX idx_project_managers_deleted_phone_number ON project_managers (deleted, phone_number, name, project_manager_id);
+
+CREATE INDEX idx_projects_deleted_client ON projects (deleted, client, project_id);
+CREATE INDEX idx_projects_deleted_start_date ON projects (deleted, start_date, client, project_id);
+CREATE INDEX idx_projects_deleted_description ON projects (deleted, description, client, project_id);
+
+CREATE INDEX idx_addresses_city ON addresses (city, address_id);
@@ -0,0 +1,11 @@
+CREATE TABLE id_generators
+(
+    sequence_name VARCHAR(255) PRIMARY KEY NOT NULL,
+    next_val      BIGINT                   NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'addresses', COALESCE(MAX(address_id), 0) + 51 FROM addresses;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'birth_dates', COALESCE(MAX(birth_date_id), 0) + 51 FROM birth_dates;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'projects', COALESCE(MAX(project_id), 0) + 51 FROM projects;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'project_managers', COALESCE(MAX(project_manager_id), 0) + 51 FROM project_managers;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'programmers', COALESCE(MAX(programmer_id), 0) + 51 FROM programmers;
@@ -0,0 +1,28 @@
+CREATE TABLE import_jobs
+(
+    import_job_id  INT PRIMARY KEY NOT NULL,
+    file_name      VARCHAR(255)    NOT NULL,
+    file_path      VARCHAR(1024)   NOT NULL,
+    status         ENUM ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    checkpoint_row BIGINT          NOT NULL DEFAULT 0,
+    rows_imported  BIGINT          NOT NULL DEFAULT 0,
+    rows_rejected  BIGINT          NOT NULL DEFAULT 0,
+    run_start_row  BIGINT          NOT NULL DEFAULT 0,
+    started_at     DATETIME(6),
+    finished_at    DATETIME(6),
+    error_message  VARCHAR(1024)
+);
+
+CREATE TABLE import_job_errors
+(
+    import_job_error_id INT PRIMARY KEY NOT NULL,
+    import_job_id       INT             NOT NULL,
+    row_index           BIGINT          NOT NULL,
+    message             VARCHAR(1024)   NOT NULL,
+    FOREIGN KEY (import_job_id) REFERENCES import_jobs (import_job_id)
+);
+
+CREATE INDEX idx_import_job_errors_job_row ON import_job_errors (import_job_id, row_index);
+
+INSERT INTO id_generators (sequence_name, next_val) VALUES ('import_jobs', 51);
+INSERT INTO id_generators (sequence_name, next_val) VALUES ('import_job_errors', 51);
@@ -0,0 +1,3 @@
+ALTER TABLE programmers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE project_managers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
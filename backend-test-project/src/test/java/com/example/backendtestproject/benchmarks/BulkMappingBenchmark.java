@@ -0,0 +1,136 @@
+package com.example.backendtestproject.benchmarks;
+
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.mappers.AddressMapper;
+import com.example.backendtestproject.mappers.BirthDateMapper;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.models.ProjectManager;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Maps whole result sets of entities to DTOs at growing sizes. The programmers share ten project managers and
+ * projects, so their associations are mapped from warm objects as in a real team. The million rows need a larger
+ * heap, which the fork is given. Run the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkMappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ModelMapper modelMapper;
+    private ProgrammerMapper programmerMapper;
+    private ProjectManagerMapper projectManagerMapper;
+    private ProjectMapper projectMapper;
+    private List<Programmer> programmers;
+    private List<ProjectManager> projectManagers;
+    private List<Project> projects;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        projectMapper = new ProjectMapper();
+        projectManagerMapper = new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), projectMapper);
+        programmerMapper = new ProgrammerMapper(new AddressMapper(), new BirthDateMapper(), projectMapper, projectManagerMapper);
+
+        projects = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> Project.builder()
+                        .projectId((long) i)
+                        .client("Client " + i)
+                        .startDate("15/06/2023")
+                        .description("Project " + i)
+                        .deleted(false).build())
+                .toList();
+
+        projectManagers = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> ProjectManager.builder()
+                        .projectManagerId((long) i)
+                        .name("Manager " + i)
+                        .email("manager" + i + "@gmail.com")
+                        .address(new Address((long) i, 1000, "Budapest", "Test street"))
+                        .birthDate(new BirthDate((long) i, 11, 3, 1980))
+                        .phoneNumber("+36203456789")
+                        .project(projects.get(i - 1))
+                        .deleted(false).build())
+                .toList();
+
+        programmers = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> Programmer.builder()
+                        .programmerId((long) i)
+                        .name("Programmer " + i)
+                        .email("programmer" + i + "@gmail.com")
+                        .address(new Address((long) i, 1000, "Budapest", "Test street"))
+                        .birthDate(new BirthDate((long) i, 11, 3, 1999))
+                        .phoneNumber("+36203456789")
+                        .project(projects.get(i % 10))
+                        .projectManager(projectManagers.get(i % 10))
+                        .responsibility(Responsibility.BACKEND)
+                        .isApprentice(i % 2 == 0)
+                        .deleted(false).build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProgrammerDto> programmersMapper() {
+        return programmers.stream().map(programmerMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<ProgrammerDto> programmersModelMapper() {
+        return programmers.stream().map(programmer -> modelMapper.map(programmer, ProgrammerDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<ProgrammerDetailsDto> programmerDetailsMapper() {
+        return programmers.stream().map(programmerMapper::toDetailsDto).toList();
+    }
+
+    @Benchmark
+    public List<ProjectManagerDto> projectManagersMapper() {
+        return projectManagers.stream().map(projectManagerMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<ProjectDto> projectsMapper() {
+        return projects.stream().map(projectMapper::toDto).toList();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backendtestproject.benchmarks;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.PageDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.enums.SortableField;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import com.example.backendtestproject.services.ProgrammerServiceImpl;
+import com.example.backendtestproject.services.ProjectManagerServiceImpl;
+import com.example.backendtestproject.services.ProjectServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures what the list services add around a query for every {@link SortableField}: resolving the requested
+ * ordering and encoding and decoding the keyset cursor of {@code findPage}. Nothing is sorted here, the database
+ * does that, so the repositories return a fixed page. Run the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeysetCursorBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param
+    private SortableField field;
+
+    private ProgrammerServiceImpl programmerService;
+    private ProjectManagerServiceImpl projectManagerService;
+    private ProjectServiceImpl projectService;
+    private String programmerCursor;
+    private String projectManagerCursor;
+    private String projectCursor;
+
+    @Setup
+    public void setup() {
+        List<ProgrammerDto> programmers = IntStream.rangeClosed(1, PAGE_SIZE + 1)
+                .mapToObj(i -> new ProgrammerDto((long) i, "Programmer " + i, new AddressDto((long) i, 1000 + i, "Budapest", "Test street"),
+                        new BirthDateDto((long) i, 11, 3, 1999), "+36203456789", "programmer" + i + "@gmail.com",
+                        Responsibility.BACKEND, i % 2 == 0, false, 0L))
+                .toList();
+        List<ProjectManagerDto> projectManagers = IntStream.rangeClosed(1, PAGE_SIZE + 1)
+                .mapToObj(i -> new ProjectManagerDto((long) i, "Manager " + i, new AddressDto((long) i, 1000 + i, "Budapest", "Test street"),
+                        new BirthDateDto((long) i, 11, 3, 1980), "+36203456789", "manager" + i + "@gmail.com", false, 0L))
+                .toList();
+        List<ProjectDto> projects = IntStream.rangeClosed(1, PAGE_SIZE + 1)
+                .mapToObj(i -> new ProjectDto((long) i, "Client " + i, "15/06/2023", "Project " + i, false, 0L))
+                .toList();
+
+        programmerService = new ProgrammerServiceImpl(stub(ProgrammerRepository.class, programmers),
+                stub(ProjectManagerRepository.class, projectManagers), null, null, null, null, null, null);
+        projectManagerService = new ProjectManagerServiceImpl(stub(ProjectManagerRepository.class, projectManagers),
+                null, null, null, null, null, null);
+        projectService = new ProjectServiceImpl(stub(ProjectRepository.class, projects), null, null,
+                stub(ProjectManagerRepository.class, projectManagers), stub(ProgrammerRepository.class, programmers),
+                null, null, null, null);
+
+        programmerCursor = programmerService.findPage(field.name(), "asc", PAGE_SIZE, null).nextCursor();
+        projectManagerCursor = projectManagerService.findPage(field.name(), "asc", PAGE_SIZE, null).nextCursor();
+        projectCursor = projectService.findPage(field.name(), "asc", PAGE_SIZE, null).nextCursor();
+    }
+
+    @Benchmark
+    public List<ProgrammerDto> programmersOrdered() {
+        return programmerService.findAllSorted(field.name(), "asc");
+    }
+
+    @Benchmark
+    public PageDto<ProgrammerDto> programmersPage() {
+        return programmerService.findPage(field.name(), "asc", PAGE_SIZE, programmerCursor);
+    }
+
+    @Benchmark
+    public List<ProjectManagerDto> projectManagersOrdered() {
+        return projectManagerService.findAllSorted(field.name(), "asc");
+    }
+
+    @Benchmark
+    public PageDto<ProjectManagerDto> projectManagersPage() {
+        return projectManagerService.findPage(field.name(), "asc", PAGE_SIZE, projectManagerCursor);
+    }
+
+    @Benchmark
+    public List<ProjectDto> projectsOrdered() {
+        return projectService.findAllSorted(field.name(), "asc");
+    }
+
+    @Benchmark
+    public PageDto<ProjectDto> projectsPage() {
+        return projectService.findPage(field.name(), "asc", PAGE_SIZE, projectCursor);
+    }
+
+    /**
+     * A repository that answers every list query with the given rows and finds nothing otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> repositoryType, List<?> rows) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> method.getReturnType() == List.class ? rows
+                        : method.getReturnType() == Optional.class ? Optional.empty() : null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KeysetCursorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.backendtestproject.benchmarks;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.mappers.AddressMapper;
+import com.example.backendtestproject.mappers.BirthDateMapper;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.models.ProjectManager;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link ModelMapper} with the hand-written mappers on the mappings the services run
+ * for every request. Run the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    private ModelMapper modelMapper;
+    private ProgrammerMapper programmerMapper;
+    private ProjectManagerMapper projectManagerMapper;
+    private Programmer programmer;
+    private ProjectManager projectManager;
+    private ProgrammerDto programmerDto;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        projectManagerMapper = new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper());
+        programmerMapper = new ProgrammerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper(), projectManagerMapper);
+
+        projectManager = ProjectManager.builder()
+                .projectManagerId(1L)
+                .name("First Manager")
+                .email("firstmanager@gmail.com")
+                .address(new Address(1L, 1000, "Budapest", "Test street"))
+                .birthDate(new BirthDate(1L, 11, 3, 1980))
+                .phoneNumber("+36203456789")
+                .project(Project.builder()
+                        .projectId(1L)
+                        .client("Test Client")
+                        .startDate("2162")
+                        .description("Test project")
+                        .deleted(false).build())
+                .deleted(false).build();
+
+        programmer = Programmer.builder()
+                .programmerId(1L)
+                .name("First Programmer")
+                .email("firstprogrammer@gmail.com")
+                .address(new Address(2L, 1000, "Budapest", "Test street"))
+                .birthDate(new BirthDate(2L, 11, 3, 1999))
+                .phoneNumber("+36203456789")
+                .project(projectManager.getProject())
+                .projectManager(projectManager)
+                .responsibility(Responsibility.BACKEND)
+                .isApprentice(true)
+                .deleted(false).build();
+
+        programmerDto = new ProgrammerDto(null, "First Programmer", new AddressDto(null, 1000, "Budapest", "Test street"),
+                new BirthDateDto(null, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.BACKEND, true, false, null);
+    }
+
+    @Benchmark
+    public ProgrammerDetailsDto programmerDetailsModelMapper() {
+        return modelMapper.map(programmer, ProgrammerDetailsDto.class);
+    }
+
+    @Benchmark
+    public ProgrammerDetailsDto programmerDetailsMapper() {
+        return programmerMapper.toDetailsDto(programmer);
+    }
+
+    @Benchmark
+    public ProjectManagerDetailsDto projectManagerDetailsModelMapper() {
+        return modelMapper.map(projectManager, ProjectManagerDetailsDto.class);
+    }
+
+    @Benchmark
+    public ProjectManagerDetailsDto projectManagerDetailsMapper() {
+        return projectManagerMapper.toDetailsDto(projectManager);
+    }
+
+    @Benchmark
+    public Programmer programmerEntityModelMapper() {
+        return modelMapper.map(programmerDto, Programmer.class);
+    }
+
+    @Benchmark
+    public Programmer programmerEntityMapper() {
+        return programmerMapper.toEntity(programmerDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
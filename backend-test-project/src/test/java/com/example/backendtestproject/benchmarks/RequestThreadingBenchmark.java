@@ -0,0 +1,122 @@
+package com.example.backendtestproject.benchmarks;
+
+import com.example.backendtestproject.configurations.VirtualThreadConfiguration;
+import com.example.backendtestproject.datasource.ConnectionLimitingDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a burst of simulated requests with the Tomcat worker pool and with the virtual thread mode. Every request
+ * blocks outside the database first, like a slow client or remote call, then holds one of ten pooled connections
+ * for a simulated query. The virtual variant needs JDK 21. Run the {@link #main(String[])} method from the test
+ * classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequestThreadingBenchmark {
+    private static final int REQUESTS = 2000;
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String model;
+
+    @Param({"0", "20"})
+    public long blockingMillis;
+
+    @Param({"2"})
+    public long queryMillis;
+
+    private ExecutorService executor;
+    private DataSource dataSource;
+
+    @Setup
+    public void setup() {
+        // The pool itself is only a limit on open connections, so the limiting data source stands in for it.
+        DataSource pool = new ConnectionLimitingDataSource(connectionStub(), POOL_SIZE, Duration.ofMinutes(1));
+
+        if (model.equals("virtual")) {
+            executor = VirtualThreadConfiguration.newVirtualThreadPerTaskExecutor();
+            dataSource = new ConnectionLimitingDataSource(pool, POOL_SIZE, Duration.ofMinutes(1));
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            dataSource = pool;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Callable<Boolean>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(this::request);
+        }
+
+        int served = 0;
+        for (Future<Boolean> response : executor.invokeAll(requests)) {
+            if (response.get()) {
+                served++;
+            }
+        }
+        return served;
+    }
+
+    private boolean request() throws Exception {
+        Thread.sleep(blockingMillis);
+
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(queryMillis);
+            return connection != null;
+        }
+    }
+
+    /**
+     * A data source whose connections do nothing, so only the waiting is measured.
+     */
+    private static DataSource connectionStub() {
+        Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> method.getName().equals("getConnection") ? connection : null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RequestThreadingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
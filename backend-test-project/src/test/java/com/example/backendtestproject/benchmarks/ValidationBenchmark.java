@@ -0,0 +1,167 @@
+package com.example.backendtestproject.benchmarks;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.services.ValidatorServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the rule set validator per item and per batch. The repositories are in-memory stubs, so the numbers leave
+ * out the duplicate email query. A valid single item takes the short-circuiting fast path and an invalid one runs the
+ * rule set, so both are measured. Run the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private ValidatorServiceImpl validatorService;
+    private ProgrammerDto validProgrammer;
+    private ProgrammerDto invalidProgrammer;
+    private ProjectDto project;
+    private ProgrammerDto editedProgrammer;
+    private ProjectManagerDto projectManager;
+    private ProjectManagerDto editedProjectManager;
+    private List<ProgrammerDto> programmerBatch;
+    private List<ProjectManagerDto> projectManagerBatch;
+
+    @Setup
+    public void setup() {
+        ProjectManagerRepository projectManagerRepository = stub(ProjectManagerRepository.class);
+        ProgrammerRepository programmerRepository = stub(ProgrammerRepository.class);
+        validatorService = new ValidatorServiceImpl(projectManagerRepository, programmerRepository);
+
+        validProgrammer = new ProgrammerDto(null, "First Programmer", new AddressDto(null, 1000, "Budapest", "Test street"),
+                new BirthDateDto(null, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.BACKEND, true, false, null);
+        invalidProgrammer = new ProgrammerDto(null, " ", new AddressDto(null, 999, "Budapest", ""),
+                new BirthDateDto(null, 32, 3, 1899), "+3610345678", "firstprogrammer.hu",
+                null, true, false, null);
+        project = new ProjectDto(null, "Test Client", "15/06/2023", "Test project", false, null);
+        editedProgrammer = new ProgrammerDto(1L, "First Programmer", new AddressDto(1L, 1000, "Budapest", "Test street"),
+                new BirthDateDto(1L, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.BACKEND, true, false, 0L);
+        projectManager = new ProjectManagerDto(null, "First Manager", new AddressDto(null, 1000, "Budapest", "Test street"),
+                new BirthDateDto(null, 11, 3, 1980), "+36203456789", "firstmanager@gmail.com", false, null);
+        editedProjectManager = new ProjectManagerDto(1L, "First Manager", new AddressDto(1L, 1000, "Budapest", "Test street"),
+                new BirthDateDto(1L, 11, 3, 1980), "+36203456789", "firstmanager@gmail.com", false, 0L);
+        programmerBatch = IntStream.range(0, 100)
+                .mapToObj(i -> new ProgrammerDto(null, "Programmer " + i, new AddressDto(null, 1000, "Budapest", "Test street"),
+                        new BirthDateDto(null, 11, 3, 1999), "+36203456789", "programmer" + i + "@gmail.com",
+                        Responsibility.BACKEND, true, false, null))
+                .toList();
+        projectManagerBatch = IntStream.range(0, 100)
+                .mapToObj(i -> new ProjectManagerDto(null, "Manager " + i, new AddressDto(null, 1000, "Budapest", "Test street"),
+                        new BirthDateDto(null, 11, 3, 1980), "+36203456789", "manager" + i + "@gmail.com", false, null))
+                .toList();
+    }
+
+    @Benchmark
+    public ValidatorResultDto validProgrammerRuleSet() {
+        return validatorService.isProgrammerValid(validProgrammer);
+    }
+
+    @Benchmark
+    public ValidatorResultDto invalidProgrammerRuleSet() {
+        return validatorService.isProgrammerValid(invalidProgrammer);
+    }
+
+    @Benchmark
+    public ValidatorResultDto editedProgrammerRuleSet() {
+        return validatorService.isEditedProgrammerValid(editedProgrammer);
+    }
+
+    @Benchmark
+    public List<ValidatorResultDto> programmerBatchRuleSet() {
+        return validatorService.areProgrammersValid(programmerBatch);
+    }
+
+    @Benchmark
+    public ValidatorResultDto projectManagerRuleSet() {
+        return validatorService.isProjectManagerValid(projectManager);
+    }
+
+    @Benchmark
+    public ValidatorResultDto editedProjectManagerRuleSet() {
+        return validatorService.isEditedProjectManagerValid(editedProjectManager);
+    }
+
+    @Benchmark
+    public List<ValidatorResultDto> projectManagerBatchRuleSet() {
+        return validatorService.areProjectManagersValid(projectManagerBatch);
+    }
+
+    @Benchmark
+    public ValidatorResultDto projectRuleSet() {
+        return validatorService.isProjectValid(project);
+    }
+
+    @Benchmark
+    public ValidatorResultDto startDateRuleSet() {
+        return validatorService.isStartDateValid(project);
+    }
+
+    @Benchmark
+    public ValidatorResultDto addressRuleSet() {
+        return validatorService.isAddressValid(validProgrammer.getAddress());
+    }
+
+    @Benchmark
+    public ValidatorResultDto birthDateRuleSet() {
+        return validatorService.isBirthDateValid(validProgrammer.getBirthDate());
+    }
+
+    @Benchmark
+    public ValidatorResultDto phoneNumberRuleSet() {
+        return validatorService.isProgrammerPhoneNumberValid(validProgrammer);
+    }
+
+    @Benchmark
+    public ValidatorResultDto emailRuleSet() {
+        return validatorService.isProgrammerEmailValid(validProgrammer);
+    }
+
+    /**
+     * A repository whose every query finds nothing, without the overhead of a mocking library.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> method.getReturnType() == Optional.class ? Optional.empty()
+                        : method.getReturnType() == Set.class ? Set.of() : null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backendtestproject.caching;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+public class DetailsCacheInvalidatorTest {
+    private CaffeineCacheManager cacheManager;
+    private TaskScheduler mockTaskScheduler;
+    private Cache cache;
+    private DetailsCacheInvalidator target;
+
+    @BeforeEach
+    void init() {
+        cacheManager = new CaffeineCacheManager(DetailsCaches.PROGRAMMERS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfter(new DetailsExpiry(Duration.ofMinutes(10), Duration.ofMinutes(1))));
+        cache = cacheManager.getCache(DetailsCaches.PROGRAMMERS);
+        mockTaskScheduler = Mockito.mock(TaskScheduler.class);
+        target = new DetailsCacheInvalidator(cacheManager, mockTaskScheduler, List.of(), Duration.ofSeconds(5));
+
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+        cache.put(3L, null);
+    }
+
+    @Test
+    void onDetailsChanged_ChangedIds_EvictsOnlyThoseIds() {
+
+        // ACT
+        target.onDetailsChanged(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, List.of(1L)));
+
+        // ASSERT
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+        assertNotNull(cache.get(3L));
+    }
+
+    @Test
+    void onDetailsChanged_Created_DropsCachedMissesAndKeepsDetails() {
+
+        // ACT
+        target.onDetailsChanged(DetailsChangedEvent.created(DetailsCaches.PROGRAMMERS));
+
+        // ASSERT
+        assertNotNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+        assertNull(cache.get(3L));
+    }
+
+    @Test
+    void onDetailsChanged_WithoutReplicas_SchedulesNoSecondEviction() {
+
+        // ACT
+        target.onDetailsChanged(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, List.of(1L)));
+
+        // ASSERT
+        Mockito.verifyNoInteractions(mockTaskScheduler);
+    }
+
+    @Test
+    void onDetailsChanged_WithReplicas_EvictsAgainAfterTheReplicaLag() {
+
+        // ARRANGE
+        target = new DetailsCacheInvalidator(cacheManager, mockTaskScheduler,
+                List.of("jdbc:mysql://localhost:3307/programming"), Duration.ofSeconds(5));
+        ArgumentCaptor<Runnable> evictAgain = ArgumentCaptor.forClass(Runnable.class);
+
+        // ACT
+        target.onDetailsChanged(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, List.of(1L)));
+        cache.put(1L, "stale from replica");
+        Mockito.verify(mockTaskScheduler).schedule(evictAgain.capture(), any(Instant.class));
+        evictAgain.getValue().run();
+
+        // ASSERT
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(2L));
+    }
+}
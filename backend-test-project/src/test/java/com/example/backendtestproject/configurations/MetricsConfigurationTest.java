@@ -0,0 +1,67 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.services.ValidatorService;
+import com.example.backendtestproject.services.ValidatorServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsConfigurationTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void timedAspect_ValidatorCalled_RecordsTimerPerMethod() {
+
+        // ARRANGE
+        ValidatorService validator = timed(new ValidatorServiceImpl(Mockito.mock(ProjectManagerRepository.class),
+                Mockito.mock(ProgrammerRepository.class)));
+
+        // ACT
+        validator.isStartDateValidFormat(new ProjectDto(null, "Client", "01/02/2023", "First", false, null));
+        validator.isStartDateValidFormat(new ProjectDto(null, "Client", "2023", "First", false, null));
+
+        // ASSERT
+        Timer timer = meterRegistry.find(MetricNames.VALIDATOR)
+                .tags("class", ValidatorServiceImpl.class.getName(), "method", "isStartDateValidFormat")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void timedAspect_MapperCalled_RecordsNoTimer() {
+
+        // ARRANGE
+        ProjectMapper mapper = timed(new ProjectMapper());
+
+        // ACT
+        ProjectDto result = mapper.toDto(Project.builder().projectId(1L).client("Client").build());
+
+        // ASSERT
+        assertEquals("Client", result.getClient());
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private <T> T timed(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MetricsConfiguration().timedAspect(meterRegistry));
+        return proxyFactory.getProxy();
+    }
+}
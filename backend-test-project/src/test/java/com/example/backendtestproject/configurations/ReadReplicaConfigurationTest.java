@@ -0,0 +1,108 @@
+package com.example.backendtestproject.configurations;
+
+import com.example.backendtestproject.datasource.ReplicaRoutingDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+public class ReadReplicaConfigurationTest {
+    private static final String QUERY = "SELECT version FROM programmers WHERE programmer_id = 1";
+
+    private Connection mockPrimaryConnection;
+    private Connection mockReplicaConnection;
+    private EntityManagerFactory mockEntityManagerFactory;
+    private Session mockSession;
+    private ReplicaRoutingDataSource dataSource;
+    private ReadReplicaConfiguration target;
+
+    @BeforeEach
+    void init() throws SQLException {
+        DataSource mockPrimary = Mockito.mock(DataSource.class);
+        DataSource mockReplica = Mockito.mock(DataSource.class);
+        mockPrimaryConnection = Mockito.mock(Connection.class);
+        mockReplicaConnection = Mockito.mock(Connection.class);
+        Statement mockStatement = Mockito.mock(Statement.class);
+        ResultSet mockReplicaStatus = Mockito.mock(ResultSet.class);
+        Mockito.when(mockPrimary.getConnection()).thenReturn(mockPrimaryConnection);
+        Mockito.when(mockReplica.getConnection()).thenReturn(mockReplicaConnection);
+        Mockito.when(mockReplicaConnection.createStatement()).thenReturn(mockStatement);
+        Mockito.when(mockStatement.executeQuery("SHOW REPLICA STATUS")).thenReturn(mockReplicaStatus);
+        Mockito.when(mockReplicaStatus.next()).thenReturn(true);
+        Mockito.when(mockReplicaStatus.getLong("Seconds_Behind_Source")).thenReturn(4L);
+
+        mockEntityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        EntityManager mockEntityManager = Mockito.mock(EntityManager.class);
+        mockSession = Mockito.mock(Session.class);
+        Mockito.when(mockEntityManager.unwrap(Session.class)).thenReturn(mockSession);
+        TransactionSynchronizationManager.bindResource(mockEntityManagerFactory, new EntityManagerHolder(mockEntityManager));
+
+        dataSource = new ReplicaRoutingDataSource(mockPrimary, List.of(mockReplica), Duration.ofSeconds(5));
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        target = new ReadReplicaConfiguration(dataSource, mockEntityManagerFactory);
+        target.registerReplicaReadListener();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.unbindResource(mockEntityManagerFactory);
+    }
+
+    @Test
+    void checkReplicas_ReplicaWithinLag_ReadGoesToReplica() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        dataSource.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockReplicaConnection).prepareStatement(QUERY);
+        Mockito.verify(mockPrimaryConnection, Mockito.never()).prepareStatement(QUERY);
+    }
+
+    @Test
+    void registerReplicaReadListener_ReadGoesToReplica_SessionStopsPuttingIntoSecondLevelCache() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        dataSource.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockSession).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void registerReplicaReadListener_ReadGoesToPrimary_KeepsCacheMode() throws SQLException {
+
+        // ARRANGE
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        dataSource.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verifyNoInteractions(mockSession);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.dtos.CacheRegionStatisticsDto;
+import com.example.backendtestproject.dtos.DetailsCacheStatisticsDto;
+import com.example.backendtestproject.services.CacheStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CacheStatisticsRestController.class)
+@AutoConfigureMockMvc
+public class CacheStatisticsRestControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Test
+    void apiCacheStatistics_ReturnsRegionCounters() throws Exception {
+        Mockito.when(cacheStatisticsService.findAll()).thenReturn(List.of(
+                new CacheRegionStatisticsDto("com.example.backendtestproject.models.ProjectManager", 3, 1, 1, 0.75)));
+
+        mockMvc.perform(get("/api/cache-statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].region").value("com.example.backendtestproject.models.ProjectManager"))
+                .andExpect(jsonPath("$[0].hitCount").value(3))
+                .andExpect(jsonPath("$[0].missCount").value(1))
+                .andExpect(jsonPath("$[0].hitRatio").value(0.75));
+    }
+
+    @Test
+    void apiDetailsCacheStatistics_ReturnsHitRatioAndEvictions() throws Exception {
+        Mockito.when(cacheStatisticsService.findDetailsCaches()).thenReturn(List.of(
+                new DetailsCacheStatisticsDto(DetailsCaches.PROGRAMMERS, 9, 1, 0.9, 2, 40)));
+
+        mockMvc.perform(get("/api/cache-statistics/details"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].cache").value(DetailsCaches.PROGRAMMERS))
+                .andExpect(jsonPath("$[0].hitRatio").value(0.9))
+                .andExpect(jsonPath("$[0].evictionCount").value(2))
+                .andExpect(jsonPath("$[0].size").value(40));
+    }
+}
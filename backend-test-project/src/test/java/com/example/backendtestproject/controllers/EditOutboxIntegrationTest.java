@@ -0,0 +1,139 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.repositories.OutboxEventRepository;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles({"test"})
+@TestPropertySource(properties = "app.outbox.poll-interval=PT1H")
+public class EditOutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProgrammerRepository programmerRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    public void apiEditProgrammer_EmailUnchanged_RecordsNoUpdateEvent() throws Exception {
+
+        // ARRANGE
+        mockMvc.perform(post("/api/add-programmers")
+                        .content(programmerJson("Added Programmer", "outbox.edit@test.com"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Programmer lastProgrammer = ((List<Programmer>) programmerRepository.findAll())
+                .stream().max(Comparator.comparing(Programmer::getProgrammerId)).orElse(null);
+
+        // ACT
+        mockMvc.perform(post("/api/edit-programmers/" + lastProgrammer.getProgrammerId())
+                        .content(programmerJson("Edited Programmer", "outbox.edit@test.com"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.emailExists));
+
+        // ASSERT
+        assertEquals(0, updateEvents(EntityType.PROGRAMMER, lastProgrammer.getProgrammerId()));
+
+        mockMvc.perform(delete("/api/delete-programmers/" + lastProgrammer.getProgrammerId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void apiEditProject_ClientMissing_RecordsNoUpdateEvent() throws Exception {
+
+        // ARRANGE
+        mockMvc.perform(post("/api/add-projects")
+                        .content("{\n" +
+                                "  \"client\": \"Added Client\",\n" +
+                                "  \"startDate\": \"1/3/2023\",\n" +
+                                "  \"description\": \"Added\",\n" +
+                                "  \"deleted\": \"false\"\n" +
+                                "}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Project lastProject = ((List<Project>) projectRepository.findAll())
+                .stream().max(Comparator.comparing(Project::getProjectId)).orElse(null);
+
+        // ACT
+        mockMvc.perform(post("/api/edit-projects/" + lastProject.getProjectId())
+                        .content("{\n" +
+                                "  \"startDate\": \"1/3/2023\",\n" +
+                                "  \"description\": \"Edited\",\n" +
+                                "  \"deleted\": \"false\"\n" +
+                                "}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.clientMissing));
+
+        // ASSERT
+        assertEquals(0, updateEvents(EntityType.PROJECT, lastProject.getProjectId()));
+
+        mockMvc.perform(delete("/api/delete-projects/" + lastProject.getProjectId()))
+                .andExpect(status().isOk());
+    }
+
+    private long updateEvents(EntityType entityType, Long entityId) {
+        return StreamSupport.stream(outboxEventRepository.findAll().spliterator(), false)
+                .filter(event -> event.getEntityType() == entityType
+                        && event.getEntityId().equals(entityId)
+                        && event.getChangeType() == ChangeType.UPDATED)
+                .count();
+    }
+
+    private static String programmerJson(String name, String email) {
+        return "{\n" +
+                "  \"name\": \"" + name + "\",\n" +
+                "  \"address\": {\n" +
+                "    \"zipCode\": 1000,\n" +
+                "    \"city\": \"Budapest\",\n" +
+                "    \"street\": \"Test street\"\n" +
+                "  },\n" +
+                "  \"birthDate\": {\n" +
+                "    \"day\": 11,\n" +
+                "    \"month\": 3,\n" +
+                "    \"year\": 1999\n" +
+                "  },\n" +
+                "  \"phoneNumber\": \"+36303466789\",\n" +
+                "  \"email\": \"" + email + "\",\n" +
+                "  \"responsibility\": \"BACKEND\",\n" +
+                "  \"isApprentice\": true,\n" +
+                "  \"deleted\": \"false\"\n" +
+                "}";
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.enums.ExportFormat;
+import com.example.backendtestproject.metrics.MetricNames;
+import com.example.backendtestproject.services.ExportService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportRestController.class)
+@AutoConfigureMockMvc
+@Import(SimpleMeterRegistry.class)
+public class ExportRestControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @MockBean
+    private ExportService exportService;
+
+    @Test
+    void apiExportProgrammers_Csv_StreamsCsvAttachment() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("programmerId\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportProgrammers(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/programmers/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"programmers.csv\""))
+                .andExpect(content().string("programmerId\r\n1\r\n"));
+    }
+
+    @Test
+    void apiExportProjects_Gzip_CompressesBody() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"projectId\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportProjects(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/projects/export").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("{\"projectId\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void apiExportProjectManagers_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/project-managers/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.invalidExportFormat));
+    }
+
+    @Test
+    void apiExportProgrammers_BodyWritten_RecordsExportTimer() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"programmerId\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportProgrammers(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/programmers/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find(MetricNames.EXPORT)
+                .tags("entity", "programmers", "format", "ndjson", "gzip", "false")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.dtos.OutboxStatisticsDto;
+import com.example.backendtestproject.services.OutboxService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OutboxStatisticsRestController.class)
+@AutoConfigureMockMvc
+public class OutboxStatisticsRestControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @Test
+    void apiOutboxStatistics_ReturnsBacklogAndLag() throws Exception {
+        Mockito.when(outboxService.statistics()).thenReturn(new OutboxStatisticsDto(4, 1500, 120, 1, 80, 900));
+
+        mockMvc.perform(get("/api/outbox-statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pendingEvents").value(4))
+                .andExpect(jsonPath("$.oldestPendingAgeMillis").value(1500))
+                .andExpect(jsonPath("$.deliveredEvents").value(120))
+                .andExpect(jsonPath("$.failedDeliveries").value(1))
+                .andExpect(jsonPath("$.lastDeliveryLagMillis").value(80));
+    }
+}
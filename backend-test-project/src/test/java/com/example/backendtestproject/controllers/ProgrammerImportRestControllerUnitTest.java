@@ -0,0 +1,92 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ImportJobDto;
+import com.example.backendtestproject.dtos.ImportRowErrorDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ImportStatus;
+import com.example.backendtestproject.services.ProgrammerImportService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ProgrammerImportRestController.class)
+@AutoConfigureMockMvc
+public class ProgrammerImportRestControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProgrammerImportService programmerImportService;
+
+    @Test
+    void apiStartProgrammerImport_CsvFile_ReturnsQueuedJob() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "programmers.csv", "text/csv",
+                "name,email\n".getBytes());
+        Mockito.when(programmerImportService.start(eq("programmers.csv"), any(InputStream.class)))
+                .thenReturn(new ImportJobDto(1L, "programmers.csv", ImportStatus.QUEUED, 0L, 0L, 0L, 0.0,
+                        null, null, null, List.of()));
+
+        mockMvc.perform(multipart("/api/programmers/imports").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.importJobId").value(1))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void apiStartProgrammerImport_MissingFile_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(multipart("/api/programmers/imports"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.importFileMissing));
+    }
+
+    @Test
+    void apiProgrammerImportStatus_ExistingJob_ReturnsProgressAndRejectedRows() throws Exception {
+        Mockito.when(programmerImportService.findById(1L))
+                .thenReturn(new ImportJobDto(1L, "programmers.csv", ImportStatus.RUNNING, 1000L, 999L, 1L, 2500.0,
+                        Instant.now(), null, null, List.of(new ImportRowErrorDto(7, ProgrammingConstants.comIsMissing))));
+
+        mockMvc.perform(get("/api/programmers/imports/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsProcessed").value(1000))
+                .andExpect(jsonPath("$.rowsPerSecond").value(2500.0))
+                .andExpect(jsonPath("$.rejectedRows", hasSize(1)))
+                .andExpect(jsonPath("$.rejectedRows[0].row").value(7));
+    }
+
+    @Test
+    void apiProgrammerImportStatus_UnknownJob_ReturnsBadRequest() throws Exception {
+        Mockito.when(programmerImportService.findById(1L)).thenReturn(null);
+
+        mockMvc.perform(get("/api/programmers/imports/1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.noImportJobFound));
+    }
+
+    @Test
+    void apiResumeProgrammerImport_JobNotFailed_ReturnsBadRequest() throws Exception {
+        Mockito.when(programmerImportService.resume(1L))
+                .thenReturn(new ValidatorResultDto(false, ProgrammingConstants.importJobNotResumable));
+
+        mockMvc.perform(post("/api/programmers/imports/1/resume"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.importJobNotResumable));
+    }
+}
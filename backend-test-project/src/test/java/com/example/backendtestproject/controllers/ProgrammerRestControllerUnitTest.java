@@ -1,8 +1,11 @@
 package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
 import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
 import com.example.backendtestproject.enums.Responsibility;
 import com.example.backendtestproject.models.Address;
@@ -10,6 +13,7 @@ import com.example.backendtestproject.models.BirthDate;
 import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.services.ProgrammerService;
+import com.example.backendtestproject.services.WriteVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,6 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,6 +32,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +46,9 @@ public class ProgrammerRestControllerUnitTest {
     @MockBean
     private ProgrammerService programmerService;
 
+    @MockBean
+    private WriteVersionService writeVersionService;
+
     private ModelMapper modelMapper;
 
     private Programmer programmer;
@@ -47,6 +57,7 @@ public class ProgrammerRestControllerUnitTest {
 
     @BeforeEach
     public void init() {
+        Mockito.when(writeVersionService.eTag(Mockito.any())).thenReturn("\"0\"");
         modelMapper = new ModelMapper();
         programmers = List.of(
                 Programmer.builder()
@@ -210,6 +221,48 @@ public class ProgrammerRestControllerUnitTest {
                 .findAllSorted("name", "asc");
     }
 
+    @Test
+    public void apiListProgrammers_WithLimit_ReturnsPageWithNextCursor() throws Exception {
+
+        Mockito.when(programmerService.findPage("name", "asc", 1, null))
+                .thenReturn(new PageDto<>(List.of(modelMapper.map(programmer, ProgrammerDto.class)), "nextCursor"));
+
+        mockMvc.perform(get("/api/programmers?sortby=name&order=asc&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name")
+                        .value("First Programmer"))
+                .andExpect(jsonPath("$.nextCursor")
+                        .value("nextCursor"));
+
+        Mockito.verify(programmerService, Mockito.times(1))
+                .findPage("name", "asc", 1, null);
+    }
+
+    @Test
+    public void apiListProgrammers_WithInvalidLimit_ReturnsErrorDto() throws Exception {
+
+        mockMvc.perform(get("/api/programmers?limit=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidLimit));
+
+        Mockito.verify(programmerService, Mockito.never())
+                .findPage(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
+
+    @Test
+    public void apiListProgrammers_WithInvalidCursor_ReturnsErrorDto() throws Exception {
+
+        Mockito.when(programmerService.findPage(null, null, ProgrammingConstants.defaultPageLimit, "invalid"))
+                .thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get("/api/programmers?cursor=invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidCursor));
+    }
+
     @Test
     public void apiDetailsProgrammer_ValidId_ReturnsCorrectProgrammerDetails() throws Exception {
 
@@ -264,6 +317,58 @@ public class ProgrammerRestControllerUnitTest {
                 .findById(999L);
     }
 
+    @Test
+    public void apiDetailsProgrammer_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+
+        Mockito.when(programmerService.findById(1L)).thenReturn(versionedDetails(3L, 1L, 2L));
+
+        mockMvc.perform(get("/api/details-programmers/1").header(HttpHeaders.IF_NONE_MATCH, "\"3-1-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-1-2\""));
+    }
+
+    @Test
+    public void apiDetailsProgrammer_LinkedProjectManagerChanged_ReturnsNewETag() throws Exception {
+
+        Mockito.when(programmerService.findById(1L)).thenReturn(versionedDetails(3L, 2L, 2L));
+
+        mockMvc.perform(get("/api/details-programmers/1").header(HttpHeaders.IF_NONE_MATCH, "\"3-1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-2-2\""));
+    }
+
+    @Test
+    public void apiDetailsProgrammer_NoProjectManager_LeavesItsPartEmpty() throws Exception {
+
+        Mockito.when(programmerService.findById(1L)).thenReturn(versionedDetails(3L, null, 0L));
+
+        mockMvc.perform(get("/api/details-programmers/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3--0\""));
+    }
+
+    @Test
+    public void apiEditProgrammer_IfMatchFromDetailsETag_PassesRowVersionToService() throws Exception {
+
+        Mockito.when(programmerService.findById(1L)).thenReturn(versionedDetails(3L, 1L, 2L));
+        Mockito.when(programmerService.editById(Mockito.anyLong(), Mockito.any(ProgrammerDto.class)))
+                .thenReturn(new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("programmer")));
+
+        String eTag = mockMvc.perform(get("/api/details-programmers/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/edit-programmers/1")
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .content("{\"name\": \"Edited Programmer\", \"email\": \"edited@gmail.com\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(ProgrammingConstants.saveSuccess("programmer")));
+
+        Mockito.verify(programmerService).editById(Mockito.eq(1L),
+                Mockito.argThat(programmer -> Long.valueOf(3L).equals(programmer.getVersion())));
+    }
+
     @Test
     public void apiDeleteProgrammers_InvalidId_ReturnsErrorDto() throws Exception {
 
@@ -360,6 +465,117 @@ public class ProgrammerRestControllerUnitTest {
                 .save(Mockito.any(ProgrammerDto.class));
     }
 
+    @Test
+    public void apiAddProgrammer_EmailTakenConcurrently_ReturnsErrorDto() throws Exception {
+
+        Mockito.when(programmerService.save(Mockito.any(ProgrammerDto.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'test@test.com' " +
+                        "for key 'programmers.uk_programmers_active_email'"));
+
+        mockMvc.perform(post("/api/add-programmers")
+                        .content("{\n" +
+                                "  \"name\": \"Added programmer\",\n" +
+                                "  \"address\": {\n" +
+                                "    \"zipCode\": 1000,\n" +
+                                "    \"city\": \"Budapest\",\n" +
+                                "    \"street\": \"Test street\"\n" +
+                                "  },\n" +
+                                "  \"birthDate\": {\n" +
+                                "    \"day\": 11,\n" +
+                                "    \"month\": 3,\n" +
+                                "    \"year\": 1999\n" +
+                                "  },\n" +
+                                "  \"phoneNumber\": \"+36303466789\",\n" +
+                                "  \"email\": \"test@test.com\",\n" +
+                                "  \"responsibility\": \"BACKEND\",\n" +
+                                "  \"isApprentice\": true,\n" +
+                                "  \"deleted\": \"false\"\n" +
+                                "}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.emailExists))
+                .andExpect(jsonPath("$.errors[0].field").value("email"));
+    }
+
+    @Test
+    public void apiAddProgrammersBulk_MixedItems_ReturnsPerItemResults() throws Exception {
+
+        Mockito.when(programmerService.saveAll(Mockito.anyList()))
+                .thenReturn(List.of(new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("programmer")),
+                        new ValidatorResultDto(false, ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.emailExists)));
+
+        mockMvc.perform(post("/api/programmers/bulk")
+                        .content("[{\n" +
+                                "  \"name\": \"Added programmer\",\n" +
+                                "  \"address\": {\"zipCode\": 1000, \"city\": \"Budapest\", \"street\": \"Test street\"},\n" +
+                                "  \"birthDate\": {\"day\": 11, \"month\": 3, \"year\": 1999},\n" +
+                                "  \"phoneNumber\": \"+36303466789\",\n" +
+                                "  \"email\": \"test@test.com\",\n" +
+                                "  \"responsibility\": \"BACKEND\",\n" +
+                                "  \"isApprentice\": true\n" +
+                                "}, {\n" +
+                                "  \"name\": \"Second programmer\",\n" +
+                                "  \"email\": \"test@test.com\"\n" +
+                                "}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveSuccess("programmer")))
+                .andExpect(jsonPath("[1].message")
+                        .value(ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.emailExists));
+
+        Mockito.verify(programmerService, Mockito.times(1))
+                .saveAll(Mockito.anyList());
+    }
+
+    @Test
+    public void apiAddProgrammersBulk_AllItemsInvalid_ReturnsBadRequest() throws Exception {
+
+        Mockito.when(programmerService.saveAll(Mockito.anyList()))
+                .thenReturn(List.of(new ValidatorResultDto(false, ProgrammingConstants.saveFail("programmer"))));
+
+        mockMvc.perform(post("/api/programmers/bulk")
+                        .content("[{\"name\": \"Test\"}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveFail("programmer")));
+    }
+
+    @Test
+    public void apiAddProgrammersBulk_EmailTakenConcurrently_ReturnsPerItemResults() throws Exception {
+
+        Mockito.when(programmerService.saveAll(Mockito.anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'test@test.com' " +
+                        "for key 'programmers.uk_programmers_active_email'"));
+
+        mockMvc.perform(post("/api/programmers/bulk")
+                        .content("[{\"name\": \"First\", \"email\": \"test@test.com\"}, " +
+                                "{\"name\": \"Second\", \"email\": \"other@test.com\"}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.emailExists))
+                .andExpect(jsonPath("[1].errors[0].field").value("email"));
+    }
+
+    @Test
+    public void apiAddProgrammersBulk_EmptyList_ReturnsErrorDto() throws Exception {
+
+        mockMvc.perform(post("/api/programmers/bulk")
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidBulkSize));
+
+        Mockito.verify(programmerService, Mockito.never())
+                .saveAll(Mockito.anyList());
+    }
+
     @Test
     public void apiEditProgrammer_ValidProgrammer_ReturnsSuccessDto() throws Exception {
 
@@ -427,4 +643,18 @@ public class ProgrammerRestControllerUnitTest {
         Mockito.verify(programmerService, Mockito.times(1))
                 .editById(Mockito.anyLong(), Mockito.any(ProgrammerDto.class));
     }
+
+    private ProgrammerDetailsDto versionedDetails(Long version, Long projectManagerVersion, Long projectVersion) {
+        ProgrammerDetailsDto details = modelMapper.map(programmer, ProgrammerDetailsDto.class);
+        details.setVersion(version);
+        if (projectManagerVersion != null) {
+            ProjectManagerDto projectManager = new ProjectManagerDto();
+            projectManager.setVersion(projectManagerVersion);
+            details.setProjectManager(projectManager);
+        }
+        ProjectDto project = new ProjectDto();
+        project.setVersion(projectVersion);
+        details.setProject(project);
+        return details;
+    }
 }
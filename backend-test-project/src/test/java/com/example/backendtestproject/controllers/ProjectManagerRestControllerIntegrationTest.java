@@ -1,12 +1,16 @@
 package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.datasource.CacheReset;
+import com.example.backendtestproject.datasource.StatementBudget;
 import com.example.backendtestproject.models.ProjectManager;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +31,12 @@ public class ProjectManagerRestControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ProjectManagerRepository projectManagerRepository;
 
@@ -36,6 +46,14 @@ public class ProjectManagerRestControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void apiListProjectManagers_ListContainsProjectManagers_ExecutesTagAndListStatementsWithColdCaches() throws Exception {
+        CacheReset.clearAll(cacheManager, entityManagerFactory);
+
+        mockMvc.perform(get("/api/project-managers"))
+                .andExpect(StatementBudget.statements(2));
+    }
+
     @Test
     public void apiListProjectManagers_ListContainsProjectManagers_ReturnsCorrectListSize() throws Exception {
         int numberOfProjectManagers = ((List<ProjectManager>) projectManagerRepository.findAll()).size();
@@ -75,6 +93,14 @@ public class ProjectManagerRestControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void apiDetails_ProjectManagerExists_ExecutesOneStatementWithColdCaches() throws Exception {
+        CacheReset.clearAll(cacheManager, entityManagerFactory);
+
+        mockMvc.perform(get("/api/details-project-managers/1"))
+                .andExpect(StatementBudget.statements(1));
+    }
+
     @Test
     public void apiDetails_ProjectManagerExists_ReturnsCorrectFields() throws Exception {
         mockMvc.perform(get("/api/details-project-managers/1"))
@@ -1,6 +1,7 @@
 package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
 import com.example.backendtestproject.dtos.ProjectManagerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
@@ -9,6 +10,7 @@ import com.example.backendtestproject.models.BirthDate;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.models.ProjectManager;
 import com.example.backendtestproject.services.ProjectManagerService;
+import com.example.backendtestproject.services.WriteVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -17,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -38,6 +41,9 @@ public class ProjectManagerRestControllerUnitTest {
     @MockBean
     private ProjectManagerService projectManagerService;
 
+    @MockBean
+    private WriteVersionService writeVersionService;
+
     private ModelMapper modelMapper;
 
     private ProjectManager projectManager;
@@ -46,6 +52,7 @@ public class ProjectManagerRestControllerUnitTest {
 
     @BeforeEach
     public void init() {
+        Mockito.when(writeVersionService.eTag(Mockito.any())).thenReturn("\"0\"");
         modelMapper = new ModelMapper();
         projectManagers = List.of(
                 ProjectManager.builder()
@@ -196,6 +203,48 @@ public class ProjectManagerRestControllerUnitTest {
                 .findAllSorted("name", "asc");
     }
 
+    @Test
+    public void apiListProjectManagers_WithLimit_ReturnsPageWithNextCursor() throws Exception {
+
+        Mockito.when(projectManagerService.findPage("name", "asc", 1, null))
+                .thenReturn(new PageDto<>(List.of(modelMapper.map(projectManager, ProjectManagerDto.class)), "nextCursor"));
+
+        mockMvc.perform(get("/api/project-managers?sortby=name&order=asc&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name")
+                        .value("First Manager"))
+                .andExpect(jsonPath("$.nextCursor")
+                        .value("nextCursor"));
+
+        Mockito.verify(projectManagerService, Mockito.times(1))
+                .findPage("name", "asc", 1, null);
+    }
+
+    @Test
+    public void apiListProjectManagers_WithInvalidLimit_ReturnsErrorDto() throws Exception {
+
+        mockMvc.perform(get("/api/project-managers?limit=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidLimit));
+
+        Mockito.verify(projectManagerService, Mockito.never())
+                .findPage(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
+
+    @Test
+    public void apiListProjectManagers_WithInvalidCursor_ReturnsErrorDto() throws Exception {
+
+        Mockito.when(projectManagerService.findPage(null, null, ProgrammingConstants.defaultPageLimit, "invalid"))
+                .thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get("/api/project-managers?cursor=invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidCursor));
+    }
+
     @Test
     public void apiDetailsProjectManager_ValidId_ReturnsCorrectProjectManagerDetails() throws Exception {
 
@@ -338,6 +387,113 @@ public class ProjectManagerRestControllerUnitTest {
                 .save(Mockito.any(ProjectManagerDto.class));
     }
 
+    @Test
+    public void apiAddProjectManager_EmailTakenConcurrently_ReturnsErrorDto() throws Exception {
+
+        Mockito.when(projectManagerService.save(Mockito.any(ProjectManagerDto.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'test@test.com' " +
+                        "for key 'project_managers.uk_project_managers_active_email'"));
+
+        mockMvc.perform(post("/api/add-project-managers")
+                        .content("{\n" +
+                                "  \"name\": \"Test manager\",\n" +
+                                "  \"address\": {\n" +
+                                "    \"zipCode\": 1130,\n" +
+                                "    \"city\": \"Budapest\",\n" +
+                                "    \"street\": \"Test street\"\n" +
+                                "  },\n" +
+                                "  \"birthDate\": {\n" +
+                                "    \"day\": 11,\n" +
+                                "    \"month\": 3,\n" +
+                                "    \"year\": 1999\n" +
+                                "  },\n" +
+                                "  \"phoneNumber\": \"+36303466789\",\n" +
+                                "  \"email\": \"test@test.com\",\n" +
+                                "  \"deleted\": \"false\"\n" +
+                                "}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.saveFail("project manager") + ProgrammingConstants.emailExists))
+                .andExpect(jsonPath("$.errors[0].field").value("email"));
+    }
+
+    @Test
+    public void apiAddProjectManagersBulk_MixedItems_ReturnsPerItemResults() throws Exception {
+
+        Mockito.when(projectManagerService.saveAll(Mockito.anyList()))
+                .thenReturn(List.of(new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project manager")),
+                        new ValidatorResultDto(false, ProgrammingConstants.saveFail("project manager") + ProgrammingConstants.emailExists)));
+
+        mockMvc.perform(post("/api/project-managers/bulk")
+                        .content("[{\n" +
+                                "  \"name\": \"Added manager\",\n" +
+                                "  \"address\": {\"zipCode\": 1000, \"city\": \"Budapest\", \"street\": \"Test street\"},\n" +
+                                "  \"birthDate\": {\"day\": 11, \"month\": 3, \"year\": 1999},\n" +
+                                "  \"phoneNumber\": \"+36303466789\",\n" +
+                                "  \"email\": \"test@test.com\"\n" +
+                                "}, {\n" +
+                                "  \"name\": \"Second manager\",\n" +
+                                "  \"email\": \"test@test.com\"\n" +
+                                "}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveSuccess("project manager")))
+                .andExpect(jsonPath("[1].message")
+                        .value(ProgrammingConstants.saveFail("project manager") + ProgrammingConstants.emailExists));
+
+        Mockito.verify(projectManagerService, Mockito.times(1))
+                .saveAll(Mockito.anyList());
+    }
+
+    @Test
+    public void apiAddProjectManagersBulk_AllItemsInvalid_ReturnsBadRequest() throws Exception {
+
+        Mockito.when(projectManagerService.saveAll(Mockito.anyList()))
+                .thenReturn(List.of(new ValidatorResultDto(false, ProgrammingConstants.saveFail("project manager"))));
+
+        mockMvc.perform(post("/api/project-managers/bulk")
+                        .content("[{\"name\": \"Test\"}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveFail("project manager")));
+    }
+
+    @Test
+    public void apiAddProjectManagersBulk_EmailTakenConcurrently_ReturnsPerItemResults() throws Exception {
+
+        Mockito.when(projectManagerService.saveAll(Mockito.anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'test@test.com' " +
+                        "for key 'project_managers.uk_project_managers_active_email'"));
+
+        mockMvc.perform(post("/api/project-managers/bulk")
+                        .content("[{\"name\": \"First\", \"email\": \"test@test.com\"}, " +
+                                "{\"name\": \"Second\", \"email\": \"other@test.com\"}]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("[0].message")
+                        .value(ProgrammingConstants.saveFail("project manager") + ProgrammingConstants.emailExists))
+                .andExpect(jsonPath("[1].errors[0].field").value("email"));
+    }
+
+    @Test
+    public void apiAddProjectManagersBulk_EmptyList_ReturnsErrorDto() throws Exception {
+
+        mockMvc.perform(post("/api/project-managers/bulk")
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidBulkSize));
+
+        Mockito.verify(projectManagerService, Mockito.never())
+                .saveAll(Mockito.anyList());
+    }
+
     @Test
     public void apiEditProjectManager_ValidProjectManager_ReturnsSuccessDto() throws Exception {
 
@@ -1,12 +1,16 @@
 package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.datasource.CacheReset;
+import com.example.backendtestproject.datasource.StatementBudget;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.repositories.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +31,12 @@ public class ProjectRestControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -36,6 +46,14 @@ public class ProjectRestControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void apiListProjects_ListContainsProjects_ExecutesTagAndListStatementsWithColdCaches() throws Exception {
+        CacheReset.clearAll(cacheManager, entityManagerFactory);
+
+        mockMvc.perform(get("/api/projects"))
+                .andExpect(StatementBudget.statements(2));
+    }
+
     @Test
     public void apiListProjects_ListContainsProjects_ReturnsCorrectListSize() throws Exception {
         int numberOfProjects = ((List<Project>) projectRepository.findAll()).size();
@@ -63,6 +81,14 @@ public class ProjectRestControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void apiDetails_ProjectExists_ExecutesOneStatementWithColdCaches() throws Exception {
+        CacheReset.clearAll(cacheManager, entityManagerFactory);
+
+        mockMvc.perform(get("/api/details-projects/1"))
+                .andExpect(StatementBudget.statements(1));
+    }
+
     @Test
     public void apiDetails_ProjectExists_ReturnsCorrectFields() throws Exception {
         mockMvc.perform(get("/api/details-projects/1"))
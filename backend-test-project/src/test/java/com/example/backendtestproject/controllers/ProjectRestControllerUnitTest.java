@@ -1,10 +1,12 @@
 package com.example.backendtestproject.controllers;
 
 import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.services.ProjectService;
+import com.example.backendtestproject.services.WriteVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,8 +25,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProjectRestController.class)
 @AutoConfigureMockMvc
@@ -33,6 +36,9 @@ public class ProjectRestControllerUnitTest {
     @MockBean
     private ProjectService projectService;
 
+    @MockBean
+    private WriteVersionService writeVersionService;
+
     private ModelMapper modelMapper;
 
     private Project project;
@@ -41,6 +47,7 @@ public class ProjectRestControllerUnitTest {
 
     @BeforeEach
     public void init() {
+        Mockito.when(writeVersionService.eTag(Mockito.any())).thenReturn("\"0\"");
         modelMapper = new ModelMapper();
         projects = List.of(
                 Project.builder()
@@ -131,6 +138,48 @@ public class ProjectRestControllerUnitTest {
                 .findAllSorted("client", "asc");
     }
 
+    @Test
+    public void apiListProjects_WithLimit_ReturnsPageWithNextCursor() throws Exception {
+
+        Mockito.when(projectService.findPage("client", "asc", 1, null))
+                .thenReturn(new PageDto<>(List.of(modelMapper.map(project, ProjectDto.class)), "nextCursor"));
+
+        mockMvc.perform(get("/api/projects?sortby=client&order=asc&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].client")
+                        .value("First Client"))
+                .andExpect(jsonPath("$.nextCursor")
+                        .value("nextCursor"));
+
+        Mockito.verify(projectService, Mockito.times(1))
+                .findPage("client", "asc", 1, null);
+    }
+
+    @Test
+    public void apiListProjects_WithInvalidLimit_ReturnsErrorDto() throws Exception {
+
+        mockMvc.perform(get("/api/projects?limit=0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidLimit));
+
+        Mockito.verify(projectService, Mockito.never())
+                .findPage(Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+    }
+
+    @Test
+    public void apiListProjects_WithInvalidCursor_ReturnsErrorDto() throws Exception {
+
+        Mockito.when(projectService.findPage(null, null, ProgrammingConstants.defaultPageLimit, "invalid"))
+                .thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(get("/api/projects?cursor=invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error")
+                        .value(ProgrammingConstants.invalidCursor));
+    }
+
     @Test
     public void apiDetailsProject_ValidId_ReturnsCorrectProjectDetails() throws Exception {
 
@@ -276,4 +325,104 @@ public class ProjectRestControllerUnitTest {
         Mockito.verify(projectService, Mockito.times(1))
                 .editById(Mockito.anyLong(), Mockito.any(ProjectDto.class));
     }
+
+    @Test
+    public void apiListProjects_MatchingIfNoneMatch_ReturnsNotModifiedWithoutLoading() throws Exception {
+
+        Mockito.when(projectService.findAllSorted(Mockito.isNull(), Mockito.isNull())).thenReturn(projects);
+
+        String eTag = mockMvc.perform(get("/api/projects"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        Mockito.verify(projectService, Mockito.times(1)).findAllSorted(Mockito.isNull(), Mockito.isNull());
+    }
+
+    @Test
+    public void apiDetailsProject_StaleIfNoneMatch_ReturnsProject() throws Exception {
+
+        Mockito.when(projectService.findById(1L)).thenReturn(new ProjectDto(1L, "First Client", "2023", "First", false, null));
+
+        mockMvc.perform(get("/api/details-projects/1").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.client").value("First Client"));
+    }
+
+    @Test
+    public void apiEditProject_IfMatch_PassesVersionToService() throws Exception {
+
+        Mockito.when(projectService.editById(Mockito.anyLong(), Mockito.any(ProjectDto.class)))
+                .thenReturn(new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project")));
+
+        mockMvc.perform(post("/api/edit-projects/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .content("{\"client\": \"Test Client\", \"startDate\": \"2025\", \"description\": \"description\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Mockito.verify(projectService).editById(Mockito.eq(1L),
+                Mockito.argThat(project -> Long.valueOf(3L).equals(project.getVersion())));
+    }
+
+    @Test
+    public void apiEditProject_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+
+        Mockito.when(projectService.editById(Mockito.anyLong(), Mockito.any(ProjectDto.class)))
+                .thenThrow(new OptimisticLockingFailureException(ProgrammingConstants.versionConflict));
+
+        mockMvc.perform(post("/api/edit-projects/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .content("{\"client\": \"Test Client\", \"startDate\": \"2025\", \"description\": \"description\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.versionConflict));
+    }
+
+    @Test
+    public void apiEditProject_UnknownIfMatch_ReturnsPreconditionFailed() throws Exception {
+
+        mockMvc.perform(post("/api/edit-projects/1")
+                        .header(HttpHeaders.IF_MATCH, "\"not-a-version\"")
+                        .content("{\"client\": \"Test Client\", \"startDate\": \"2025\", \"description\": \"description\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed());
+
+        Mockito.verify(projectService, Mockito.never()).editById(Mockito.anyLong(), Mockito.any(ProjectDto.class));
+    }
+
+    @Test
+    public void apiPatchProject_MergePatch_PassesPatchAndIfMatchVersionToService() throws Exception {
+
+        Mockito.when(projectService.patchById(Mockito.anyLong(), Mockito.any(), Mockito.any()))
+                .thenReturn(new ValidatorResultDto(true, ProgrammingConstants.saveSuccess("project")));
+
+        mockMvc.perform(patch("/api/edit-projects/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .content("{\"description\": \"patched\"}")
+                        .contentType(ProgrammingConstants.mergePatchMediaType))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(ProgrammingConstants.saveSuccess("project")));
+
+        Mockito.verify(projectService).patchById(Mockito.eq(1L),
+                Mockito.argThat(patch -> patch.path("description").asText().equals("patched")), Mockito.eq(3L));
+    }
+
+    @Test
+    public void apiPatchProject_InvalidPatch_ReturnsBadRequest() throws Exception {
+
+        Mockito.when(projectService.patchById(Mockito.anyLong(), Mockito.any(), Mockito.any()))
+                .thenReturn(new ValidatorResultDto(false, ProgrammingConstants.invalidPatch));
+
+        mockMvc.perform(patch("/api/edit-projects/1")
+                        .content("[]")
+                        .contentType(ProgrammingConstants.mergePatchMediaType))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.invalidPatch));
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.backendtestproject.controllers;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.services.ReactiveReadService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveReadRestController.class)
+@AutoConfigureMockMvc
+public class ReactiveReadRestControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveReadService reactiveReadService;
+
+    @Test
+    void apiListProjects_WithProjects_StreamsOneJsonLinePerProject() throws Exception {
+        Mockito.when(reactiveReadService.findAllProjects()).thenReturn(Flux.just(
+                new ProjectDto(1L, "First Client", "2023", "First", false, 0L),
+                new ProjectDto(2L, "Second Client", "2024", "Second", false, 0L)));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/projects"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"projectId\":1,\"client\":\"First Client\",\"startDate\":\"2023\",\"description\":\"First\",\"deleted\":false,\"version\":0}\n" +
+                        "{\"projectId\":2,\"client\":\"Second Client\",\"startDate\":\"2024\",\"description\":\"Second\",\"deleted\":false,\"version\":0}\n"));
+    }
+
+    @Test
+    void apiDetailsProject_ExistingId_ReturnsProject() throws Exception {
+        Mockito.when(reactiveReadService.findProjectById(1L))
+                .thenReturn(Mono.just(new ProjectDto(1L, "First Client", "2023", "First", false, 0L)));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/details-projects/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.client").value("First Client"));
+    }
+
+    @Test
+    void apiDetailsProgrammer_NonExistentId_ReturnsError() throws Exception {
+        Mockito.when(reactiveReadService.findProgrammerById(1L)).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/details-programmers/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(ProgrammingConstants.noProgrammerFound));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backendtestproject.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Empties the details caches and Hibernate's second-level cache, so a statement budget measures a cold read
+ * whatever the earlier tests in the shared context have cached.
+ */
+public final class CacheReset {
+
+    private CacheReset() {
+    }
+
+    public static void clearAll(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.backendtestproject.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionLimitingDataSourceTest {
+    private DataSource mockDataSource;
+    private Connection mockConnection;
+    private ConnectionLimitingDataSource target;
+
+    @BeforeEach
+    void init() throws SQLException {
+        mockDataSource = Mockito.mock(DataSource.class);
+        mockConnection = Mockito.mock(Connection.class);
+        Mockito.when(mockDataSource.getConnection()).thenReturn(mockConnection);
+        target = new ConnectionLimitingDataSource(mockDataSource, 3, Duration.ofMillis(10));
+    }
+
+    @Test
+    void getConnection_AllPermitsTaken_FailsAfterTheMaxWait() throws Exception {
+
+        // ARRANGE
+        openOnAnotherThread();
+        openOnAnotherThread();
+
+        // ACT & ASSERT
+        assertThrows(SQLTransientConnectionException.class, () -> target.getConnection());
+        Mockito.verify(mockDataSource, Mockito.times(2)).getConnection();
+    }
+
+    @Test
+    void close_CalledTwice_ReleasesItsPermitOnce() throws Exception {
+
+        // ARRANGE
+        Connection first = target.getConnection();
+        openOnAnotherThread();
+
+        // ACT
+        first.close();
+        first.close();
+
+        // ASSERT
+        assertEquals(1, target.availablePermits());
+        Mockito.verify(mockConnection, Mockito.times(2)).close();
+    }
+
+    @Test
+    void getConnection_PoolFails_ReleasesThePermit() throws SQLException {
+
+        // ARRANGE
+        Mockito.when(mockDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // ACT & ASSERT
+        assertThrows(SQLException.class, () -> target.getConnection());
+        assertEquals(2, target.availablePermits());
+    }
+
+    @Test
+    void getConnection_ThreadAlreadyHoldsAConnection_OpensTheNestedOneWithoutAPermit() throws SQLException {
+
+        // ARRANGE
+        Connection outer = target.getConnection();
+
+        // ACT
+        Connection nested = target.getConnection();
+
+        // ASSERT
+        assertEquals(1, target.availablePermits());
+        nested.close();
+        assertEquals(1, target.availablePermits());
+        outer.close();
+        assertEquals(2, target.availablePermits());
+    }
+
+    @Test
+    void getConnection_ConcurrentInsertsWithPermitsForTheWholePool_EveryIdGeneratorGetsItsConnection() throws Exception {
+
+        // ARRANGE
+        int poolSize = 4;
+        target = new ConnectionLimitingDataSource(boundedPool(poolSize), poolSize, Duration.ofSeconds(10));
+        List<Callable<Boolean>> inserts = new ArrayList<>();
+        for (int i = 0; i < 4 * poolSize; i++) {
+            inserts.add(this::insertWithTableGenerator);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(inserts.size());
+
+        // ACT
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(inserts, 10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // ASSERT
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        assertEquals(poolSize - 1, target.availablePermits());
+    }
+
+    private Connection openOnAnotherThread() throws Exception {
+        FutureTask<Connection> open = new FutureTask<>(target::getConnection);
+        new Thread(open).start();
+        return open.get();
+    }
+
+    // The transaction's connection stays open while the id generator takes a second one for its own transaction.
+    private boolean insertWithTableGenerator() throws Exception {
+        try (Connection transaction = target.getConnection()) {
+            Thread.sleep(20);
+            try (Connection idGenerator = target.getConnection()) {
+                return transaction != null && idGenerator != null;
+            }
+        }
+    }
+
+    /**
+     * Hands out at most the given number of connections, and fails like an exhausted pool when none is returned
+     * in time.
+     */
+    private static DataSource boundedPool(int size) {
+        Semaphore free = new Semaphore(size);
+
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getConnection")) {
+                        return null;
+                    }
+                    if (!free.tryAcquire(1, TimeUnit.SECONDS)) {
+                        throw new SQLTransientConnectionException("pool exhausted");
+                    }
+                    return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                            (connection, connectionMethod, connectionArgs) -> {
+                                if (connectionMethod.getName().equals("close")) {
+                                    free.release();
+                                }
+                                return null;
+                            });
+                });
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.backendtestproject.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesFilterTest {
+    private AtomicBoolean pinnedDuringRequest;
+    private FilterChain chain;
+    private MockHttpServletResponse response;
+    private ReadYourWritesFilter target;
+
+    @BeforeEach
+    void init() {
+        pinnedDuringRequest = new AtomicBoolean();
+        chain = (request, response) -> pinnedDuringRequest.set(ReplicaRoutingDataSource.isPinnedToPrimary());
+        response = new MockHttpServletResponse();
+        target = new ReadYourWritesFilter(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void doFilter_Write_PinsTheRequestAndOpensTheWindow() throws ServletException, IOException {
+
+        // ACT
+        target.doFilter(new MockHttpServletRequest("PUT", "/api/edit-programmers/1"), response, chain);
+
+        // ASSERT
+        assertTrue(pinnedDuringRequest.get());
+        assertFalse(ReplicaRoutingDataSource.isPinnedToPrimary());
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) > System.currentTimeMillis());
+    }
+
+    @Test
+    void doFilter_ReadInsideWindow_PinsTheRequest() throws ServletException, IOException {
+
+        // ARRANGE
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/details-programmers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() + 3000)));
+
+        // ACT
+        target.doFilter(request, response, chain);
+
+        // ASSERT
+        assertTrue(pinnedDuringRequest.get());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    void doFilter_ReadWithoutWindow_LeavesTheRequestToTheReplicas() throws ServletException, IOException {
+
+        // ACT
+        target.doFilter(new MockHttpServletRequest("GET", "/api/details-programmers/1"), response, chain);
+
+        // ASSERT
+        assertFalse(pinnedDuringRequest.get());
+    }
+
+    @Test
+    void doFilter_WindowLongerThanAWriteOpens_IsIgnored() throws ServletException, IOException {
+
+        // ARRANGE
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/details-programmers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE)));
+
+        // ACT
+        target.doFilter(request, response, chain);
+
+        // ASSERT
+        assertFalse(pinnedDuringRequest.get());
+    }
+}
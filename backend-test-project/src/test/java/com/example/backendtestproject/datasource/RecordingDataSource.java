@@ -0,0 +1,106 @@
+package com.example.backendtestproject.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records the SQL and the bound parameters of every statement a thread executes inside {@link #record(Runnable)}, for
+ * tests that look at the statements themselves. Like {@link StatementCountingDataSource}, threads that are not
+ * recording get the connection unwrapped.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+    private static final ThreadLocal<List<RecordedStatement>> RECORDED = new ThreadLocal<>();
+
+    public record RecordedStatement(String sql, List<Object> parameters) {
+    }
+
+    public RecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public static List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> recorded = new ArrayList<>();
+        RECORDED.set(recorded);
+        try {
+            action.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return recorded;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        List<RecordedStatement> recorded = RECORDED.get();
+        return recorded == null ? connection : proxy(Connection.class, connection, null, recorded);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, String sql, List<RecordedStatement> recorded) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args, sql, parameters, recorded);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args, String sql,
+                                 Map<Integer, Object> parameters, List<RecordedStatement> recorded) throws Throwable {
+
+        String name = method.getName();
+        if (target instanceof PreparedStatement && name.startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer index) {
+            parameters.put(index, name.equals("setNull") ? null : args[1]);
+        } else if (target instanceof PreparedStatement && name.equals("clearParameters")) {
+            parameters.clear();
+        } else if (target instanceof Statement && (name.startsWith("execute") || name.equals("addBatch"))) {
+            // A prepared statement runs the SQL it was prepared with, a plain one the SQL it is given.
+            if (args != null && args.length > 0 && args[0] instanceof String executed) {
+                recorded.add(new RecordedStatement(executed, List.of()));
+            } else if (sql != null && !name.equals("executeBatch")) {
+                recorded.add(new RecordedStatement(sql, Collections.unmodifiableList(new ArrayList<>(parameters.values()))));
+            }
+        }
+
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+
+        if (target instanceof Connection && result instanceof Statement statement) {
+            String prepared = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            return proxy(returnType(method, Statement.class), statement, prepared, recorded);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> returnType(Method method, Class<T> type) {
+        return (Class<T>) method.getReturnType().asSubclass(type);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.backendtestproject.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+public class ReplicaRoutingDataSourceTest {
+    private static final String QUERY = "SELECT 1";
+    private static final String UPDATE = "UPDATE programmers SET name = 'Edited' WHERE programmer_id = 1";
+
+    private DataSource mockPrimary;
+    private DataSource mockReplica;
+    private Connection mockPrimaryConnection;
+    private Connection mockReplicaConnection;
+    private ResultSet mockReplicaStatus;
+    private ReplicaRoutingDataSource target;
+
+    @BeforeEach
+    void init() throws SQLException {
+        mockPrimary = Mockito.mock(DataSource.class);
+        mockReplica = Mockito.mock(DataSource.class);
+        mockPrimaryConnection = Mockito.mock(Connection.class);
+        mockReplicaConnection = Mockito.mock(Connection.class);
+        mockReplicaStatus = Mockito.mock(ResultSet.class);
+        Statement mockStatement = Mockito.mock(Statement.class);
+        Mockito.when(mockPrimary.getConnection()).thenReturn(mockPrimaryConnection);
+        Mockito.when(mockReplica.getConnection()).thenReturn(mockReplicaConnection);
+        Mockito.when(mockReplicaConnection.createStatement()).thenReturn(mockStatement);
+        Mockito.when(mockStatement.executeQuery("SHOW REPLICA STATUS")).thenReturn(mockReplicaStatus);
+        Mockito.when(mockReplicaStatus.next()).thenReturn(true);
+        Mockito.when(mockReplicaStatus.getLong("Seconds_Behind_Source")).thenReturn(1L);
+
+        target = new ReplicaRoutingDataSource(mockPrimary, List.of(mockReplica), Duration.ofSeconds(5));
+        target.setDefaultAutoCommit(true);
+        target.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    void getConnection_ReadOnlyTransactionAndCaughtUpReplica_UsesReplica() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockReplicaConnection).prepareStatement(QUERY);
+        Mockito.verifyNoInteractions(mockPrimary);
+    }
+
+    @Test
+    void getConnection_WriteTransaction_UsesPrimary() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection).prepareStatement(QUERY);
+        Mockito.verify(mockReplicaConnection, Mockito.never()).prepareStatement(QUERY);
+    }
+
+    @Test
+    void getConnection_ReplicaTooFarBehind_UsesPrimary() throws SQLException {
+
+        // ARRANGE
+        Mockito.when(mockReplicaStatus.getLong("Seconds_Behind_Source")).thenReturn(30L);
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection).prepareStatement(QUERY);
+    }
+
+    @Test
+    void getConnection_ReplicationStopped_UsesPrimary() throws SQLException {
+
+        // ARRANGE
+        Mockito.when(mockReplicaStatus.wasNull()).thenReturn(true);
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection).prepareStatement(QUERY);
+    }
+
+    @Test
+    void getConnection_PinnedToPrimary_UsesPrimary() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection).prepareStatement(QUERY);
+    }
+
+    @Test
+    void getConnection_ReplicaRefusesConnection_FallsBackToPrimaryUntilTheNextCheck() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Mockito.when(mockReplica.getConnection()).thenThrow(new SQLException("replica down"));
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection, Mockito.times(2)).prepareStatement(QUERY);
+        Mockito.verify(mockReplica, Mockito.times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_WritesContinue_ReplicaStillServesReads() throws SQLException {
+
+        // ARRANGE
+        target.checkReplicas();
+
+        // ACT
+        for (int i = 0; i < 3; i++) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            target.getConnection().prepareStatement(UPDATE);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            target.getConnection().prepareStatement(QUERY);
+        }
+
+        // ASSERT
+        Mockito.verify(mockPrimaryConnection, Mockito.times(3)).prepareStatement(UPDATE);
+        Mockito.verify(mockReplicaConnection, Mockito.times(3)).prepareStatement(QUERY);
+        Mockito.verify(mockPrimaryConnection, Mockito.never()).prepareStatement(QUERY);
+    }
+
+    @Test
+    void getConnection_ReplicaChosen_RunsReplicaReadListener() throws SQLException {
+
+        // ARRANGE
+        Runnable mockListener = Mockito.mock(Runnable.class);
+        target.setReplicaReadListener(mockListener);
+        target.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // ACT
+        target.getConnection().prepareStatement(QUERY);
+
+        // ASSERT
+        Mockito.verify(mockListener).run();
+    }
+
+    @Test
+    void getConnection_WriteTransaction_DoesNotRunReplicaReadListener() throws SQLException {
+
+        // ARRANGE
+        Runnable mockListener = Mockito.mock(Runnable.class);
+        target.setReplicaReadListener(mockListener);
+        target.checkReplicas();
+
+        // ACT
+        target.getConnection().prepareStatement(UPDATE);
+
+        // ASSERT
+        Mockito.verifyNoInteractions(mockListener);
+    }
+}
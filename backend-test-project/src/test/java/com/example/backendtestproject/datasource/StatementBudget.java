@@ -0,0 +1,46 @@
+package com.example.backendtestproject.datasource;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockMvc matchers that hold a request to a budget of statements or rows, read from the headers
+ * {@link StatementStatisticsFilter} adds outside the prod profile. A new eager association or a lazy one loaded in a
+ * loop fails the test instead of slowing down production. Clear the caches first, see {@link CacheReset}, or a
+ * cached response passes any budget without querying.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> {
+            long statements = header(result.getResponse().getHeader(StatementStatisticsFilter.STATEMENTS_HEADER));
+            assertEquals(expected, statements, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                    + " executed " + statements + " statements, expected " + expected);
+        };
+    }
+
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            long statements = header(result.getResponse().getHeader(StatementStatisticsFilter.STATEMENTS_HEADER));
+            assertTrue(statements <= max, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                    + " executed " + statements + " statements, the budget is " + max);
+        };
+    }
+
+    public static ResultMatcher maxRows(long max) {
+        return result -> {
+            long rows = header(result.getResponse().getHeader(StatementStatisticsFilter.ROWS_HEADER));
+            assertTrue(rows <= max, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                    + " read " + rows + " rows, the budget is " + max);
+        };
+    }
+
+    private static long header(String value) {
+        assertNotNull(value, "No statement statistics in the response, is the prod profile active?");
+        return Long.parseLong(value);
+    }
+}
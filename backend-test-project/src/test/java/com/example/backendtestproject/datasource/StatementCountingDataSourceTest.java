@@ -0,0 +1,87 @@
+package com.example.backendtestproject.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementCountingDataSourceTest {
+    private DataSource mockDataSource;
+    private Connection mockConnection;
+    private PreparedStatement mockStatement;
+    private ResultSet mockResultSet;
+    private StatementCountingDataSource target;
+
+    @BeforeEach
+    void init() throws SQLException {
+        mockDataSource = Mockito.mock(DataSource.class);
+        mockConnection = Mockito.mock(Connection.class);
+        mockStatement = Mockito.mock(PreparedStatement.class);
+        mockResultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(mockDataSource.getConnection()).thenReturn(mockConnection);
+        Mockito.when(mockConnection.prepareStatement(Mockito.anyString())).thenReturn(mockStatement);
+        Mockito.when(mockStatement.executeQuery()).thenReturn(mockResultSet);
+        Mockito.when(mockResultSet.next()).thenReturn(true, true, false);
+        target = new StatementCountingDataSource(mockDataSource);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        StatementStatistics.stop();
+    }
+
+    @Test
+    void getConnection_Counting_CountsStatementsAndRows() throws SQLException {
+
+        // ARRANGE
+        StatementStatistics statistics = StatementStatistics.start();
+
+        // ACT
+        try (Connection connection = target.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM programmers")) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                resultSet.getString("first_name");
+            }
+            statement.executeUpdate();
+        }
+
+        // ASSERT
+        assertEquals(2, statistics.getStatements());
+        assertEquals(2, statistics.getRows());
+        Mockito.verify(mockResultSet, Mockito.times(2)).getString("first_name");
+        Mockito.verify(mockConnection).close();
+    }
+
+    @Test
+    void getConnection_StatementFails_CountsTheStatement() throws SQLException {
+
+        // ARRANGE
+        StatementStatistics statistics = StatementStatistics.start();
+        Mockito.when(mockStatement.executeUpdate()).thenThrow(new SQLException("deadlock"));
+        PreparedStatement statement = target.getConnection().prepareStatement("UPDATE programmers SET version = 1");
+
+        // ACT & ASSERT
+        SQLException exception = assertThrows(SQLException.class, statement::executeUpdate);
+        assertEquals("deadlock", exception.getMessage());
+        assertEquals(1, statistics.getStatements());
+    }
+
+    @Test
+    void getConnection_NotCounting_ReturnsTheConnectionUnwrapped() throws SQLException {
+
+        // ACT
+        Connection connection = target.getConnection();
+
+        // ASSERT
+        assertSame(mockConnection, connection);
+    }
+}
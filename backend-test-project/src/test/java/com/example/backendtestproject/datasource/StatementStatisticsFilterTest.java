@@ -0,0 +1,58 @@
+package com.example.backendtestproject.datasource;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementStatisticsFilterTest {
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private StatementStatisticsFilter target;
+
+    @BeforeEach
+    void init() {
+        request = new MockHttpServletRequest("GET", "/api/programmers");
+        response = new MockHttpServletResponse();
+        target = new StatementStatisticsFilter();
+    }
+
+    @Test
+    void doFilter_BodyWritten_WritesTheHeadersBeforeTheBody() throws ServletException, IOException {
+
+        // ACT
+        target.doFilter(request, response, (request, response) -> {
+            StatementStatistics.current().statementExecuted(2_000);
+            StatementStatistics.current().rowRead(true, 1_000);
+            response.getWriter().write("[]");
+            response.flushBuffer();
+            StatementStatistics.current().statementExecuted(2_000);
+        });
+
+        // ASSERT
+        assertEquals("1", response.getHeader(StatementStatisticsFilter.STATEMENTS_HEADER));
+        assertEquals("1", response.getHeader(StatementStatisticsFilter.ROWS_HEADER));
+        assertEquals("3", response.getHeader(StatementStatisticsFilter.TIME_HEADER));
+        assertNull(StatementStatistics.current());
+    }
+
+    @Test
+    void doFilter_NoBody_WritesTheHeadersAfterTheChain() throws ServletException, IOException {
+
+        // ACT
+        target.doFilter(request, response, (request, response) -> {
+            StatementStatistics.current().statementExecuted(0);
+            StatementStatistics.current().statementExecuted(0);
+        });
+
+        // ASSERT
+        assertEquals("2", response.getHeader(StatementStatisticsFilter.STATEMENTS_HEADER));
+        assertEquals("0", response.getHeader(StatementStatisticsFilter.ROWS_HEADER));
+        assertNull(StatementStatistics.current());
+    }
+}
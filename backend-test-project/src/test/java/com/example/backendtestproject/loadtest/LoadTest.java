@@ -0,0 +1,165 @@
+package com.example.backendtestproject.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SynchronizedHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the request mix of {@link LoadTestWorkload} against a running instance at a fixed arrival rate, an open
+ * model: requests are due at Poisson arrival times whether or not earlier ones have returned, so a slow server
+ * builds up a queue as it would with real clients. Latency counts from the moment a request was due, so time spent
+ * waiting behind a stalled sender is measured too and coordinated omission does not hide it.
+ * <p>
+ * Run it with the load-test profile against an instance with the seed profile's data:
+ * {@code mvn -Pload-test verify -DskipTests -Dload.rate=500}. The report goes to target/load-test-result.json and is
+ * compared with the baseline file if there is one; a regression fails the build. {@code -Dload.write-baseline=true}
+ * stores the run as the new baseline.
+ */
+public final class LoadTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI url = URI.create(System.getProperty("load.url", "http://localhost:8080"));
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+        Duration timeout = Duration.parse(System.getProperty("load.timeout", "PT10S"));
+        Map<String, Integer> mix = parseMix(System.getProperty("load.mix", "list=20,details=60,add=8,edit=8,delete=4"));
+        long projectManagers = Long.parseLong(System.getProperty("load.project-managers", "50000"));
+        long programmers = Long.parseLong(System.getProperty("load.programmers", "1000000"));
+        Path result = Path.of(System.getProperty("load.result", "target/load-test-result.json"));
+        Path baseline = Path.of(System.getProperty("load.baseline", "src/test/resources/load-test/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.2"));
+
+        LoadTestWorkload workload = new LoadTestWorkload(url, timeout, mix, projectManagers, programmers);
+        LoadTestReport report = run(workload, rate, warmup, duration, timeout);
+        print(report);
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(result.toFile(), report);
+
+        if (Boolean.getBoolean("load.write-baseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(baseline.toFile(), report);
+            System.out.println("Stored as the baseline in " + baseline);
+        } else if (Files.exists(baseline)) {
+            List<String> regressions = report.regressionsAgainst(
+                    OBJECT_MAPPER.readValue(baseline.toFile(), LoadTestReport.class), tolerance);
+            if (!regressions.isEmpty()) {
+                System.out.println("Regressions against " + baseline + ":");
+                regressions.forEach(regression -> System.out.println("  " + regression));
+                System.exit(1);
+            }
+            System.out.println("No regressions against " + baseline);
+        }
+        System.exit(0);
+    }
+
+    static LoadTestReport run(LoadTestWorkload workload, double rate, Duration warmup, Duration duration,
+                              Duration timeout) throws InterruptedException {
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        for (String name : workload.operationNames()) {
+            latencies.put(name, histogram(timeout));
+            errors.put(name, new AtomicLong());
+        }
+
+        SplittableRandom random = new SplittableRandom();
+        Phaser inFlight = new Phaser(1);
+        long start = System.nanoTime();
+        long measuredFrom = start + warmup.toNanos();
+        long end = measuredFrom + duration.toNanos();
+
+        double due = start;
+        while (due < end) {
+            long intended = (long) due;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LoadTestWorkload.Operation operation = workload.pick(random);
+            boolean measured = intended >= measuredFrom;
+            inFlight.register();
+            client.sendAsync(operation.request().apply(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (measured) {
+                            latencies.get(operation.name()).recordValue(
+                                    Math.min((System.nanoTime() - intended) / 1000, timeout.toNanos() / 1000 * 2));
+                            if (error != null || response.statusCode() >= 400) {
+                                errors.get(operation.name()).incrementAndGet();
+                            }
+                        }
+                        inFlight.arriveAndDeregister();
+                    });
+
+            // Exponential gaps between the arrivals make them a Poisson process at the given rate.
+            due += -Math.log(1 - random.nextDouble()) / rate * 1_000_000_000;
+        }
+
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), timeout.toNanos() * 2, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            System.out.println(inFlight.getUnarrivedParties() + " requests did not complete");
+        }
+
+        long seconds = Math.max(1, duration.toSeconds());
+        Histogram total = histogram(timeout);
+        Map<String, LoadTestReport.OperationStatistics> operations = new LinkedHashMap<>();
+        latencies.forEach((name, histogram) -> {
+            total.add(histogram);
+            operations.put(name, LoadTestReport.OperationStatistics.of(histogram, errors.get(name).get(), seconds));
+        });
+        operations.put(LoadTestReport.TOTAL, LoadTestReport.OperationStatistics.of(total,
+                errors.values().stream().mapToLong(AtomicLong::get).sum(), seconds));
+
+        return new LoadTestReport(rate, seconds, operations);
+    }
+
+    private static Histogram histogram(Duration timeout) {
+        return new SynchronizedHistogram(timeout.toNanos() / 1000 * 2, 3);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        return Arrays.stream(mix.split(","))
+                .map(entry -> entry.split("="))
+                .collect(Collectors.toMap(entry -> entry[0].trim(), entry -> Integer.parseInt(entry[1].trim()),
+                        (first, second) -> second, LinkedHashMap::new));
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        report.operations().forEach((name, statistics) -> System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, statistics.requests(), statistics.errors(), statistics.throughput(), statistics.p50Millis(),
+                statistics.p99Millis(), statistics.p999Millis(), statistics.maxMillis()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backendtestproject.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a load test run per operation and in total, as stored in the result and baseline files. Latencies
+ * are in milliseconds and count from the moment a request was due, not from when it was sent.
+ */
+record LoadTestReport(double rate, long seconds, Map<String, OperationStatistics> operations) {
+    static final String TOTAL = "total";
+
+    record OperationStatistics(long requests, long errors, double throughput,
+                               double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        static OperationStatistics of(Histogram microseconds, long errors, long seconds) {
+            return new OperationStatistics(microseconds.getTotalCount(), errors,
+                    (double) microseconds.getTotalCount() / seconds,
+                    millis(microseconds.getValueAtPercentile(50)),
+                    millis(microseconds.getValueAtPercentile(99)),
+                    millis(microseconds.getValueAtPercentile(99.9)),
+                    millis(microseconds.getMaxValue()));
+        }
+
+        private static double millis(long microseconds) {
+            return microseconds / 1000.0;
+        }
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    /**
+     * Operations whose percentiles grew or whose throughput fell by more than the tolerance, or whose error rate grew
+     * by more than a percentage point. Runs at different rates cannot be compared, so that is reported instead.
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        if (baseline.rate() != rate) {
+            return List.of("The baseline was recorded at " + baseline.rate() + " requests/s, this run at " + rate);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        operations.forEach((name, current) -> {
+            OperationStatistics base = baseline.operations().get(name);
+            if (base == null) {
+                return;
+            }
+
+            slower(regressions, name, "p50", current.p50Millis(), base.p50Millis(), tolerance);
+            slower(regressions, name, "p99", current.p99Millis(), base.p99Millis(), tolerance);
+            slower(regressions, name, "p99.9", current.p999Millis(), base.p999Millis(), tolerance);
+            if (current.throughput() < base.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f/s, baseline %.1f/s", name, current.throughput(), base.throughput()));
+            }
+            if (current.errorRate() > base.errorRate() + 0.01) {
+                regressions.add(String.format("%s error rate %.2f%%, baseline %.2f%%", name, current.errorRate() * 100, base.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static void slower(List<String> regressions, String name, String percentile,
+                               double current, double baseline, double tolerance) {
+        if (current > baseline * (1 + tolerance)) {
+            regressions.add(String.format("%s %s %.2f ms, baseline %.2f ms", name, percentile, current, baseline));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backendtestproject.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadTestReportTest {
+    private LoadTestReport baseline;
+
+    @BeforeEach
+    void init() {
+        baseline = report(200, statistics(1000, 10, 200, 5, 50, 100));
+    }
+
+    @Test
+    void regressionsAgainst_WithinTolerance_ReturnsNone() {
+
+        // ARRANGE
+        LoadTestReport target = report(200, statistics(1000, 15, 180, 5.9, 59, 119));
+
+        // ACT
+        List<String> result = target.regressionsAgainst(baseline, 0.2);
+
+        // ASSERT
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void regressionsAgainst_SlowerTail_ReturnsThePercentile() {
+
+        // ARRANGE
+        LoadTestReport target = report(200, statistics(1000, 10, 200, 5, 50, 130));
+
+        // ACT
+        List<String> result = target.regressionsAgainst(baseline, 0.2);
+
+        // ASSERT
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).startsWith("programmers.details p99.9"));
+    }
+
+    @Test
+    void regressionsAgainst_LowerThroughputAndMoreErrors_ReturnsBoth() {
+
+        // ARRANGE
+        LoadTestReport target = report(200, statistics(1000, 30, 150, 5, 50, 100));
+
+        // ACT
+        List<String> result = target.regressionsAgainst(baseline, 0.2);
+
+        // ASSERT
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).startsWith("programmers.details throughput"));
+        assertTrue(result.get(1).startsWith("programmers.details error rate"));
+    }
+
+    @Test
+    void regressionsAgainst_DifferentRate_RefusesToCompare() {
+
+        // ARRANGE
+        LoadTestReport target = report(400, statistics(1000, 10, 400, 5, 50, 100));
+
+        // ACT
+        List<String> result = target.regressionsAgainst(baseline, 0.2);
+
+        // ASSERT
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).contains("200.0 requests/s"));
+    }
+
+    @Test
+    void of_Histogram_ReturnsPercentilesInMillis() {
+
+        // ARRANGE
+        Histogram histogram = new Histogram(3);
+        for (long microseconds = 1; microseconds <= 1000; microseconds++) {
+            histogram.recordValue(microseconds * 1000);
+        }
+
+        // ACT
+        LoadTestReport.OperationStatistics result = LoadTestReport.OperationStatistics.of(histogram, 5, 10);
+
+        // ASSERT
+        assertEquals(1000, result.requests());
+        assertEquals(100, result.throughput());
+        assertEquals(500, result.p50Millis(), 1);
+        assertEquals(990, result.p99Millis(), 1);
+        assertEquals(999, result.p999Millis(), 1);
+        assertEquals(0.005, result.errorRate());
+    }
+
+    private static LoadTestReport report(double rate, LoadTestReport.OperationStatistics statistics) {
+        return new LoadTestReport(rate, 60, Map.of("programmers.details", statistics));
+    }
+
+    private static LoadTestReport.OperationStatistics statistics(long requests, long errors, double throughput,
+                                                                 double p50, double p99, double p999) {
+        return new LoadTestReport.OperationStatistics(requests, errors, throughput, p50, p99, p999, p999 * 2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.backendtestproject.loadtest;
+
+import com.example.backendtestproject.seed.SeedDataGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * The request mix of the load test: a sorted page, details, add, edit and delete on each of the three controllers.
+ * Reads and edits go to the data of the seed profile, see {@code DatabaseSeeder}. Deletes take seeded rows from the
+ * end of the id range, the last tenth, which reads and edits leave alone, so the deletes do not turn reads into misses.
+ * Added and edited rows get fresh generated data with emails no earlier run has used.
+ */
+class LoadTestWorkload {
+    private static final List<String> ORDERS = List.of("asc", "desc");
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SeedDataGenerator generator = new SeedDataGenerator(System.currentTimeMillis());
+    // Generated rows are numbered past any seeded id, so their emails never collide with seeded ones.
+    private final AtomicLong generatedIds = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    LoadTestWorkload(URI baseUrl, Duration timeout, Map<String, Integer> mix, long projectManagers, long programmers) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+
+        addResource("programmers", programmers, List.of("name", "email", "phonenumber", "city", "isapprentice", "responsibility"),
+                generator::programmer, mix);
+        addResource("project-managers", projectManagers, List.of("name", "email", "phonenumber", "city"),
+                generator::projectManager, mix);
+        addResource("projects", projectManagers, List.of("client", "startdate", "description"),
+                generator::project, mix);
+
+        totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("The request mix " + mix + " has no weight");
+        }
+    }
+
+    record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    List<String> operationNames() {
+        return operations.stream().map(Operation::name).toList();
+    }
+
+    Operation pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void addResource(String resource, long rows, List<String> sortFields, LongFunction<Object> body,
+                             Map<String, Integer> mix) {
+        long readable = Math.max(1, rows - rows / 10);
+        AtomicLong deletable = new AtomicLong(rows + 1);
+
+        add(resource + ".list", mix.getOrDefault("list", 0), random -> request("/api/" + resource
+                + "?sortby=" + sortFields.get(random.nextInt(sortFields.size()))
+                + "&order=" + ORDERS.get(random.nextInt(ORDERS.size())) + "&limit=50").GET().build());
+        add(resource + ".details", mix.getOrDefault("details", 0), random -> request("/api/details-" + resource + "/"
+                + (random.nextLong(readable) + 1)).GET().build());
+        add(resource + ".add", mix.getOrDefault("add", 0), random -> request("/api/add-" + resource)
+                .POST(json(body.apply(generatedIds.incrementAndGet()))).build());
+        add(resource + ".edit", mix.getOrDefault("edit", 0), random -> request("/api/edit-" + resource + "/"
+                + (random.nextLong(readable) + 1)).POST(json(body.apply(generatedIds.incrementAndGet()))).build());
+        add(resource + ".delete", mix.getOrDefault("delete", 0), random -> request("/api/delete-" + resource + "/"
+                + Math.max(readable + 1, deletable.decrementAndGet())).DELETE().build());
+    }
+
+    private void add(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+        if (weight > 0) {
+            operations.add(new Operation(name, weight, request));
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json");
+    }
+
+    // Without a version the edits are blind, so concurrent edits of a row do not fail the version check.
+    private HttpRequest.BodyPublisher json(Object body) {
+        ObjectNode node = objectMapper.valueToTree(body);
+        node.remove("version");
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
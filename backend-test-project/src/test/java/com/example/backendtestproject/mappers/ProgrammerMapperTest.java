@@ -0,0 +1,126 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.models.ProjectManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProgrammerMapperTest {
+    private ModelMapper modelMapper;
+    private ProgrammerMapper target;
+    private Programmer programmer;
+
+    @BeforeEach
+    void init() {
+        modelMapper = new ModelMapper();
+        target = new ProgrammerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper(),
+                new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper()));
+        programmer = Programmer.builder()
+                .programmerId(1L)
+                .name("First Programmer")
+                .email("firstprogrammer@gmail.com")
+                .address(Address.builder()
+                        .address_id(2L)
+                        .city("Budapest")
+                        .street("Test street")
+                        .zipCode(1000).build())
+                .birthDate(BirthDate.builder()
+                        .birth_date_id(3L)
+                        .day(11)
+                        .month(3)
+                        .year(1999).build())
+                .phoneNumber("+36203456789")
+                .project(Project.builder()
+                        .projectId(4L)
+                        .client("Test Client")
+                        .startDate("2162")
+                        .description("Test project")
+                        .deleted(false).build())
+                .projectManager(ProjectManager.builder()
+                        .projectManagerId(5L)
+                        .name("First Manager")
+                        .email("firstmanager@gmail.com")
+                        .address(Address.builder()
+                                .address_id(6L)
+                                .city("Debrecen")
+                                .street("Manager street")
+                                .zipCode(4000).build())
+                        .phoneNumber("+36303456789")
+                        .deleted(false).build())
+                .responsibility(Responsibility.BACKEND)
+                .isApprentice(true)
+                .deleted(false).build();
+    }
+
+    @Test
+    void toDto_Programmer_MatchesModelMapper() {
+
+        // ARRANGE
+        ProgrammerDto expectedResult = modelMapper.map(programmer, ProgrammerDto.class);
+
+        // ACT
+        ProgrammerDto actualResult = target.toDto(programmer);
+
+        // ASSERT
+        assertThat(actualResult, samePropertyValuesAs(expectedResult, "address", "birthDate"));
+        assertThat(actualResult.getAddress(), samePropertyValuesAs(expectedResult.getAddress()));
+        assertThat(actualResult.getBirthDate(), samePropertyValuesAs(expectedResult.getBirthDate()));
+    }
+
+    @Test
+    void toDetailsDto_Programmer_MatchesModelMapper() {
+
+        // ARRANGE
+        ProgrammerDetailsDto expectedResult = modelMapper.map(programmer, ProgrammerDetailsDto.class);
+
+        // ACT
+        ProgrammerDetailsDto actualResult = target.toDetailsDto(programmer);
+
+        // ASSERT
+        assertThat(actualResult, samePropertyValuesAs(expectedResult, "address", "birthDate", "project", "projectManager"));
+        assertThat(actualResult.getAddress(), samePropertyValuesAs(expectedResult.getAddress()));
+        assertThat(actualResult.getBirthDate(), samePropertyValuesAs(expectedResult.getBirthDate()));
+        assertThat(actualResult.getProject(), samePropertyValuesAs(expectedResult.getProject()));
+        assertThat(actualResult.getProjectManager(), samePropertyValuesAs(expectedResult.getProjectManager(), "address", "birthDate"));
+        assertThat(actualResult.getProjectManager().getAddress(), samePropertyValuesAs(expectedResult.getProjectManager().getAddress()));
+        assertNull(actualResult.getProjectManager().getBirthDate());
+    }
+
+    @Test
+    void toDetailsDto_NullProgrammer_ReturnsNull() {
+
+        // ACT & ASSERT
+        assertNull(target.toDetailsDto(null));
+    }
+
+    @Test
+    void toEntity_ProgrammerDto_MatchesModelMapper() {
+
+        // ARRANGE
+        ProgrammerDto input = new ProgrammerDto(1L, "First Programmer", new AddressDto(2L, 1000, "Budapest", "Test street"),
+                new BirthDateDto(3L, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.FRONTEND, false, false, null);
+        Programmer expectedResult = modelMapper.map(input, Programmer.class);
+
+        // ACT
+        Programmer actualResult = target.toEntity(input);
+
+        // ASSERT
+        assertThat(actualResult, samePropertyValuesAs(expectedResult, "address", "birthDate"));
+        assertThat(actualResult.getAddress(), samePropertyValuesAs(expectedResult.getAddress()));
+        assertThat(actualResult.getBirthDate(), samePropertyValuesAs(expectedResult.getBirthDate()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backendtestproject.mappers;
+
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.models.Address;
+import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.models.ProjectManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectManagerMapperTest {
+    private ModelMapper modelMapper;
+    private ProjectManagerMapper target;
+    private ProjectManager projectManager;
+
+    @BeforeEach
+    void init() {
+        modelMapper = new ModelMapper();
+        target = new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper());
+        projectManager = ProjectManager.builder()
+                .projectManagerId(1L)
+                .name("First Manager")
+                .email("firstmanager@gmail.com")
+                .address(Address.builder()
+                        .address_id(2L)
+                        .city("Budapest")
+                        .street("Test street")
+                        .zipCode(1000).build())
+                .birthDate(BirthDate.builder()
+                        .birth_date_id(3L)
+                        .day(11)
+                        .month(3)
+                        .year(1999).build())
+                .phoneNumber("+36203456789")
+                .project(Project.builder()
+                        .projectId(4L)
+                        .client("Test Client")
+                        .startDate("2162")
+                        .description("Test project")
+                        .deleted(false).build())
+                .deleted(false).build();
+    }
+
+    @Test
+    void toDetailsDto_ProjectManager_MatchesModelMapper() {
+
+        // ARRANGE
+        ProjectManagerDetailsDto expectedResult = modelMapper.map(projectManager, ProjectManagerDetailsDto.class);
+
+        // ACT
+        ProjectManagerDetailsDto actualResult = target.toDetailsDto(projectManager);
+
+        // ASSERT
+        assertThat(actualResult, samePropertyValuesAs(expectedResult, "address", "birthDate", "project"));
+        assertThat(actualResult.getAddress(), samePropertyValuesAs(expectedResult.getAddress()));
+        assertThat(actualResult.getBirthDate(), samePropertyValuesAs(expectedResult.getBirthDate()));
+        assertThat(actualResult.getProject(), samePropertyValuesAs(expectedResult.getProject()));
+    }
+
+    @Test
+    void toDetailsDto_NoProject_ReturnsNullProject() {
+
+        // ARRANGE
+        projectManager.setProject(null);
+
+        // ACT
+        ProjectManagerDetailsDto actualResult = target.toDetailsDto(projectManager);
+
+        // ASSERT
+        assertNull(actualResult.getProject());
+        assertEquals(projectManager.getName(), actualResult.getName());
+    }
+
+    @Test
+    void toEntity_ProjectManagerDto_MatchesModelMapper() {
+
+        // ARRANGE
+        ProjectManagerDto input = new ProjectManagerDto(1L, "First Manager", new AddressDto(2L, 1000, "Budapest", "Test street"),
+                new BirthDateDto(3L, 11, 3, 1999), "+36203456789", "firstmanager@gmail.com", false, null);
+        ProjectManager expectedResult = modelMapper.map(input, ProjectManager.class);
+
+        // ACT
+        ProjectManager actualResult = target.toEntity(input);
+
+        // ASSERT
+        assertThat(actualResult, samePropertyValuesAs(expectedResult, "address", "birthDate", "project", "programmers"));
+        assertThat(actualResult.getAddress(), samePropertyValuesAs(expectedResult.getAddress()));
+        assertThat(actualResult.getBirthDate(), samePropertyValuesAs(expectedResult.getBirthDate()));
+        assertNull(actualResult.getProject());
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.backendtestproject.repositories;
+
+import com.example.backendtestproject.datasource.RecordingDataSource;
+import com.example.backendtestproject.dtos.PageDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ProjectManagerDto;
+import com.example.backendtestproject.seed.SeedDataGenerator;
+import com.example.backendtestproject.services.ProgrammerService;
+import com.example.backendtestproject.services.ProjectManagerService;
+import com.example.backendtestproject.services.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on every statement the services issue for the list, details, add, edit and delete paths, against a
+ * separate database the seed profile fills, and fails on full table scans, filesorts and estimates of more than
+ * {@value #MAX_ROWS} rows. EXPLAIN leaves LIMIT out of its estimates, so a limited statement that reads an index in
+ * order without sorting is bounded by its limit instead.
+ * <p>
+ * Two orderings of the list pages are left out, since no index can serve them yet: descending orders, whose
+ * tiebreakers stay ascending, and the programmers' and project managers' city, which is in another table.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "seed", "query-plans"})
+public class QueryPlanIntegrationTest {
+    private static final long MAX_ROWS = 1000;
+    private static final int PAGE_SIZE = 50;
+    private static final String[] TABLES = {"addresses", "birth_dates", "projects", "project_managers", "programmers"};
+
+    @Autowired
+    private ProgrammerService programmerService;
+
+    @Autowired
+    private ProjectManagerService projectManagerService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SeedDataGenerator generator;
+    private long generatedId;
+
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)
+                            ? new RecordingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        for (String table : TABLES) {
+            jdbcTemplate.execute("ANALYZE TABLE " + table);
+        }
+        generator = new SeedDataGenerator(System.currentTimeMillis());
+        // Past any seeded id, so the generated emails are new on every run.
+        generatedId = System.currentTimeMillis() * 1000;
+    }
+
+    @Test
+    public void programmerPages_EveryIndexedOrder_UseIndexes() {
+        assertPagesUseIndexes(List.of("", "name", "email", "phonenumber", "isapprentice", "responsibility"),
+                (sortBy, cursor) -> programmerService.findPage(sortBy, "asc", PAGE_SIZE, cursor));
+    }
+
+    @Test
+    public void projectManagerPages_EveryIndexedOrder_UseIndexes() {
+        assertPagesUseIndexes(List.of("", "name", "email", "phonenumber"),
+                (sortBy, cursor) -> projectManagerService.findPage(sortBy, "asc", PAGE_SIZE, cursor));
+    }
+
+    @Test
+    public void projectPages_EveryIndexedOrder_UseIndexes() {
+        assertPagesUseIndexes(List.of("", "client", "startdate", "description"),
+                (sortBy, cursor) -> projectService.findPage(sortBy, "asc", PAGE_SIZE, cursor));
+    }
+
+    @Test
+    public void details_ExistingIds_UseIndexes() {
+        long programmerId = liveId("programmers", "programmer_id");
+        long projectManagerId = liveId("project_managers", "project_manager_id");
+        long projectId = liveId("projects", "project_id");
+
+        assertUsesIndexes("programmer details", () -> programmerService.findById(programmerId));
+        assertUsesIndexes("project manager details", () -> projectManagerService.findById(projectManagerId));
+        assertUsesIndexes("project details", () -> projectService.findById(projectId));
+    }
+
+    @Test
+    public void save_NewRows_UseIndexes() {
+        ProgrammerDto programmer = generator.programmer(++generatedId);
+        ProjectManagerDto projectManager = generator.projectManager(++generatedId);
+        ProjectDto project = generator.project(++generatedId);
+
+        assertUsesIndexes("save programmer", () -> assertTrue(programmerService.save(programmer).isValid()));
+        assertUsesIndexes("save project manager", () -> assertTrue(projectManagerService.save(projectManager).isValid()));
+        assertUsesIndexes("save project", () -> assertTrue(projectService.save(project).isValid()));
+    }
+
+    @Test
+    public void edit_ExistingIds_UseIndexes() {
+        long programmerId = liveId("programmers", "programmer_id");
+        long projectManagerId = liveId("project_managers", "project_manager_id");
+        long projectId = liveId("projects", "project_id");
+        ProgrammerDto programmer = generator.programmer(++generatedId);
+        programmer.setVersion(null);
+        ProjectManagerDto projectManager = generator.projectManager(++generatedId);
+        projectManager.setVersion(null);
+        ProjectDto project = generator.project(++generatedId);
+        project.setVersion(null);
+
+        assertUsesIndexes("edit programmer",
+                () -> assertTrue(programmerService.editById(programmerId, programmer).isValid()));
+        assertUsesIndexes("edit project manager",
+                () -> assertTrue(projectManagerService.editById(projectManagerId, projectManager).isValid()));
+        assertUsesIndexes("edit project", () -> assertTrue(projectService.editById(projectId, project).isValid()));
+    }
+
+    @Test
+    public void delete_ExistingIds_UseIndexes() {
+        long programmerId = liveId("programmers", "programmer_id");
+        long projectManagerId = liveId("project_managers", "project_manager_id");
+        long projectId = liveId("projects", "project_id");
+
+        assertUsesIndexes("delete programmer", () -> assertTrue(programmerService.deleteById(programmerId)));
+        assertUsesIndexes("delete project manager", () -> assertTrue(projectManagerService.deleteById(projectManagerId)));
+        assertUsesIndexes("delete project", () -> assertTrue(projectService.deleteById(projectId)));
+    }
+
+    private void assertPagesUseIndexes(List<String> orders, PageReader pages) {
+        for (String sortBy : orders) {
+            String scenario = "page sorted by " + (sortBy.isEmpty() ? "id" : sortBy);
+            String cursor = pages.read(sortBy, null).nextCursor();
+            assertNotNull(cursor, scenario + " has no next page, is the database seeded?");
+
+            assertUsesIndexes("first " + scenario, () -> pages.read(sortBy, null));
+            assertUsesIndexes("next " + scenario, () -> pages.read(sortBy, cursor));
+        }
+    }
+
+    private void assertUsesIndexes(String scenario, Runnable action) {
+        List<RecordingDataSource.RecordedStatement> statements = RecordingDataSource.record(action);
+        assertFalse(statements.isEmpty(), scenario + " issued no statements");
+
+        Map<String, RecordingDataSource.RecordedStatement> distinct = new LinkedHashMap<>();
+        statements.forEach(statement -> distinct.putIfAbsent(statement.sql(), statement));
+
+        List<String> problems = new ArrayList<>();
+        for (RecordingDataSource.RecordedStatement statement : distinct.values()) {
+            if (isExplainable(statement.sql())) {
+                problems.addAll(explain(statement));
+            }
+        }
+        assertTrue(problems.isEmpty(), () -> scenario + ":\n" + String.join("\n", problems));
+    }
+
+    private List<String> explain(RecordingDataSource.RecordedStatement statement) {
+        boolean limited = statement.sql().toLowerCase(Locale.ROOT).contains(" limit ");
+
+        List<String> problems = new ArrayList<>();
+        for (Map<String, Object> step : jdbcTemplate.queryForList("EXPLAIN " + statement.sql(),
+                statement.parameters().toArray())) {
+
+            String table = String.valueOf(step.get("table"));
+            String type = String.valueOf(step.get("type"));
+            String extra = String.valueOf(step.get("Extra"));
+            long rows = step.get("rows") instanceof Number number ? number.longValue() : 0;
+
+            if (type.equals("ALL") || (type.equals("index") && !limited)) {
+                problems.add("  full scan of " + table + " in " + statement.sql());
+            }
+            if (extra.contains("Using filesort")) {
+                problems.add("  filesort on " + table + " in " + statement.sql());
+            }
+            if (rows > MAX_ROWS && !(limited && !extra.contains("Using filesort"))) {
+                problems.add("  " + rows + " estimated rows of " + table + " in " + statement.sql());
+            }
+        }
+        return problems;
+    }
+
+    private static boolean isExplainable(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+    }
+
+    private long liveId(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table + " WHERE deleted = false",
+                Long.class);
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+        PageDto<?> read(String sortBy, String cursor);
+    }
+}
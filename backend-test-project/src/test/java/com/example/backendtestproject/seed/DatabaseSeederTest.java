@@ -0,0 +1,69 @@
+package com.example.backendtestproject.seed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatabaseSeederTest {
+    private JdbcTemplate mockJdbcTemplate;
+    private DatabaseSeeder target;
+
+    @BeforeEach
+    void init() {
+        mockJdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        target = new DatabaseSeeder(mockJdbcTemplate, 42, 3, 5, 2);
+    }
+
+    @Test
+    void run_EmptyDatabase_InsertsEveryTableInChunksAndMovesTheIdGenerators() {
+
+        // ARRANGE
+        Mockito.when(mockJdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Boolean.class))).thenReturn(false);
+
+        // ACT
+        target.run(null);
+
+        // ASSERT
+        List<Invocation> updates = updates();
+        // 2 project chunks, 2 project manager chunks and 3 programmer chunks of 3 tables each, and 5 id generators.
+        assertEquals(2 + 2 * 3 + 3 * 3 + 5, updates.size());
+
+        Object[] firstProjectManagers = updates.get(4).getRawArguments();
+        assertTrue(((String) firstProjectManagers[0]).startsWith("INSERT INTO project_managers ("));
+        assertTrue(((String) firstProjectManagers[0]).endsWith("VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?, ?)"));
+        assertEquals(18, ((Object[]) firstProjectManagers[1]).length);
+
+        Object[] lastProgrammers = updates.get(16).getRawArguments();
+        assertTrue(((String) lastProgrammers[0]).startsWith("INSERT INTO programmers ("));
+        // The fifth programmer's address and birthdate come after those of the three project managers.
+        assertEquals(List.of(5L, 8L, 8L), List.of(((Object[]) lastProgrammers[1])[0], ((Object[]) lastProgrammers[1])[2],
+                ((Object[]) lastProgrammers[1])[3]));
+
+        assertTrue(((String) updates.get(17).getRawArguments()[0]).startsWith("UPDATE id_generators"));
+    }
+
+    @Test
+    void run_TableHasRows_InsertsNothing() {
+
+        // ARRANGE
+        Mockito.when(mockJdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Boolean.class))).thenReturn(false, true);
+
+        // ACT
+        target.run(null);
+
+        // ASSERT
+        assertTrue(updates().isEmpty());
+    }
+
+    private List<Invocation> updates() {
+        return Mockito.mockingDetails(mockJdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("update"))
+                .toList();
+    }
+}
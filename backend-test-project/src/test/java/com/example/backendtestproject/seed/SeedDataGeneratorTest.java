@@ -0,0 +1,92 @@
+package com.example.backendtestproject.seed;
+
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.services.ValidatorService;
+import com.example.backendtestproject.services.ValidatorServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeedDataGeneratorTest {
+    private ValidatorService validatorService;
+    private SeedDataGenerator target;
+
+    @BeforeEach
+    void init() {
+        ProgrammerRepository mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        ProjectManagerRepository mockProjectManagerRepository = Mockito.mock(ProjectManagerRepository.class);
+        Mockito.when(mockProgrammerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(mockProjectManagerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.empty());
+        validatorService = new ValidatorServiceImpl(mockProjectManagerRepository, mockProgrammerRepository);
+        target = new SeedDataGenerator(42);
+    }
+
+    @Test
+    void generate_ManyRows_EveryRowPassesTheValidator() {
+
+        // ACT & ASSERT
+        for (long id = 1; id <= 2_000; id++) {
+            assertTrue(validatorService.isProgrammerValid(target.programmer(id)).isValid());
+            assertTrue(validatorService.isProjectManagerValid(target.projectManager(id)).isValid());
+            assertTrue(validatorService.isProjectValid(target.project(id)).isValid());
+        }
+    }
+
+    @Test
+    void programmer_SameSeed_ReturnsTheSameRow() {
+
+        // ARRANGE
+        SeedDataGenerator other = new SeedDataGenerator(42);
+
+        // ACT
+        ProgrammerDto expected = target.programmer(12_345);
+        ProgrammerDto actual = other.programmer(12_345);
+
+        // ASSERT
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getAddress().getCity(), actual.getAddress().getCity());
+        assertEquals(expected.getBirthDate().getYear(), actual.getBirthDate().getYear());
+        assertEquals(target.projectManagerOf(12_345, 100), other.projectManagerOf(12_345, 100));
+        assertNotEquals(expected.getPhoneNumber(), new SeedDataGenerator(43).programmer(12_345).getPhoneNumber());
+    }
+
+    @Test
+    void programmer_ManyRows_HasUniqueEmailsAndSkewedCities() {
+
+        // ARRANGE
+        Set<String> emails = new HashSet<>();
+        int inBudapest = 0;
+
+        // ACT
+        for (long id = 1; id <= 20_000; id++) {
+            ProgrammerDto programmer = target.programmer(id);
+            emails.add(programmer.getEmail());
+            if (programmer.getAddress().getCity().equals("Budapest")) {
+                inBudapest++;
+            }
+        }
+
+        // ASSERT
+        assertEquals(20_000, emails.size());
+        assertTrue(inBudapest > 9_000 && inBudapest < 12_000, "Budapest rows: " + inBudapest);
+    }
+
+    @Test
+    void projectManagerOf_ManyProgrammers_StaysWithinTheProjectManagers() {
+
+        // ACT & ASSERT
+        assertTrue(LongStream.rangeClosed(1, 10_000)
+                .map(id -> target.projectManagerOf(id, 50))
+                .allMatch(projectManagerId -> projectManagerId >= 1 && projectManagerId <= 50));
+    }
+}
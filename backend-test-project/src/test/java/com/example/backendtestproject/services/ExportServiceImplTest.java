@@ -0,0 +1,98 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.enums.ExportFormat;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportServiceImplTest {
+    private ProgrammerRepository mockProgrammerRepository;
+    private ProjectRepository mockProjectRepository;
+    private ExportService target;
+    private ProgrammerDto programmer;
+
+    @BeforeEach
+    void init() {
+        mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        mockProjectRepository = Mockito.mock(ProjectRepository.class);
+        target = new ExportServiceImpl(mockProgrammerRepository, Mockito.mock(ProjectManagerRepository.class),
+                mockProjectRepository, new ObjectMapper());
+        programmer = new ProgrammerDto(1L, "First Programmer", new AddressDto(1L, 1000, "Budapest", "Main street, 1"),
+                new BirthDateDto(1L, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.BACKEND, true, false, null);
+    }
+
+    @Test
+    void exportProgrammers_Ndjson_WritesOneJsonObjectPerLineAndClosesStream() throws IOException {
+
+        // ARRANGE
+        AtomicBoolean closed = new AtomicBoolean();
+        ProgrammerDto secondProgrammer = new ProgrammerDto(2L, "Second Programmer", null, null, "+36203456780",
+                "secondprogrammer@gmail.com", Responsibility.FRONTEND, false, false, null);
+        Mockito.when(mockProgrammerRepository.streamAllDtos(null, Sort.by("programmerId"), ProgrammingConstants.exportFetchSize))
+                .thenReturn(Stream.of(programmer, secondProgrammer).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // ACT
+        target.exportProgrammers(ExportFormat.NDJSON, out);
+
+        // ASSERT
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"programmerId\":1,"));
+        assertTrue(lines[1].startsWith("{\"programmerId\":2,"));
+        assertEquals("", lines[2]);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportProgrammers_Csv_WritesHeaderAndQuotesFields() throws IOException {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.streamAllDtos(null, Sort.by("programmerId"), ProgrammingConstants.exportFetchSize))
+                .thenReturn(Stream.of(programmer));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // ACT
+        target.exportProgrammers(ExportFormat.CSV, out);
+
+        // ASSERT
+        assertEquals("programmerId,name,zipCode,city,street,day,month,year,phoneNumber,email,responsibility,isApprentice\r\n"
+                        + "1,First Programmer,1000,Budapest,\"Main street, 1\",11,3,1999,+36203456789,firstprogrammer@gmail.com,BACKEND,true\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportProjects_EmptyTable_WritesNothing() throws IOException {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.streamAllDtos(null, Sort.by("projectId"), ProgrammingConstants.exportFetchSize))
+                .thenReturn(Stream.<ProjectDto>empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // ACT
+        target.exportProjects(ExportFormat.NDJSON, out);
+
+        // ASSERT
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ChangeEventDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.models.OutboxEvent;
+import com.example.backendtestproject.outbox.ChangeEventSink;
+import com.example.backendtestproject.repositories.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class OutboxDispatcherTest {
+    private static final Instant CREATED_AT = Instant.parse("2023-01-01T00:00:00Z");
+
+    private OutboxEventRepository mockOutboxEventRepository;
+    private ChangeEventSink mockFirstSink;
+    private ChangeEventSink mockSecondSink;
+    private PlatformTransactionManager mockTransactionManager;
+    private OutboxDispatcher target;
+
+    @BeforeEach
+    void init() {
+        mockOutboxEventRepository = Mockito.mock(OutboxEventRepository.class);
+        mockFirstSink = Mockito.mock(ChangeEventSink.class);
+        mockSecondSink = Mockito.mock(ChangeEventSink.class);
+        mockTransactionManager = Mockito.mock(PlatformTransactionManager.class);
+        target = new OutboxDispatcher(mockOutboxEventRepository, List.of(mockFirstSink, mockSecondSink),
+                new TransactionTemplate(mockTransactionManager));
+    }
+
+    @Test
+    void dispatchPending_PendingEvents_DeliversToEverySinkAndDeletesThem() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockOutboxEventRepository.findNextBatch(any(), any())).thenReturn(List.of(
+                new OutboxEvent(11L, EntityType.PROGRAMMER, 3L, ChangeType.CREATED, CREATED_AT, null),
+                new OutboxEvent(12L, EntityType.PROJECT, 5L, ChangeType.DELETED, CREATED_AT, null)));
+        List<ChangeEventDto> expectedEvents = List.of(
+                new ChangeEventDto(11L, EntityType.PROGRAMMER, 3L, ChangeType.CREATED, CREATED_AT),
+                new ChangeEventDto(12L, EntityType.PROJECT, 5L, ChangeType.DELETED, CREATED_AT));
+
+        // ACT
+        long actualResult = target.dispatchPending();
+
+        // ASSERT
+        assertEquals(2, actualResult);
+        assertEquals(2, target.deliveredEvents());
+        assertTrue(target.lastDeliveryLagMillis() > 0);
+        Mockito.verify(mockFirstSink, Mockito.times(1)).deliver(expectedEvents);
+        Mockito.verify(mockSecondSink, Mockito.times(1)).deliver(expectedEvents);
+        Mockito.verify(mockOutboxEventRepository, Mockito.times(1)).updateClaimedUntil(eq(List.of(11L, 12L)), any(Instant.class));
+        Mockito.verify(mockOutboxEventRepository, Mockito.times(1)).deleteDelivered(List.of(11L, 12L));
+    }
+
+    @Test
+    void dispatchPending_PendingEvents_DeliversBetweenTheClaimAndDeleteTransactions() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockOutboxEventRepository.findNextBatch(any(), any())).thenReturn(List.of(
+                new OutboxEvent(11L, EntityType.PROGRAMMER, 3L, ChangeType.CREATED, CREATED_AT, null)));
+        InOrder inOrder = Mockito.inOrder(mockTransactionManager, mockOutboxEventRepository, mockFirstSink);
+
+        // ACT
+        target.dispatchPending();
+
+        // ASSERT
+        inOrder.verify(mockTransactionManager).getTransaction(any());
+        inOrder.verify(mockOutboxEventRepository).updateClaimedUntil(eq(List.of(11L)), any(Instant.class));
+        inOrder.verify(mockTransactionManager).commit(any());
+        inOrder.verify(mockFirstSink).deliver(any());
+        inOrder.verify(mockTransactionManager).getTransaction(any());
+        inOrder.verify(mockOutboxEventRepository).deleteDelivered(List.of(11L));
+        inOrder.verify(mockTransactionManager).commit(any());
+    }
+
+    @Test
+    void dispatchPending_SinkFails_KeepsEventsForTheNextRun() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockOutboxEventRepository.findNextBatch(any(), any())).thenReturn(List.of(
+                new OutboxEvent(11L, EntityType.PROGRAMMER, 3L, ChangeType.UPDATED, CREATED_AT, null)));
+        Mockito.doThrow(new IOException("unavailable")).when(mockFirstSink).deliver(any());
+
+        // ACT
+        long actualResult = target.dispatchPending();
+
+        // ASSERT
+        assertEquals(0, actualResult);
+        assertEquals(0, target.deliveredEvents());
+        assertEquals(1, target.failedDeliveries());
+        Mockito.verify(mockSecondSink, Mockito.never()).deliver(any());
+        Mockito.verify(mockOutboxEventRepository, Mockito.never()).deleteDelivered(any());
+        Mockito.verify(mockOutboxEventRepository, Mockito.times(1)).updateClaimedUntil(List.of(11L), null);
+    }
+
+    @Test
+    void dispatchPending_EmptyOutbox_DeliversNothing() throws Exception {
+
+        // ACT
+        long actualResult = target.dispatchPending();
+
+        // ASSERT
+        assertEquals(0, actualResult);
+        Mockito.verify(mockFirstSink, Mockito.never()).deliver(any());
+        Mockito.verify(mockOutboxEventRepository, Mockito.never()).updateClaimedUntil(any(), any());
+        Mockito.verify(mockOutboxEventRepository, Mockito.never()).deleteDelivered(any());
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ImportStatus;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.mappers.AddressMapper;
+import com.example.backendtestproject.mappers.BirthDateMapper;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.models.ImportJob;
+import com.example.backendtestproject.models.ImportJobError;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.repositories.ImportJobErrorRepository;
+import com.example.backendtestproject.repositories.ImportJobRepository;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+public class ProgrammerImportWorkerTest {
+    private static final String HEADER = "name,zipCode,city,street,day,month,year,phoneNumber,email,responsibility,isApprentice\n";
+
+    @TempDir
+    private Path tempDir;
+
+    private ImportJobRepository mockImportJobRepository;
+    private ImportJobErrorRepository mockImportJobErrorRepository;
+    private ProgrammerRepository mockProgrammerRepository;
+    private ValidatorService mockValidatorService;
+    private ProgrammerImportWorker target;
+
+    @BeforeEach
+    void init() {
+        mockImportJobRepository = Mockito.mock(ImportJobRepository.class);
+        mockImportJobErrorRepository = Mockito.mock(ImportJobErrorRepository.class);
+        mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        mockValidatorService = Mockito.mock(ValidatorService.class);
+        target = new ProgrammerImportWorker(mockImportJobRepository, mockImportJobErrorRepository,
+                mockProgrammerRepository, mockValidatorService,
+                new ProgrammerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper(),
+                        new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper())),
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                Mockito.mock(ApplicationEventPublisher.class), Mockito.mock(WriteVersionService.class),
+                Mockito.mock(OutboxService.class));
+
+        Mockito.when(mockImportJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void run_MixedRows_SavesValidRowsAndRecordsRejectedRows() throws IOException {
+
+        // ARRANGE
+        ImportJob importJob = givenJob(HEADER
+                + "First Programmer,1000,Budapest,\"Main street, 1\",11,3,1999,+36203456789,first@gmail.com,backend,true\n"
+                + "Second Programmer,1000,Budapest,Main street,11,3,1999,+36203456789,second@gmail,FRONTEND,false\n"
+                + "Third Programmer,1000\n", 0L);
+        ArgumentCaptor<List<ProgrammerDto>> dtoCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.when(mockValidatorService.areProgrammersValid(dtoCaptor.capture())).thenReturn(List.of(
+                new ValidatorResultDto(true, "success"), new ValidatorResultDto(false, ProgrammingConstants.comIsMissing)));
+        ArgumentCaptor<List<Programmer>> programmerCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ImportJobError>> errorCaptor = ArgumentCaptor.forClass(List.class);
+
+        // ACT
+        target.run(importJob.getImportJobId());
+
+        // ASSERT
+        ProgrammerDto firstProgrammer = dtoCaptor.getValue().get(0);
+        assertEquals("Main street, 1", firstProgrammer.getAddress().getStreet());
+        assertEquals(Responsibility.BACKEND, firstProgrammer.getResponsibility());
+        assertEquals(1999, firstProgrammer.getBirthDate().getYear());
+        assertEquals(true, firstProgrammer.getIsApprentice());
+
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).saveAll(programmerCaptor.capture());
+        assertEquals(1, programmerCaptor.getValue().size());
+        assertEquals("first@gmail.com", programmerCaptor.getValue().get(0).getEmail());
+
+        Mockito.verify(mockImportJobErrorRepository, Mockito.times(1)).saveAll(errorCaptor.capture());
+        assertEquals(List.of(2L, 3L), errorCaptor.getValue().stream().map(ImportJobError::getRowIndex).toList());
+        assertEquals(ProgrammingConstants.comIsMissing, errorCaptor.getValue().get(0).getMessage());
+        assertEquals(ProgrammingConstants.importRowInvalid, errorCaptor.getValue().get(1).getMessage());
+
+        Mockito.verify(mockImportJobRepository, Mockito.times(1)).updateProgress(1L, 3L, 1L, 2L);
+        assertEquals(ImportStatus.COMPLETED, importJob.getStatus());
+        assertEquals(3L, importJob.getCheckpointRow());
+        assertEquals(1L, importJob.getRowsImported());
+        assertEquals(2L, importJob.getRowsRejected());
+        assertNotNull(importJob.getFinishedAt());
+    }
+
+    @Test
+    void run_ResumedJob_SkipsRowsBeforeCheckpoint() throws IOException {
+
+        // ARRANGE
+        ImportJob importJob = givenJob(HEADER
+                + "First Programmer,1000,Budapest,Main street,11,3,1999,+36203456789,first@gmail.com,BACKEND,true\n"
+                + "Second Programmer,1000,Budapest,Main street,11,3,1999,+36203456789,second@gmail.com,BACKEND,true\n"
+                + "Third Programmer,1000,Budapest,Main street,11,3,1999,+36203456789,third@gmail.com,BACKEND,true\n", 2L);
+        ArgumentCaptor<List<ProgrammerDto>> dtoCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.when(mockValidatorService.areProgrammersValid(dtoCaptor.capture()))
+                .thenReturn(List.of(new ValidatorResultDto(true, "success")));
+
+        // ACT
+        target.run(importJob.getImportJobId());
+
+        // ASSERT
+        assertEquals(1, dtoCaptor.getValue().size());
+        assertEquals("third@gmail.com", dtoCaptor.getValue().get(0).getEmail());
+        Mockito.verify(mockImportJobRepository, Mockito.times(1)).updateProgress(1L, 3L, 1L, 0L);
+        assertEquals(ImportStatus.COMPLETED, importJob.getStatus());
+        assertEquals(2L, importJob.getRunStartRow());
+    }
+
+    @Test
+    void run_ChunkFails_KeepsCheckpointOfLastCommittedChunk() throws IOException {
+
+        // ARRANGE
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < ProgrammingConstants.importChunkSize + 1; i++) {
+            content.append("Programmer,1000,Budapest,Main street,11,3,1999,+36203456789,programmer")
+                    .append(i).append("@gmail.com,BACKEND,true\n");
+        }
+        ImportJob importJob = givenJob(content.toString(), 0L);
+        Mockito.when(mockValidatorService.areProgrammersValid(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(programmer -> new ValidatorResultDto(true, "success")).toList());
+        Mockito.doNothing().doThrow(new IllegalStateException("Connection lost"))
+                .when(mockImportJobRepository).updateProgress(anyLong(), anyLong(), anyLong(), anyLong());
+
+        // ACT
+        target.run(importJob.getImportJobId());
+
+        // ASSERT
+        assertEquals(ImportStatus.FAILED, importJob.getStatus());
+        assertEquals("Connection lost", importJob.getErrorMessage());
+        assertEquals((long) ProgrammingConstants.importChunkSize, importJob.getCheckpointRow());
+        assertEquals((long) ProgrammingConstants.importChunkSize, importJob.getRowsImported());
+    }
+
+    @Test
+    void run_HeaderMissingColumn_FailsJob() throws IOException {
+
+        // ARRANGE
+        ImportJob importJob = givenJob("name,zipCode,city\nFirst Programmer,1000,Budapest\n", 0L);
+
+        // ACT
+        target.run(importJob.getImportJobId());
+
+        // ASSERT
+        assertEquals(ImportStatus.FAILED, importJob.getStatus());
+        assertEquals(ProgrammingConstants.importHeaderInvalid, importJob.getErrorMessage());
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).saveAll(any());
+    }
+
+    private ImportJob givenJob(String content, Long checkpointRow) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("programmers.csv"), content);
+        ImportJob importJob = ImportJob.builder()
+                .importJobId(1L)
+                .fileName("programmers.csv")
+                .filePath(file.toString())
+                .status(ImportStatus.QUEUED)
+                .checkpointRow(checkpointRow)
+                .build();
+        Mockito.when(mockImportJobRepository.findById(1L)).thenReturn(Optional.of(importJob));
+        return importJob;
+    }
+}
@@ -1,18 +1,35 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProgrammerDetailsDto;
 import com.example.backendtestproject.dtos.ProgrammerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
 import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.mappers.AddressMapper;
+import com.example.backendtestproject.mappers.BirthDateMapper;
+import com.example.backendtestproject.mappers.ProgrammerMapper;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.mappers.ProjectMapper;
 import com.example.backendtestproject.models.Address;
 import com.example.backendtestproject.models.BirthDate;
 import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.repositories.KeysetCursor;
 import com.example.backendtestproject.repositories.ProgrammerRepository;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.modelmapper.ModelMapper;
 
 import java.util.ArrayList;
@@ -21,8 +38,7 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
 public class ProgrammerServiceImplTest {
@@ -30,6 +46,8 @@ public class ProgrammerServiceImplTest {
     private ValidatorService mockValidatorService;
     private ModelMapper modelMapper;
     private ProjectManagerRepository projectManagerRepository;
+    private ApplicationEventPublisher mockEventPublisher;
+    private OutboxService mockOutboxService;
     private ProgrammerService target;
     private Programmer programmer;
     private List<Programmer> programmers;
@@ -38,8 +56,13 @@ public class ProgrammerServiceImplTest {
     void init() {
         mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
         mockValidatorService = Mockito.mock(ValidatorService.class);
+        mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        mockOutboxService = Mockito.mock(OutboxService.class);
         modelMapper = new ModelMapper();
-        target = new ProgrammerServiceImpl(mockProgrammerRepository, projectManagerRepository, mockValidatorService, modelMapper);
+        target = new ProgrammerServiceImpl(mockProgrammerRepository, projectManagerRepository, mockValidatorService,
+                new ProgrammerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper(),
+                        new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper())),
+                mockEventPublisher, Mockito.mock(WriteVersionService.class), new ObjectMapper(), mockOutboxService);
         programmer = Programmer.builder()
                 .name("First Programmer")
                 .email("firstprogrammer@gmail.com")
@@ -136,6 +159,29 @@ public class ProgrammerServiceImplTest {
         assertEquals(validationResult.message(), actualResult.message());
         Mockito.verify(mockValidatorService, Mockito.times(1)).isProgrammerValid(input);
         Mockito.verify(mockProgrammerRepository, Mockito.never()).save(any(Programmer.class));
+        Mockito.verifyNoInteractions(mockOutboxService);
+    }
+
+    @Test
+    void saveAll_MixedItems_SavesOnlyValidItemsAndReturnsPerItemResults() {
+
+        // ARRANGE
+        List<ProgrammerDto> input = List.of(modelMapper.map(programmer, ProgrammerDto.class), new ProgrammerDto());
+        List<ValidatorResultDto> validationResults = List.of(new ValidatorResultDto(true, "success"),
+                new ValidatorResultDto(false, "failure"));
+        Mockito.when(mockValidatorService.areProgrammersValid(input)).thenReturn(validationResults);
+        ArgumentCaptor<List<Programmer>> captor = ArgumentCaptor.forClass(List.class);
+
+        // ACT
+        List<ValidatorResultDto> actualResult = target.saveAll(input);
+
+        // ASSERT
+        assertEquals(validationResults, actualResult);
+        Mockito.verify(mockValidatorService, Mockito.times(1)).areProgrammersValid(input);
+        Mockito.verify(mockValidatorService, Mockito.never()).isProgrammerValid(any(ProgrammerDto.class));
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(programmer.getEmail(), captor.getValue().get(0).getEmail());
     }
 
     @Test
@@ -144,7 +190,7 @@ public class ProgrammerServiceImplTest {
         // ARRANGE
         List<ProgrammerDto> expectedResult = programmers.stream().map(r -> modelMapper.map(r, ProgrammerDto.class)).toList();
 
-        Mockito.when(mockProgrammerRepository.findAll()).thenReturn(programmers);
+        Mockito.when(mockProgrammerRepository.findAllDtos(null, Sort.by("programmerId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProgrammerDto> actualResult = target.findAll();
@@ -157,14 +203,14 @@ public class ProgrammerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("programmerId"));
     }
 
     @Test
     void findAll_EmptyList_ReturnsEmptyProgrammerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProgrammerRepository.findAll()).thenReturn(new ArrayList<>());
+        Mockito.when(mockProgrammerRepository.findAllDtos(null, Sort.by("programmerId"))).thenReturn(new ArrayList<>());
 
         // ACT
         List<ProgrammerDto> actualResult = target.findAll();
@@ -172,7 +218,7 @@ public class ProgrammerServiceImplTest {
         // ASSERT
         assertEquals(0, actualResult.size());
 
-        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("programmerId"));
     }
 
     @Test
@@ -201,12 +247,11 @@ public class ProgrammerServiceImplTest {
     void findAllSorted_WithIncorrectField_ReturnsOriginalProgrammerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProgrammerRepository.findAll()).thenReturn(programmers);
-
         List<ProgrammerDto> expectedResult = programmers
                 .stream()
                 .map(r -> modelMapper.map(r, ProgrammerDto.class))
                 .toList();
+        Mockito.when(mockProgrammerRepository.findAllDtos(null, Sort.by("programmerId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProgrammerDto> actualResult = target.findAllSorted("nonExistingField", "desc");
@@ -219,20 +264,23 @@ public class ProgrammerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("programmerId"));
     }
 
     @Test
     void findAllSortedByName_ListContainsProgrammers_ReturnsProgrammerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProgrammerRepository.findAll()).thenReturn(programmers);
-
-        List<ProgrammerDto> expectedResult = programmers
+        List<Programmer> sortedProgrammers = programmers
                 .stream()
                 .sorted(Comparator.comparing(Programmer::getName).reversed())
+                .toList();
+
+        List<ProgrammerDto> expectedResult = sortedProgrammers
+                .stream()
                 .map(r -> modelMapper.map(r, ProgrammerDto.class))
                 .toList();
+        Mockito.when(mockProgrammerRepository.findAllDtos(null, Sort.by(Sort.Direction.DESC, "name"))).thenReturn(expectedResult);
 
         // ACT
         List<ProgrammerDto> actualResult = target.findAllSorted("name", "desc");
@@ -245,7 +293,52 @@ public class ProgrammerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAllDtos(null, Sort.by(Sort.Direction.DESC, "name"));
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).findAllDtos(null, Sort.by("programmerId"));
+    }
+
+    @Test
+    void findPage_MoreRowsThanLimit_ReturnsFirstPageWithNextCursor() {
+
+        // ARRANGE
+        Sort sort = Sort.by(Sort.Direction.DESC, "name").and(Sort.by("programmerId"));
+        List<ProgrammerDto> programmersDto = programmers.stream().map(r -> modelMapper.map(r, ProgrammerDto.class)).toList();
+        Mockito.when(mockProgrammerRepository.findAllDtos(Mockito.<Specification<Programmer>>any(), Mockito.eq(sort), Mockito.eq(2)))
+                .thenReturn(programmersDto);
+
+        // ACT
+        PageDto<ProgrammerDto> actualResult = target.findPage("name", "desc", 1, null);
+
+        // ASSERT
+        assertEquals(1, actualResult.content().size());
+        assertEquals(programmers.get(0).getName(), actualResult.content().get(0).getName());
+        assertNotNull(actualResult.nextCursor());
+        assertEquals(KeysetCursor.encode(programmersDto.get(0), sort), actualResult.nextCursor());
+
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findAllDtos(Mockito.<Specification<Programmer>>isNull(), Mockito.eq(sort), Mockito.eq(2));
+    }
+
+    @Test
+    void findPage_LastPage_ReturnsNoNextCursor() {
+
+        // ARRANGE
+        List<ProgrammerDto> programmersDto = programmers.stream().map(r -> modelMapper.map(r, ProgrammerDto.class)).toList();
+        Mockito.when(mockProgrammerRepository.findAllDtos(Mockito.<Specification<Programmer>>any(), Mockito.any(Sort.class), Mockito.eq(3)))
+                .thenReturn(programmersDto);
+
+        // ACT
+        PageDto<ProgrammerDto> actualResult = target.findPage(null, null, 2, null);
+
+        // ASSERT
+        assertEquals(programmers.size(), actualResult.content().size());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void findPage_InvalidCursor_ThrowsIllegalArgumentException() {
+
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> target.findPage("name", "asc", 10, "not-a-cursor"));
     }
 
     @Test
@@ -261,5 +354,104 @@ public class ProgrammerServiceImplTest {
         assertTrue(actualResult);
         Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findByProgrammerId(1L);
         Mockito.verify(mockProgrammerRepository, Mockito.times(1)).deleteByProgrammerId(1L);
+        Mockito.verify(mockOutboxService, Mockito.times(1)).record(EntityType.PROGRAMMER, ChangeType.DELETED, 1L);
+    }
+
+    @Test
+    void patchById_OnlyAddressChanged_RaisesProgrammerVersion() throws Exception {
+
+        // ARRANGE
+        programmer.setProgrammerId(1L);
+        Mockito.when(mockProgrammerRepository.findByProgrammerId(1L)).thenReturn(programmer);
+        Mockito.when(mockValidatorService.isEditedProgrammerValid(any(ProgrammerDto.class)))
+                .thenReturn(new ValidatorResultDto(true, "success"));
+        JsonNode patch = new ObjectMapper().readTree("{\"address\": {\"city\": \"Debrecen\"}}");
+
+        // ACT
+        ValidatorResultDto result = target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertTrue(result.isValid());
+        assertEquals("Debrecen", programmer.getAddress().getCity());
+        assertEquals("Test street", programmer.getAddress().getStreet());
+        Mockito.verify(mockProgrammerRepository).forceVersionIncrement(programmer);
+    }
+
+    @Test
+    void patchById_PhoneNumberChanged_LeavesVersionToTheRowUpdate() throws Exception {
+
+        // ARRANGE
+        programmer.setProgrammerId(1L);
+        Mockito.when(mockProgrammerRepository.findByProgrammerId(1L)).thenReturn(programmer);
+        Mockito.when(mockValidatorService.isEditedProgrammerValid(any(ProgrammerDto.class)))
+                .thenReturn(new ValidatorResultDto(true, "success"));
+        JsonNode patch = new ObjectMapper().readTree("{\"phoneNumber\": \"+36301234567\"}");
+
+        // ACT
+        target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertEquals("+36301234567", programmer.getPhoneNumber());
+        assertEquals("First Programmer", programmer.getName());
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).forceVersionIncrement(any());
+    }
+
+    @Test
+    void patchById_ValueOfWrongType_ReturnsInvalidPatch() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findByProgrammerId(1L)).thenReturn(programmer);
+        JsonNode patch = new ObjectMapper().readTree("{\"address\": {\"zipCode\": \"abc\"}}");
+
+        // ACT
+        ValidatorResultDto result = target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertFalse(result.isValid());
+        assertEquals(ProgrammingConstants.invalidPatch, result.message());
+        Mockito.verifyNoInteractions(mockValidatorService, mockEventPublisher);
+    }
+
+    @Test
+    void editById_RejectedByValidator_LeavesRowAndOutboxAlone() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findByProgrammerId(1L)).thenReturn(programmer);
+        ValidatorResultDto validationResult = new ValidatorResultDto(false, ProgrammingConstants.phoneNumberInvalid);
+        Mockito.when(mockValidatorService.isProgrammerValid(any(ProgrammerDto.class))).thenReturn(validationResult);
+        ProgrammerDto editedProgrammer = modelMapper.map(programmer, ProgrammerDto.class);
+        editedProgrammer.setName("Edited Programmer");
+        editedProgrammer.setPhoneNumber("not-a-number");
+        editedProgrammer.setEmail("editedprogrammer@gmail.com");
+
+        // ACT
+        ValidatorResultDto actualResult = target.editById(1L, editedProgrammer);
+
+        // ASSERT
+        assertEquals(validationResult, actualResult);
+        assertEquals("First Programmer", programmer.getName());
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).save(any(Programmer.class));
+        Mockito.verifyNoInteractions(mockOutboxService, mockEventPublisher);
+    }
+
+    @Test
+    void editById_ValidEdit_RecordsChangeAfterSaving() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findByProgrammerId(1L)).thenReturn(programmer);
+        Mockito.when(mockValidatorService.isProgrammerValid(any(ProgrammerDto.class)))
+                .thenReturn(new ValidatorResultDto(true, "success"));
+        ProgrammerDto editedProgrammer = modelMapper.map(programmer, ProgrammerDto.class);
+        editedProgrammer.setEmail("editedprogrammer@gmail.com");
+
+        // ACT
+        ValidatorResultDto actualResult = target.editById(1L, editedProgrammer);
+
+        // ASSERT
+        assertTrue(actualResult.isValid());
+        assertEquals("editedprogrammer@gmail.com", programmer.getEmail());
+        InOrder inOrder = Mockito.inOrder(mockProgrammerRepository, mockOutboxService);
+        inOrder.verify(mockProgrammerRepository).save(programmer);
+        inOrder.verify(mockOutboxService).record(EntityType.PROGRAMMER, ChangeType.UPDATED, 1L);
     }
 }
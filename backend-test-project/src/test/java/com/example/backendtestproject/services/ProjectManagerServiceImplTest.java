@@ -1,16 +1,33 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectManagerDetailsDto;
 import com.example.backendtestproject.dtos.ProjectManagerDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.mappers.AddressMapper;
+import com.example.backendtestproject.mappers.BirthDateMapper;
+import com.example.backendtestproject.mappers.ProjectManagerMapper;
+import com.example.backendtestproject.mappers.ProjectMapper;
 import com.example.backendtestproject.models.Address;
 import com.example.backendtestproject.models.BirthDate;
+import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.Project;
 import com.example.backendtestproject.models.ProjectManager;
+import com.example.backendtestproject.repositories.KeysetCursor;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.modelmapper.ModelMapper;
 
 import java.util.ArrayList;
@@ -19,14 +36,15 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
 public class ProjectManagerServiceImplTest {
 
     private ProjectManagerRepository mockProjectManagerRepository;
     private ValidatorService mockValidatorService;
+    private ApplicationEventPublisher mockEventPublisher;
+    private OutboxService mockOutboxService;
     private ModelMapper modelMapper;
     private ProjectManagerService target;
     private ProjectManager projectManager;
@@ -36,8 +54,12 @@ public class ProjectManagerServiceImplTest {
     void init() {
         mockProjectManagerRepository = Mockito.mock(ProjectManagerRepository.class);
         mockValidatorService = Mockito.mock(ValidatorService.class);
+        mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        mockOutboxService = Mockito.mock(OutboxService.class);
         modelMapper = new ModelMapper();
-        target = new ProjectManagerServiceImpl(mockProjectManagerRepository, mockValidatorService, modelMapper);
+        target = new ProjectManagerServiceImpl(mockProjectManagerRepository, mockValidatorService,
+                new ProjectManagerMapper(new AddressMapper(), new BirthDateMapper(), new ProjectMapper()), mockEventPublisher,
+                Mockito.mock(WriteVersionService.class), new ObjectMapper(), mockOutboxService);
         projectManager = ProjectManager.builder()
                 .name("First Manager")
                 .email("firstmanager@gmail.com")
@@ -130,13 +152,35 @@ public class ProjectManagerServiceImplTest {
         Mockito.verify(mockProjectManagerRepository, Mockito.never()).save(any(ProjectManager.class));
     }
 
+    @Test
+    void saveAll_MixedItems_SavesOnlyValidItemsAndReturnsPerItemResults() {
+
+        // ARRANGE
+        List<ProjectManagerDto> input = List.of(modelMapper.map(projectManager, ProjectManagerDto.class), new ProjectManagerDto());
+        List<ValidatorResultDto> validationResults = List.of(new ValidatorResultDto(true, "success"),
+                new ValidatorResultDto(false, "failure"));
+        Mockito.when(mockValidatorService.areProjectManagersValid(input)).thenReturn(validationResults);
+        ArgumentCaptor<List<ProjectManager>> captor = ArgumentCaptor.forClass(List.class);
+
+        // ACT
+        List<ValidatorResultDto> actualResult = target.saveAll(input);
+
+        // ASSERT
+        assertEquals(validationResults, actualResult);
+        Mockito.verify(mockValidatorService, Mockito.times(1)).areProjectManagersValid(input);
+        Mockito.verify(mockValidatorService, Mockito.never()).isProjectManagerValid(any(ProjectManagerDto.class));
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(projectManager.getEmail(), captor.getValue().get(0).getEmail());
+    }
+
     @Test
     void findAll_ListContainsProjectManagers_ReturnsProjectManagerDtoList() {
 
         // ARRANGE
         List<ProjectManagerDto> expectedResult = projectManagers.stream().map(r -> modelMapper.map(r, ProjectManagerDto.class)).toList();
 
-        Mockito.when(mockProjectManagerRepository.findAll()).thenReturn(projectManagers);
+        Mockito.when(mockProjectManagerRepository.findAllDtos(null, Sort.by("projectManagerId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectManagerDto> actualResult = target.findAll();
@@ -149,14 +193,14 @@ public class ProjectManagerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectManagerId"));
     }
 
     @Test
     void findAll_EmptyList_ReturnsEmptyProjectManagerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectManagerRepository.findAll()).thenReturn(new ArrayList<>());
+        Mockito.when(mockProjectManagerRepository.findAllDtos(null, Sort.by("projectManagerId"))).thenReturn(new ArrayList<>());
 
         // ACT
         List<ProjectManagerDto> actualResult = target.findAll();
@@ -164,7 +208,7 @@ public class ProjectManagerServiceImplTest {
         // ASSERT
         assertEquals(0, actualResult.size());
 
-        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectManagerId"));
     }
 
     @Test
@@ -193,12 +237,11 @@ public class ProjectManagerServiceImplTest {
     void findAllSorted_WithIncorrectField_ReturnsOriginalProjectManagerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectManagerRepository.findAll()).thenReturn(projectManagers);
-
         List<ProjectManagerDto> expectedResult = projectManagers
                 .stream()
                 .map(r -> modelMapper.map(r, ProjectManagerDto.class))
                 .toList();
+        Mockito.when(mockProjectManagerRepository.findAllDtos(null, Sort.by("projectManagerId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectManagerDto> actualResult = target.findAllSorted("nonExistingField", "desc");
@@ -211,20 +254,23 @@ public class ProjectManagerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectManagerId"));
     }
 
     @Test
     void findAllSortedByName_ListContainsProjectManagers_ReturnsProjectManagerDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectManagerRepository.findAll()).thenReturn(projectManagers);
-
-        List<ProjectManagerDto> expectedResult = projectManagers
+        List<ProjectManager> sortedProjectManagers = projectManagers
                 .stream()
                 .sorted(Comparator.comparing(ProjectManager::getName).reversed())
+                .toList();
+
+        List<ProjectManagerDto> expectedResult = sortedProjectManagers
+                .stream()
                 .map(r -> modelMapper.map(r, ProjectManagerDto.class))
                 .toList();
+        Mockito.when(mockProjectManagerRepository.findAllDtos(null, Sort.by(Sort.Direction.DESC, "name"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectManagerDto> actualResult = target.findAllSorted("name", "desc");
@@ -237,7 +283,52 @@ public class ProjectManagerServiceImplTest {
             assertThat(actualResult.get(i).getAddress(), samePropertyValuesAs(expectedResult.get(i).getAddress()));
         }
 
-        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAllDtos(null, Sort.by(Sort.Direction.DESC, "name"));
+        Mockito.verify(mockProjectManagerRepository, Mockito.never()).findAllDtos(null, Sort.by("projectManagerId"));
+    }
+
+    @Test
+    void findPage_MoreRowsThanLimit_ReturnsFirstPageWithNextCursor() {
+
+        // ARRANGE
+        Sort sort = Sort.by(Sort.Direction.DESC, "name").and(Sort.by("projectManagerId"));
+        List<ProjectManagerDto> projectManagersDto = projectManagers.stream().map(r -> modelMapper.map(r, ProjectManagerDto.class)).toList();
+        Mockito.when(mockProjectManagerRepository.findAllDtos(Mockito.<Specification<ProjectManager>>any(), Mockito.eq(sort), Mockito.eq(2)))
+                .thenReturn(projectManagersDto);
+
+        // ACT
+        PageDto<ProjectManagerDto> actualResult = target.findPage("name", "desc", 1, null);
+
+        // ASSERT
+        assertEquals(1, actualResult.content().size());
+        assertEquals(projectManagers.get(0).getName(), actualResult.content().get(0).getName());
+        assertNotNull(actualResult.nextCursor());
+        assertEquals(KeysetCursor.encode(projectManagersDto.get(0), sort), actualResult.nextCursor());
+
+        Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findAllDtos(Mockito.<Specification<ProjectManager>>isNull(), Mockito.eq(sort), Mockito.eq(2));
+    }
+
+    @Test
+    void findPage_LastPage_ReturnsNoNextCursor() {
+
+        // ARRANGE
+        List<ProjectManagerDto> projectManagersDto = projectManagers.stream().map(r -> modelMapper.map(r, ProjectManagerDto.class)).toList();
+        Mockito.when(mockProjectManagerRepository.findAllDtos(Mockito.<Specification<ProjectManager>>any(), Mockito.any(Sort.class), Mockito.eq(3)))
+                .thenReturn(projectManagersDto);
+
+        // ACT
+        PageDto<ProjectManagerDto> actualResult = target.findPage(null, null, 2, null);
+
+        // ASSERT
+        assertEquals(projectManagers.size(), actualResult.content().size());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void findPage_InvalidCursor_ThrowsIllegalArgumentException() {
+
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> target.findPage("name", "asc", 10, "not-a-cursor"));
     }
 
     @Test
@@ -253,5 +344,43 @@ public class ProjectManagerServiceImplTest {
         assertTrue(actualResult);
         Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).findByProjectManagerId(1L);
         Mockito.verify(mockProjectManagerRepository, Mockito.times(1)).deleteByProjectManagerId(1L);
+        Mockito.verify(mockOutboxService, Mockito.times(1))
+                .record(EntityType.PROJECT_MANAGER, ChangeType.DELETED, 1L);
+    }
+
+    @Test
+    void deleteById_ManagerWithProgrammers_EvictsManagerAndProgrammerDetails() {
+
+        // ARRANGE
+        projectManager.setProjectManagerId(1L);
+        projectManager.addProgrammer(Programmer.builder().programmerId(7L).build());
+        projectManager.addProgrammer(Programmer.builder().programmerId(8L).build());
+        Mockito.when(mockProjectManagerRepository.findByProjectManagerId(1L)).thenReturn(projectManager);
+
+        // ACT
+        target.deleteById(1L);
+
+        // ASSERT
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECT_MANAGERS, 1L));
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, List.of(7L, 8L)));
+    }
+
+    @Test
+    void editById_EmailUnchanged_LeavesRowAndOutboxAlone() {
+
+        // ARRANGE
+        Mockito.when(mockProjectManagerRepository.findByProjectManagerId(1L)).thenReturn(projectManager);
+        ProjectManagerDto editedProjectManager = modelMapper.map(projectManager, ProjectManagerDto.class);
+        editedProjectManager.setName("Edited Manager");
+
+        // ACT
+        ValidatorResultDto actualResult = target.editById(1L, editedProjectManager);
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(ProgrammingConstants.emailExists, actualResult.message());
+        assertEquals("First Manager", projectManager.getName());
+        Mockito.verify(mockProjectManagerRepository, Mockito.never()).save(any(ProjectManager.class));
+        Mockito.verifyNoInteractions(mockOutboxService, mockEventPublisher);
     }
 }
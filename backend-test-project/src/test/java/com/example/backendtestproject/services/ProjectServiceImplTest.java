@@ -1,22 +1,37 @@
 package com.example.backendtestproject.services;
 
+import com.example.backendtestproject.caching.DetailsCaches;
+import com.example.backendtestproject.caching.DetailsChangedEvent;
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.PageDto;
 import com.example.backendtestproject.dtos.ProjectDto;
 import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.ChangeType;
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.mappers.ProjectMapper;
+import com.example.backendtestproject.models.Programmer;
 import com.example.backendtestproject.models.Project;
+import com.example.backendtestproject.repositories.KeysetCursor;
 import com.example.backendtestproject.repositories.ProgrammerRepository;
 import com.example.backendtestproject.repositories.ProjectManagerRepository;
 import com.example.backendtestproject.repositories.ProjectRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.modelmapper.ModelMapper;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
 public class ProjectServiceImplTest {
@@ -24,6 +39,8 @@ public class ProjectServiceImplTest {
     private ProjectManagerRepository mockProjectManagerRepository;
     private ProgrammerRepository mockProgrammerRepository;
     private ValidatorService mockValidatorService;
+    private ApplicationEventPublisher mockEventPublisher;
+    private OutboxService mockOutboxService;
     private ModelMapper modelMapper;
     private ProjectService target;
     private Project project;
@@ -33,8 +50,13 @@ public class ProjectServiceImplTest {
     void init() {
         mockProjectRepository = Mockito.mock(ProjectRepository.class);
         mockValidatorService = Mockito.mock(ValidatorService.class);
+        mockProjectManagerRepository = Mockito.mock(ProjectManagerRepository.class);
+        mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        mockOutboxService = Mockito.mock(OutboxService.class);
         modelMapper = new ModelMapper();
-        target = new ProjectServiceImpl(mockProjectRepository, modelMapper, mockValidatorService, mockProjectManagerRepository, mockProgrammerRepository);
+        target = new ProjectServiceImpl(mockProjectRepository, new ProjectMapper(), mockValidatorService, mockProjectManagerRepository, mockProgrammerRepository,
+                mockEventPublisher, Mockito.mock(WriteVersionService.class), new ObjectMapper(), mockOutboxService);
         project = Project.builder()
                 .client("First Client")
                 .startDate("2023")
@@ -97,7 +119,7 @@ public class ProjectServiceImplTest {
         // ARRANGE
         List<ProjectDto> expectedResult = projects.stream().map(r -> modelMapper.map(r, ProjectDto.class)).toList();
 
-        Mockito.when(mockProjectRepository.findAll()).thenReturn(projects);
+        Mockito.when(mockProjectRepository.findAllDtos(null, Sort.by("projectId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectDto> actualResult = target.findAll();
@@ -105,14 +127,14 @@ public class ProjectServiceImplTest {
         // ASSERT
         assertEquals(expectedResult.size(), actualResult.size());
 
-        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectId"));
     }
 
     @Test
     void findAll_EmptyList_ReturnsEmptyProjectDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectRepository.findAll()).thenReturn(new ArrayList<>());
+        Mockito.when(mockProjectRepository.findAllDtos(null, Sort.by("projectId"))).thenReturn(new ArrayList<>());
 
         // ACT
         List<ProjectDto> actualResult = target.findAll();
@@ -120,7 +142,7 @@ public class ProjectServiceImplTest {
         // ASSERT
         assertEquals(0, actualResult.size());
 
-        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectId"));
     }
 
     @Test
@@ -141,12 +163,11 @@ public class ProjectServiceImplTest {
     void findAllSorted_WithIncorrectField_ReturnsOriginalProjectDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectRepository.findAll()).thenReturn(projects);
-
         List<ProjectDto> expectedResult = projects
                 .stream()
                 .map(r -> modelMapper.map(r, ProjectDto.class))
                 .toList();
+        Mockito.when(mockProjectRepository.findAllDtos(null, Sort.by("projectId"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectDto> actualResult = target.findAllSorted("nonExistingField", "desc");
@@ -154,20 +175,23 @@ public class ProjectServiceImplTest {
         // ASSERT
         assertEquals(expectedResult.size(), actualResult.size());
 
-        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAllDtos(null, Sort.by("projectId"));
     }
 
     @Test
     void findAllSortedByClient_ListContainsProjects_ReturnsProjectDtoList() {
 
         // ARRANGE
-        Mockito.when(mockProjectRepository.findAll()).thenReturn(projects);
-
-        List<ProjectDto> expectedResult = projects
+        List<Project> sortedProjects = projects
                 .stream()
                 .sorted(Comparator.comparing(Project::getClient).reversed())
+                .toList();
+
+        List<ProjectDto> expectedResult = sortedProjects
+                .stream()
                 .map(r -> modelMapper.map(r, ProjectDto.class))
                 .toList();
+        Mockito.when(mockProjectRepository.findAllDtos(null, Sort.by(Sort.Direction.DESC, "client"))).thenReturn(expectedResult);
 
         // ACT
         List<ProjectDto> actualResult = target.findAllSorted("client", "desc");
@@ -175,7 +199,52 @@ public class ProjectServiceImplTest {
         // ASSERT
         assertEquals(expectedResult.size(), actualResult.size());
 
-        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAll();
+        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAllDtos(null, Sort.by(Sort.Direction.DESC, "client"));
+        Mockito.verify(mockProjectRepository, Mockito.never()).findAllDtos(null, Sort.by("projectId"));
+    }
+
+    @Test
+    void findPage_MoreRowsThanLimit_ReturnsFirstPageWithNextCursor() {
+
+        // ARRANGE
+        Sort sort = Sort.by(Sort.Direction.DESC, "client").and(Sort.by("projectId"));
+        List<ProjectDto> projectsDto = projects.stream().map(r -> modelMapper.map(r, ProjectDto.class)).toList();
+        Mockito.when(mockProjectRepository.findAllDtos(Mockito.<Specification<Project>>any(), Mockito.eq(sort), Mockito.eq(2)))
+                .thenReturn(projectsDto);
+
+        // ACT
+        PageDto<ProjectDto> actualResult = target.findPage("client", "desc", 1, null);
+
+        // ASSERT
+        assertEquals(1, actualResult.content().size());
+        assertEquals(projects.get(0).getClient(), actualResult.content().get(0).getClient());
+        assertNotNull(actualResult.nextCursor());
+        assertEquals(KeysetCursor.encode(projectsDto.get(0), sort), actualResult.nextCursor());
+
+        Mockito.verify(mockProjectRepository, Mockito.times(1)).findAllDtos(Mockito.<Specification<Project>>isNull(), Mockito.eq(sort), Mockito.eq(2));
+    }
+
+    @Test
+    void findPage_LastPage_ReturnsNoNextCursor() {
+
+        // ARRANGE
+        List<ProjectDto> projectsDto = projects.stream().map(r -> modelMapper.map(r, ProjectDto.class)).toList();
+        Mockito.when(mockProjectRepository.findAllDtos(Mockito.<Specification<Project>>any(), Mockito.any(Sort.class), Mockito.eq(3)))
+                .thenReturn(projectsDto);
+
+        // ACT
+        PageDto<ProjectDto> actualResult = target.findPage(null, null, 2, null);
+
+        // ASSERT
+        assertEquals(projects.size(), actualResult.content().size());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void findPage_InvalidCursor_ThrowsIllegalArgumentException() {
+
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> target.findPage("client", "asc", 10, "not-a-cursor"));
     }
 
     @Test
@@ -191,5 +260,152 @@ public class ProjectServiceImplTest {
         assertTrue(actualResult);
         Mockito.verify(mockProjectRepository, Mockito.times(1)).findByProjectId(1L);
         Mockito.verify(mockProjectRepository, Mockito.times(1)).deleteByProjectId(1L);
+        Mockito.verify(mockOutboxService, Mockito.times(1)).record(EntityType.PROJECT, ChangeType.DELETED, 1L);
+    }
+
+    @Test
+    void saveByProgrammerId_ValidProject_RecordsCreatedProjectAndUpdatedProgrammer() {
+
+        // ARRANGE
+        Programmer programmer = Programmer.builder().programmerId(7L).name("First Programmer").build();
+        Mockito.when(mockValidatorService.isProjectValid(any(ProjectDto.class)))
+                .thenReturn(new ValidatorResultDto(true, "success"));
+        Mockito.when(mockProgrammerRepository.findById(7L)).thenReturn(Optional.of(programmer));
+
+        // ACT
+        ValidatorResultDto actualResult = target.saveByProgrammerId(modelMapper.map(project, ProjectDto.class), 7L);
+
+        // ASSERT
+        assertTrue(actualResult.isValid());
+        Mockito.verify(mockOutboxService, Mockito.times(1))
+                .record(Mockito.eq(EntityType.PROJECT), Mockito.eq(ChangeType.CREATED), Mockito.nullable(Long.class));
+        Mockito.verify(mockOutboxService, Mockito.times(1)).record(EntityType.PROGRAMMER, ChangeType.UPDATED, 7L);
+    }
+
+    @Test
+    void editById_ProjectSharedByManagersAndProgrammers_EvictsAllTheirDetails() {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.updateIfVersion(1L, "Client", "Edited", "2023", null)).thenReturn(1);
+        Mockito.when(mockProjectManagerRepository.findProjectManagerIdsByProjectId(1L)).thenReturn(List.of(2L));
+        Mockito.when(mockProgrammerRepository.findProgrammerIdsByProjectId(1L)).thenReturn(List.of(3L, 4L));
+
+        // ACT
+        target.editById(1L, new ProjectDto(null, "Client", "2023", "Edited", false, null));
+
+        // ASSERT
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECTS, 1L));
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECT_MANAGERS, List.of(2L)));
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROGRAMMERS, List.of(3L, 4L)));
+    }
+
+    @Test
+    void editById_StaleVersion_ThrowsOptimisticLockingFailureWithoutEvents() {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.updateIfVersion(1L, "Client", "Edited", "2023", 1L)).thenReturn(0);
+        Mockito.when(mockProjectRepository.existsByProjectId(1L)).thenReturn(true);
+        ProjectDto editedProject = new ProjectDto(null, "Client", "2023", "Edited", false, 1L);
+
+        // ACT & ASSERT
+        assertThrows(OptimisticLockingFailureException.class, () -> target.editById(1L, editedProject));
+        Mockito.verify(mockProjectRepository, Mockito.never()).findByProjectId(1L);
+        Mockito.verifyNoInteractions(mockEventPublisher, mockOutboxService);
+    }
+
+    @Test
+    void editById_ProjectMissing_ReturnsNoProjectFound() {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.updateIfVersion(1L, "Client", "Edited", "2023", null)).thenReturn(0);
+        Mockito.when(mockProjectRepository.existsByProjectId(1L)).thenReturn(false);
+
+        // ACT
+        ValidatorResultDto actualResult = target.editById(1L, new ProjectDto(null, "Client", "2023", "Edited", false, null));
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(ProgrammingConstants.noProjectFound, actualResult.message());
+        Mockito.verifyNoInteractions(mockEventPublisher, mockOutboxService);
+    }
+
+    @Test
+    void patchById_SameValues_ReturnsWithoutValidatingOrWriting() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.findByProjectId(1L)).thenReturn(project);
+        JsonNode patch = new ObjectMapper().readTree("{\"client\": \"First Client\"}");
+
+        // ACT
+        ValidatorResultDto result = target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertTrue(result.isValid());
+        Mockito.verifyNoInteractions(mockValidatorService, mockEventPublisher);
+    }
+
+    @Test
+    void patchById_ChangedDescription_ChangesOnlyThatField() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.findByProjectId(1L)).thenReturn(project);
+        Mockito.when(mockValidatorService.isProjectValid(any(ProjectDto.class)))
+                .thenReturn(new ValidatorResultDto(true, "success"));
+        JsonNode patch = new ObjectMapper().readTree("{\"description\": \"Patched\", \"projectId\": 5}");
+
+        // ACT
+        ValidatorResultDto result = target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertTrue(result.isValid());
+        assertEquals("Patched", project.getDescription());
+        assertEquals("First Client", project.getClient());
+        assertEquals("2023", project.getStartDate());
+        assertNull(project.getProjectId());
+        Mockito.verify(mockEventPublisher).publishEvent(DetailsChangedEvent.changed(DetailsCaches.PROJECTS, 1L));
+    }
+
+    @Test
+    void patchById_NullRequiredMember_ReturnsValidationErrors() throws Exception {
+
+        // ARRANGE
+        Mockito.when(mockProjectRepository.findByProjectId(1L)).thenReturn(project);
+        Mockito.when(mockValidatorService.isProjectValid(any(ProjectDto.class)))
+                .thenReturn(new ValidatorResultDto(false, "fail"));
+        JsonNode patch = new ObjectMapper().readTree("{\"client\": null}");
+
+        // ACT
+        ValidatorResultDto result = target.patchById(1L, patch, null);
+
+        // ASSERT
+        assertFalse(result.isValid());
+        assertEquals("First Client", project.getClient());
+        Mockito.verifyNoInteractions(mockEventPublisher);
+    }
+
+    @Test
+    void patchById_StaleVersionInPatch_ThrowsOptimisticLockingFailure() throws Exception {
+
+        // ARRANGE
+        project.setVersion(2L);
+        Mockito.when(mockProjectRepository.findByProjectId(1L)).thenReturn(project);
+        JsonNode patch = new ObjectMapper().readTree("{\"description\": \"Patched\", \"version\": 1}");
+
+        // ACT & ASSERT
+        assertThrows(OptimisticLockingFailureException.class, () -> target.patchById(1L, patch, null));
+        assertEquals("First", project.getDescription());
+    }
+
+    @Test
+    void editById_ClientMissing_LeavesRowAndOutboxAlone() {
+
+        // ACT
+        ValidatorResultDto actualResult = target.editById(1L, new ProjectDto(null, null, "2023", "Edited", false, null));
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        Mockito.verify(mockProjectRepository, Mockito.never())
+                .updateIfVersion(any(), any(), any(), any(), any());
+        Mockito.verifyNoInteractions(mockOutboxService, mockEventPublisher);
     }
 }
@@ -0,0 +1,135 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.dtos.ArchiveRunDto;
+import com.example.backendtestproject.repositories.AddressRepository;
+import com.example.backendtestproject.repositories.BirthDateRepository;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import com.example.backendtestproject.repositories.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+public class SoftDeleteArchiveWorkerTest {
+    private static final Instant CUTOFF = Instant.parse("2023-01-01T00:00:00Z");
+
+    private ProgrammerRepository mockProgrammerRepository;
+    private ProjectManagerRepository mockProjectManagerRepository;
+    private ProjectRepository mockProjectRepository;
+    private AddressRepository mockAddressRepository;
+    private BirthDateRepository mockBirthDateRepository;
+    private SoftDeleteArchiveWorker target;
+
+    @BeforeEach
+    void init() {
+        mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        mockProjectManagerRepository = Mockito.mock(ProjectManagerRepository.class);
+        mockProjectRepository = Mockito.mock(ProjectRepository.class);
+        mockAddressRepository = Mockito.mock(AddressRepository.class);
+        mockBirthDateRepository = Mockito.mock(BirthDateRepository.class);
+        target = new SoftDeleteArchiveWorker(mockProgrammerRepository, mockProjectManagerRepository,
+                mockProjectRepository, mockAddressRepository, mockBirthDateRepository,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                Duration.ofDays(30), 2, Duration.ZERO);
+    }
+
+    @Test
+    void run_MoreRowsThanBatchSize_ArchivesInKeysetBatches() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(3L, 7L));
+        Mockito.when(mockProgrammerRepository.findArchivableIds(7L, CUTOFF, 2)).thenReturn(List.of(9L));
+
+        // ACT
+        ArchiveRunDto result = target.run(CUTOFF);
+
+        // ASSERT
+        assertEquals(new ArchiveRunDto(3, 0, 0, 0, 0), result);
+        InOrder inOrder = Mockito.inOrder(mockProgrammerRepository);
+        inOrder.verify(mockProgrammerRepository).copyToArchive(List.of(3L, 7L));
+        inOrder.verify(mockProgrammerRepository).deleteArchived(List.of(3L, 7L));
+        inOrder.verify(mockProgrammerRepository).copyToArchive(List.of(9L));
+        inOrder.verify(mockProgrammerRepository).deleteArchived(List.of(9L));
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).findArchivableIds(eq(9L), any(), anyInt());
+    }
+
+    @Test
+    void run_DeletedRows_ArchivesProgrammersBeforeTheRowsTheyPointTo() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(1L));
+        Mockito.when(mockProjectManagerRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(2L));
+        Mockito.when(mockProjectRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(3L));
+
+        // ACT
+        ArchiveRunDto result = target.run(CUTOFF);
+
+        // ASSERT
+        assertEquals(new ArchiveRunDto(1, 1, 1, 0, 0), result);
+        InOrder inOrder = Mockito.inOrder(mockProgrammerRepository, mockProjectManagerRepository, mockProjectRepository);
+        inOrder.verify(mockProgrammerRepository).deleteArchived(List.of(1L));
+        inOrder.verify(mockProjectManagerRepository).deleteArchived(List.of(2L));
+        inOrder.verify(mockProjectRepository).deleteArchived(List.of(3L));
+    }
+
+    @Test
+    void run_DeletedProgrammerStillLinked_ArchivesItsAddressAndBirthDateInTheSameBatch() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(1L));
+        Mockito.when(mockProgrammerRepository.findAddressIds(List.of(1L))).thenReturn(List.of(4L));
+        Mockito.when(mockProgrammerRepository.findBirthDateIds(List.of(1L))).thenReturn(List.of(5L));
+        Mockito.when(mockAddressRepository.deleteOrphans(List.of(4L))).thenReturn(1);
+        Mockito.when(mockBirthDateRepository.deleteOrphans(List.of(5L))).thenReturn(1);
+
+        // ACT
+        ArchiveRunDto result = target.run(CUTOFF);
+
+        // ASSERT
+        assertEquals(new ArchiveRunDto(1, 0, 0, 1, 1), result);
+        InOrder inOrder = Mockito.inOrder(mockProgrammerRepository, mockAddressRepository, mockBirthDateRepository);
+        inOrder.verify(mockProgrammerRepository).findAddressIds(List.of(1L));
+        inOrder.verify(mockProgrammerRepository).deleteArchived(List.of(1L));
+        inOrder.verify(mockAddressRepository).copyOrphansToArchive(List.of(4L));
+        inOrder.verify(mockAddressRepository).deleteOrphans(List.of(4L));
+        inOrder.verify(mockBirthDateRepository).deleteOrphans(List.of(5L));
+    }
+
+    @Test
+    void run_AddressStillUsedElsewhere_CountsOnlyTheArchivedOnes() {
+
+        // ARRANGE
+        Mockito.when(mockProjectManagerRepository.findArchivableIds(0L, CUTOFF, 2)).thenReturn(List.of(2L));
+        Mockito.when(mockProjectManagerRepository.findAddressIds(List.of(2L))).thenReturn(List.of(6L));
+        Mockito.when(mockAddressRepository.deleteOrphans(List.of(6L))).thenReturn(0);
+
+        // ACT
+        ArchiveRunDto result = target.run(CUTOFF);
+
+        // ASSERT
+        assertEquals(new ArchiveRunDto(0, 1, 0, 0, 0), result);
+        Mockito.verify(mockBirthDateRepository, Mockito.never()).deleteOrphans(any());
+    }
+
+    @Test
+    void run_NothingToArchive_WritesNothing() {
+
+        // ACT
+        ArchiveRunDto result = target.run(CUTOFF);
+
+        // ASSERT
+        assertEquals(new ArchiveRunDto(0, 0, 0, 0, 0), result);
+        Mockito.verify(mockProgrammerRepository, Mockito.never()).copyToArchive(any());
+        Mockito.verify(mockAddressRepository, Mockito.never()).copyOrphansToArchive(any());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.constants.ProgrammingConstants;
+import com.example.backendtestproject.dtos.AddressDto;
+import com.example.backendtestproject.dtos.BirthDateDto;
+import com.example.backendtestproject.dtos.FieldErrorDto;
+import com.example.backendtestproject.dtos.ProgrammerDto;
+import com.example.backendtestproject.dtos.ProjectDto;
+import com.example.backendtestproject.dtos.ValidatorResultDto;
+import com.example.backendtestproject.enums.Responsibility;
+import com.example.backendtestproject.models.Programmer;
+import com.example.backendtestproject.repositories.ProgrammerRepository;
+import com.example.backendtestproject.repositories.ProjectManagerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatorServiceImplTest {
+    private ProgrammerRepository mockProgrammerRepository;
+    private ValidatorService target;
+    private ProgrammerDto programmer;
+
+    @BeforeEach
+    void init() {
+        mockProgrammerRepository = Mockito.mock(ProgrammerRepository.class);
+        target = new ValidatorServiceImpl(Mockito.mock(ProjectManagerRepository.class), mockProgrammerRepository);
+        programmer = new ProgrammerDto(null, "First Programmer", new AddressDto(null, 1000, "Budapest", "Test street"),
+                new BirthDateDto(null, 11, 3, 1999), "+36203456789", "firstprogrammer@gmail.com",
+                Responsibility.BACKEND, true, false, null);
+    }
+
+    @Test
+    void isProgrammerValid_ValidProgrammer_QueriesEmailOnceAndReturnsSuccess() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findByEmail(programmer.getEmail())).thenReturn(Optional.empty());
+
+        // ACT
+        ValidatorResultDto actualResult = target.isProgrammerValid(programmer);
+
+        // ASSERT
+        assertTrue(actualResult.isValid());
+        assertEquals(ProgrammingConstants.saveSuccess("programmer"), actualResult.message());
+        assertTrue(actualResult.errors().isEmpty());
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findByEmail(programmer.getEmail());
+    }
+
+    @Test
+    void isProgrammerValid_OneInvalidField_ReturnsThatFieldError() {
+
+        // ARRANGE
+        List<Consumer<ProgrammerDto>> breakers = List.of(
+                invalid -> invalid.setName(" "),
+                invalid -> invalid.setResponsibility(null),
+                invalid -> invalid.setIsApprentice(null),
+                invalid -> invalid.getAddress().setZipCode(999),
+                invalid -> invalid.getAddress().setCity(""),
+                invalid -> invalid.getAddress().setStreet(null),
+                invalid -> invalid.getBirthDate().setDay(32),
+                invalid -> invalid.getBirthDate().setMonth(0),
+                invalid -> invalid.getBirthDate().setYear(1899),
+                invalid -> invalid.setPhoneNumber("+36103456789"),
+                invalid -> invalid.setEmail("firstprogrammer@gmail.hu"),
+                invalid -> invalid.setEmail("firstprogrammer.com"));
+        List<String> expectedFields = List.of("name", "responsibility", "isApprentice", "address.zipCode", "address.city",
+                "address.street", "birthDate.day", "birthDate.month", "birthDate.year", "phoneNumber", "email", "email");
+
+        for (int i = 0; i < breakers.size(); i++) {
+            init();
+            Mockito.when(mockProgrammerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.empty());
+            breakers.get(i).accept(programmer);
+
+            // ACT
+            ValidatorResultDto actualResult = target.isProgrammerValid(programmer);
+
+            // ASSERT
+            assertFalse(actualResult.isValid());
+            assertEquals(List.of(expectedFields.get(i)), actualResult.errors().stream().map(FieldErrorDto::field).toList());
+        }
+    }
+
+    @Test
+    void isProgrammerValid_EmailTaken_ReturnsEmailExists() {
+
+        // ARRANGE
+        Mockito.when(mockProgrammerRepository.findByEmail(programmer.getEmail())).thenReturn(Optional.of(new Programmer()));
+
+        // ACT
+        ValidatorResultDto actualResult = target.isProgrammerValid(programmer);
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(List.of(new FieldErrorDto("email", ProgrammingConstants.emailExists)), actualResult.errors());
+    }
+
+    @Test
+    void isProgrammerValid_SeveralInvalidFields_ReturnsFieldErrorsInMessageOrder() {
+
+        // ARRANGE
+        programmer.setName(" ");
+        programmer.setIsApprentice(null);
+        programmer.getAddress().setZipCode(999);
+        programmer.getBirthDate().setMonth(13);
+        programmer.setPhoneNumber("+3610345678");
+        programmer.setEmail("firstprogrammer.hu");
+        Mockito.when(mockProgrammerRepository.findByEmail(programmer.getEmail())).thenReturn(Optional.of(new Programmer()));
+
+        // ACT
+        ValidatorResultDto actualResult = target.isProgrammerValid(programmer);
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(List.of(
+                new FieldErrorDto("name", ProgrammingConstants.nameMissing),
+                new FieldErrorDto("isApprentice", ProgrammingConstants.apprenticeMissing),
+                new FieldErrorDto("email", ProgrammingConstants.emailExists),
+                new FieldErrorDto("address.zipCode", ProgrammingConstants.zipCodeInvalid),
+                new FieldErrorDto("birthDate.month", ProgrammingConstants.birthMonthInvalid),
+                new FieldErrorDto("phoneNumber", ProgrammingConstants.phoneNumberInvalid),
+                new FieldErrorDto("email", ProgrammingConstants.comIsMissing),
+                new FieldErrorDto("email", ProgrammingConstants.atIsMissing)), actualResult.errors());
+        assertEquals(ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.nameMissing
+                + ProgrammingConstants.apprenticeMissing + ProgrammingConstants.emailExists
+                + ProgrammingConstants.zipCodeInvalid + ProgrammingConstants.birthMonthInvalid
+                + ProgrammingConstants.phoneNumberInvalid + ProgrammingConstants.comIsMissing
+                + ProgrammingConstants.atIsMissing, actualResult.message());
+        Mockito.verify(mockProgrammerRepository, Mockito.times(1)).findByEmail(programmer.getEmail());
+    }
+
+    @Test
+    void isProgrammerValid_NullProgrammer_ReturnsEveryMissingField() {
+
+        // ACT
+        ValidatorResultDto actualResult = target.isProgrammerValid(null);
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(11, actualResult.errors().size());
+        assertEquals(ProgrammingConstants.saveFail("programmer") + ProgrammingConstants.nameMissing
+                + ProgrammingConstants.zipCodeInvalid + ProgrammingConstants.streetMissing
+                + ProgrammingConstants.cityMissing + ProgrammingConstants.responsibilityMissing
+                + ProgrammingConstants.apprenticeMissing + ProgrammingConstants.birthDayMissing
+                + ProgrammingConstants.birthMonthMissing + ProgrammingConstants.birthYearMissing
+                + ProgrammingConstants.phoneNumberMissing + ProgrammingConstants.emailMissing, actualResult.message());
+        Mockito.verifyNoInteractions(mockProgrammerRepository);
+    }
+
+    @Test
+    void isProjectValid_BlankStartDate_ReturnsMissingAndInvalidStartDate() {
+
+        // ACT
+        ValidatorResultDto actualResult = target.isProjectValid(new ProjectDto(null, "Test Client", " ", "Test project", false, null));
+
+        // ASSERT
+        assertFalse(actualResult.isValid());
+        assertEquals(ProgrammingConstants.saveFail("project") + ProgrammingConstants.startDateMissing
+                + ProgrammingConstants.startDateInvalid + ProgrammingConstants.startDateMissing, actualResult.message());
+    }
+
+    @Test
+    void isStartDateValidFormat_SampleDates_MatchesNonLenientSimpleDateFormat() {
+        SimpleDateFormat legacyFormat = new SimpleDateFormat("dd/MM/yyyy");
+        legacyFormat.setLenient(false);
+
+        for (String startDate : List.of("01/01/2020", "1/1/2020", "31/12/1999", "29/02/2020", "29/02/2021",
+                "31/04/2020", "00/01/2020", "01/13/2020", "01/01/20", "2162", "", "01-01-2020",
+                "01/01/2020 extra", "aa/01/2020", "15/6/2023")) {
+            boolean expected;
+            try {
+                legacyFormat.parse(startDate);
+                expected = true;
+            } catch (ParseException e) {
+                expected = false;
+            }
+
+            ProjectDto project = new ProjectDto(null, "Test Client", startDate, "Test project", false, null);
+            assertEquals(expected, target.isStartDateValidFormat(project), startDate);
+        }
+    }
+}
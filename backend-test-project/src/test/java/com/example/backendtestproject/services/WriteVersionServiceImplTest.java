@@ -0,0 +1,67 @@
+package com.example.backendtestproject.services;
+
+import com.example.backendtestproject.enums.EntityType;
+import com.example.backendtestproject.models.WriteVersion;
+import com.example.backendtestproject.repositories.WriteVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WriteVersionServiceImplTest {
+    private WriteVersionRepository mockWriteVersionRepository;
+
+    private WriteVersionService target;
+
+    @BeforeEach
+    void init() {
+        mockWriteVersionRepository = Mockito.mock(WriteVersionRepository.class);
+        target = new WriteVersionServiceImpl(mockWriteVersionRepository);
+    }
+
+    @Test
+    void bump_AnyEntityType_IncrementsItsRow() {
+
+        // ACT
+        target.bump(EntityType.PROJECT_MANAGER);
+
+        // ASSERT
+        Mockito.verify(mockWriteVersionRepository).increment(EntityType.PROJECT_MANAGER);
+    }
+
+    @Test
+    void eTag_OneEntityType_QuotesItsVersion() {
+
+        // ARRANGE
+        Mockito.when(mockWriteVersionRepository.findByEntityTypeIn(List.of(EntityType.PROJECT)))
+                .thenReturn(List.of(new WriteVersion(EntityType.PROJECT, 7L)));
+
+        // ACT & ASSERT
+        assertEquals("\"7\"", target.eTag(EntityType.PROJECT));
+    }
+
+    @Test
+    void eTag_SeveralEntityTypes_JoinsVersionsInRequestedOrder() {
+
+        // ARRANGE
+        Mockito.when(mockWriteVersionRepository.findByEntityTypeIn(List.of(EntityType.PROGRAMMER, EntityType.PROJECT_MANAGER)))
+                .thenReturn(List.of(new WriteVersion(EntityType.PROJECT_MANAGER, 3L),
+                        new WriteVersion(EntityType.PROGRAMMER, 5L)));
+
+        // ACT & ASSERT
+        assertEquals("\"5-3\"", target.eTag(EntityType.PROGRAMMER, EntityType.PROJECT_MANAGER));
+    }
+
+    @Test
+    void eTag_RowMissing_CountsAsZero() {
+
+        // ARRANGE
+        Mockito.when(mockWriteVersionRepository.findByEntityTypeIn(List.of(EntityType.PROGRAMMER))).thenReturn(List.of());
+
+        // ACT & ASSERT
+        assertEquals("\"0\"", target.eTag(EntityType.PROGRAMMER));
+    }
+}